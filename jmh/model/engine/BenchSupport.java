@@ -0,0 +1,34 @@
+package model.engine;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import model.chef.Chef;
+import model.world.WorldMap;
+import utils.Position;
+
+// Setup bersama untuk benchmark: engine tanpa audio dan stdout dibuang (log println per aksi)
+public final class BenchSupport {
+    private BenchSupport() {}
+
+    public static void silenceStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    // Engine dengan stage sangat panjang agar tidak selesai di tengah pengukuran
+    public static GameEngine newEngine(int mapType, int chefCount) {
+        GameConfig config = new GameConfig("Bench", Integer.MAX_VALUE / 1000, Integer.MAX_VALUE, 0, 0, true);
+        GameSession session = new GameSession(config, mapType, 42);
+        GameEngine engine = session.getEngine();
+        WorldMap world = session.getWorld();
+        engine.setAudioSink(AudioSink.SILENT);
+
+        List<Position> spawns = world.getSpawnPoints();
+        for (int i = 0; i < chefCount; i++) {
+            Position p = spawns.isEmpty() ? new Position(2, 3) : spawns.get(i % spawns.size());
+            engine.addChef(new Chef("b" + i, "Bench" + i, p.x, p.y));
+        }
+        return engine;
+    }
+}
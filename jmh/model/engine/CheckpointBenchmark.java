@@ -0,0 +1,68 @@
+package model.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import items.ingredients.Tomato;
+import model.chef.Chef;
+import utils.Direction;
+
+// Tulis/baca checkpoint penuh untuk sesi yang sedang berjalan (order aktif, item di lantai, proyektil, timer)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckpointBenchmark {
+    private GameSession session;
+    private final ByteBuffer out = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer saved;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        GameEngine engine = BenchSupport.newEngine(3, 2);
+        session = engine.getSession();
+
+        List<Chef> chefs = engine.getChefs();
+        chefs.get(0).setMoveInput(Direction.RIGHT);
+        chefs.get(1).setMoveInput(Direction.LEFT);
+        for (int i = 0; i < 8; i++) engine.getWorld().getFloorItems().add(new Tomato(), 3 + i * 0.5, 4);
+        // 30 detik simulasi: order sudah muncul dan timer berjalan
+        for (int i = 0; i < 30 * engine.getSimClock().getTicksPerSecond(); i++) engine.step();
+        Chef thrower = chefs.get(0);
+        for (int i = 0; i < 4; i++) {
+            engine.getProjectiles().add(engine.new Projectile(thrower, new Tomato(), 2, 2 + i, 9, 2 + i));
+        }
+
+        CheckpointWriter.write(session, out);
+        saved = ByteBuffer.wrap(out.array(), 0, out.position()).slice();
+    }
+
+    @Benchmark
+    public int write() {
+        out.clear();
+        CheckpointWriter.write(session, out);
+        return out.position();
+    }
+
+    @Benchmark
+    public GameSession read() throws IOException {
+        return CheckpointReader.read(saved.duplicate());
+    }
+}
@@ -0,0 +1,58 @@
+package model.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.world.WorldMap;
+
+// checkAABBCollision pada titik acak (termasuk di luar map) dengan ukuran chef dan item
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final int PROBES = 1024;
+
+    private GameEngine engine;
+    private final double[] xs = new double[PROBES];
+    private final double[] ys = new double[PROBES];
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        engine = BenchSupport.newEngine(3, 0);
+        WorldMap world = engine.getWorld();
+        SplittableRandom rnd = new SplittableRandom(42);
+        for (int i = 0; i < PROBES; i++) {
+            xs[i] = rnd.nextDouble(-1, world.getWidth());
+            ys[i] = rnd.nextDouble(-1, world.getHeight());
+        }
+    }
+
+    @Benchmark
+    public boolean chefSized() {
+        int i = cursor++ & (PROBES - 1);
+        return engine.checkAABBCollision(xs[i], ys[i], 0.6);
+    }
+
+    @Benchmark
+    public boolean itemSized() {
+        int i = cursor++ & (PROBES - 1);
+        return engine.checkAABBCollision(xs[i], ys[i], 0.4);
+    }
+}
@@ -0,0 +1,83 @@
+package model.engine;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import items.ingredients.Tomato;
+import model.chef.Chef;
+import utils.Direction;
+import utils.Position;
+
+// Satu langkah fisika (updatePhysics) dengan N chef bergerak dan M projectile di udara
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmark {
+    private static final Direction[] DIRS = { Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.UP };
+
+    @Param({ "2", "8" })
+    public int chefs;
+
+    @Param({ "0", "16" })
+    public int projectiles;
+
+    private GameEngine engine;
+    private Chef thrower;
+    private double fromX, fromY, toX, toY;
+    private int step = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        engine = BenchSupport.newEngine(3, chefs);
+        thrower = engine.getChefs().get(0);
+
+        List<Position> spawns = engine.getWorld().getSpawnPoints();
+        Position a = spawns.get(0);
+        Position b = spawns.get(spawns.size() - 1);
+        fromX = a.x; fromY = a.y;
+        toX = b.x; toY = b.y;
+        steer(0);
+    }
+
+    @Benchmark
+    public int updatePhysics() {
+        // Chef ganti arah tiap detik simulasi agar terus menabrak/menyusuri dinding
+        if (++step % 60 == 0) steer(step / 60);
+
+        // Projectile yang mendarat diganti; alokasi penggantinya ikut terukur (1 objek per lemparan)
+        List<GameEngine.Projectile> list = engine.getProjectiles();
+        if (list.size() < projectiles) {
+            if (engine.getWorld().getFloorItems().size() > 64) engine.getWorld().getFloorItems().clear();
+            while (list.size() < projectiles) {
+                list.add(engine.new Projectile(thrower, new Tomato(), fromX, fromY, toX, toY));
+            }
+        }
+
+        engine.updatePhysics();
+        return list.size();
+    }
+
+    private void steer(int phase) {
+        List<Chef> all = engine.getChefs();
+        for (int i = 0; i < all.size(); i++) {
+            all.get(i).setMoveInput(DIRS[(phase + i) % DIRS.length]);
+        }
+    }
+}
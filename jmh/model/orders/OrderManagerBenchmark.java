@@ -0,0 +1,66 @@
+package model.orders;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.engine.BenchSupport;
+import model.engine.EffectManager;
+import model.recipes.DishType;
+
+// tick() per detik simulasi dan siklus submitDish (order benar) dalam kondisi steady state.
+// maxActive besar = stage rush-hour (heap deadline + antrean per dish, tanpa scan seluruh order)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderManagerBenchmark {
+    // 3 = stage biasa; 300 = rush-hour (spawn tiap detik, order hidup 10 menit)
+    @Param({ "3", "300" })
+    public int maxActive;
+
+    private OrderManager orders;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        Random random = new Random(42);
+        EffectManager effects = new EffectManager(random);
+        boolean rush = maxActive > 3;
+        orders = rush ? new OrderManager(random, effects, maxActive, 1, 600) : new OrderManager(random, effects);
+        // Isi antrean sampai penuh
+        for (int i = 0, n = rush ? maxActive : 30; i < n; i++) orders.tick();
+    }
+
+    @Benchmark
+    public int tick() {
+        orders.tick();
+        return orders.getScore();
+    }
+
+    @Benchmark
+    public boolean submitDish() {
+        List<Order> active = orders.getActiveOrders();
+        if (active.isEmpty()) {
+            for (int i = 0; i < 10; i++) orders.tick();
+            return false;
+        }
+        DishType type = active.get(0).getRecipe().getType();
+        return orders.submitDish(type);
+    }
+}
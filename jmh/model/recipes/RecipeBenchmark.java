@@ -0,0 +1,70 @@
+package model.recipes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import items.core.Preparable;
+import items.ingredients.Fish;
+import items.ingredients.Meat;
+import items.ingredients.Pasta;
+import items.ingredients.Shrimp;
+import items.ingredients.Tomato;
+import model.engine.BenchSupport;
+
+// Pencocokan isi piring ke resep; NONE = kombinasi yang tidak cocok dengan resep apa pun
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeBenchmark {
+    @Param({ "PASTA_MARINARA", "PASTA_BOLOGNESE", "PASTA_FRUTTI_DI_MARE", "NONE" })
+    public String dish;
+
+    private List<Preparable> contents;
+    private Recipe seafood;
+    private long signature;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        contents = switch (dish) {
+            case "PASTA_MARINARA" -> List.of(new Tomato(), new Pasta());
+            case "PASTA_BOLOGNESE" -> List.of(new Meat(), new Pasta());
+            case "PASTA_FRUTTI_DI_MARE" -> List.of(new Fish(), new Shrimp(), new Pasta());
+            default -> List.of(new Fish(), new Meat(), new Tomato());
+        };
+        seafood = RecipeBook.getRecipe(DishType.PASTA_FRUTTI_DI_MARE);
+        signature = RecipeBook.signatureOf(contents);
+    }
+
+    @Benchmark
+    public DishType findMatch() {
+        return RecipeBook.findMatch(contents);
+    }
+
+    // Jalur plating: signature sudah dijaga inkremental oleh Plate
+    @Benchmark
+    public DishType findMatchBySignature() {
+        return RecipeBook.findMatch(signature);
+    }
+
+    @Benchmark
+    public boolean matchesSeafood() {
+        return seafood.matches(contents);
+    }
+}
@@ -0,0 +1,79 @@
+package model.world;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import items.core.Item;
+import items.ingredients.Tomato;
+import model.engine.BenchSupport;
+import model.world.FloorItemIndex.DroppedItem;
+
+// Query pick (nearest) dan cek ruang kosong di lantai; pengganti WalkableTile.pickNearest lama
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloorItemBenchmark {
+    private static final int PROBES = 1024;
+    private static final int WIDTH = 14, HEIGHT = 10;
+
+    @Param({ "8", "64", "512" })
+    public int items;
+
+    private FloorItemIndex floor;
+    private final double[] xs = new double[PROBES];
+    private final double[] ys = new double[PROBES];
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        floor = new FloorItemIndex(WIDTH, HEIGHT, Item.DEFAULT_SIZE);
+        SplittableRandom rnd = new SplittableRandom(7);
+        for (int i = 0; i < items; i++) {
+            floor.add(new Tomato(), rnd.nextDouble(WIDTH), rnd.nextDouble(HEIGHT));
+        }
+        for (int i = 0; i < PROBES; i++) {
+            xs[i] = rnd.nextDouble(WIDTH);
+            ys[i] = rnd.nextDouble(HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public DroppedItem pickNearest() {
+        int i = cursor++ & (PROBES - 1);
+        return floor.nearest(xs[i], ys[i], 0.7);
+    }
+
+    @Benchmark
+    public boolean spaceCheck() {
+        int i = cursor++ & (PROBES - 1);
+        return floor.anyOverlapping(xs[i], ys[i], Item.DEFAULT_SIZE, 0.8);
+    }
+
+    // Ambil lalu jatuhkan lagi di tempat yang sama: jalur remove + add (pool node)
+    @Benchmark
+    public int pickAndDrop() {
+        int i = cursor++ & (PROBES - 1);
+        DroppedItem di = floor.nearest(xs[i], ys[i], 0.7);
+        if (di == null) return 0;
+        double x = di.getX(), y = di.getY();
+        floor.add(floor.remove(di), x, y);
+        return 1;
+    }
+}
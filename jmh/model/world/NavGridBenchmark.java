@@ -0,0 +1,94 @@
+package model.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.engine.BenchSupport;
+import model.world.tiles.StationTile;
+import stations.StationType;
+import utils.Direction;
+
+// Query navigasi: A* titik ke titik, lookup station terdekat (distance field) dan satu langkah gradient
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NavGridBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({ "1", "3" })
+    public int mapType;
+
+    private NavGrid nav;
+    private StationTile target;
+    private final int[] xs = new int[PROBES], ys = new int[PROBES];
+    private final int[] tx = new int[PROBES], ty = new int[PROBES];
+    private final int[] path = new int[256];
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        WorldMap world = new WorldMap(mapType, new Random(42));
+        nav = world.getNav();
+        target = world.getStations(StationType.CUTTING).get(0);
+
+        List<int[]> walkable = new ArrayList<>();
+        for (int y = 0; y < world.getHeight(); y++) {
+            for (int x = 0; x < world.getWidth(); x++) {
+                if (world.isWalkable(x, y)) walkable.add(new int[] { x, y });
+            }
+        }
+        SplittableRandom rnd = new SplittableRandom(7);
+        for (int i = 0; i < PROBES; i++) {
+            int[] a = walkable.get(rnd.nextInt(walkable.size()));
+            int[] b = walkable.get(rnd.nextInt(walkable.size()));
+            xs[i] = a[0]; ys[i] = a[1];
+            tx[i] = b[0]; ty[i] = b[1];
+        }
+        // Field di-cache sebelum pengukuran (yang diukur adalah lookup)
+        nav.prewarm();
+    }
+
+    @Benchmark
+    public int aStar() {
+        int i = cursor++ & (PROBES - 1);
+        return nav.findPath(xs[i], ys[i], tx[i], ty[i], path);
+    }
+
+    @Benchmark
+    public StationTile nearestCuttingBoard() {
+        int i = cursor++ & (PROBES - 1);
+        return nav.nearest(StationType.CUTTING, xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public StationTile nearestFreeCuttingBoard() {
+        int i = cursor++ & (PROBES - 1);
+        return nav.nearest(StationType.CUTTING, xs[i], ys[i], st -> st.getStation().peek() == null);
+    }
+
+    @Benchmark
+    public Direction stepToward() {
+        int i = cursor++ & (PROBES - 1);
+        return nav.stepToward(target, xs[i], ys[i]);
+    }
+}
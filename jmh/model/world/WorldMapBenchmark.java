@@ -0,0 +1,56 @@
+package model.world;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.engine.BenchSupport;
+
+// Pembuatan map per mapType: construct = seed baru tiap kali (generate + validasi + parse + index station),
+// constructCached = seed tetap sehingga layout diambil dari cache (hanya parse + index station).
+// size > 14x10 = map besar (grid blok dapur, storage per chunk)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldMapBenchmark {
+    @Param({ "1", "2", "3" })
+    public int mapType;
+
+    @Param({ "14x10", "60x60", "240x240" })
+    public String size;
+
+    private int width, height;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchSupport.silenceStdout();
+        String[] wh = size.split("x");
+        width = Integer.parseInt(wh[0]);
+        height = Integer.parseInt(wh[1]);
+    }
+
+    @Benchmark
+    public WorldMap construct() {
+        return new WorldMap(mapType, width, height, new Random());
+    }
+
+    @Benchmark
+    public WorldMap constructCached() {
+        return new WorldMap(mapType, width, height, new Random(42));
+    }
+}
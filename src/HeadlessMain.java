@@ -0,0 +1,274 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import model.bot.Autopilot;
+import model.chef.Chef;
+import model.engine.AudioSink;
+import model.engine.CheckpointReader;
+import model.engine.GameConfig;
+import model.engine.GameSession;
+import model.engine.HeadlessRunner;
+import model.engine.InputOp;
+import model.engine.SessionHost;
+import model.net.GameClient;
+import model.net.GameServer;
+import model.replay.ReplayRunner;
+
+// Usage: HeadlessMain [stages=1000] [mapType=3] [seconds=180] [threads=1]
+//        HeadlessMain replay <file.cbr>...
+//        HeadlessMain resume <file.cbs>...
+//        HeadlessMain serve [port=cook.netPort] [mapType=3] [seconds=180]
+//        HeadlessMain netbench [clients=2] [seconds=30] [sendRate=cook.netSendRate] [mapType=3]
+//        HeadlessMain bots [stages=10] [mapType=3] [seconds=180] [chefs=2]
+// Stage ke-i memakai seed i sehingga hasil bisa diulang.
+public class HeadlessMain {
+    public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+        if (args.length > 0 && args[0].equals("replay")) {
+            replay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("resume")) {
+            resume(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("serve")) {
+            serve(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("netbench")) {
+            netbench(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("bots")) {
+            bots(args);
+            return;
+        }
+
+        int stages = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int mapType = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+        int seconds = (args.length > 2) ? Integer.parseInt(args[2]) : 180;
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : 1;
+
+        GameConfig config = new GameConfig("Headless", seconds, 5, 0, 0, true);
+        HeadlessRunner runner = new HeadlessRunner(config, mapType);
+
+        PrintStream out = System.out;
+        // Log gameplay (println per aksi) dibuang agar tidak jadi bottleneck
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        List<HeadlessRunner.Result> results = new ArrayList<>(stages);
+        long start = System.nanoTime();
+        if (threads <= 1) {
+            for (int i = 0; i < stages; i++) results.add(runner.runStage(i));
+        } else {
+            try (SessionHost host = new SessionHost(threads)) {
+                List<Future<GameSession>> futures = new ArrayList<>(stages);
+                for (int i = 0; i < stages; i++) futures.add(host.runToCompletion(runner.createSession(i)));
+                for (Future<GameSession> f : futures) results.add(HeadlessRunner.resultOf(f.get()));
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long totalScore = 0, totalTicks = 0;
+        int wins = 0;
+        for (HeadlessRunner.Result r : results) {
+            totalScore += r.score();
+            totalTicks += r.ticks();
+            if (r.win()) wins++;
+        }
+
+        System.setOut(out);
+        System.out.printf("Stages: %d | map %d | %ds each | %d thread(s)%n", stages, mapType, seconds, threads);
+        System.out.printf("Wins: %d | avg score: %.1f | ticks: %d%n", wins, (double) totalScore / stages, totalTicks);
+        System.out.printf("Elapsed: %.2fs | %.0f stages/min | %.0f ticks/s%n",
+                elapsed, stages / elapsed * 60, totalTicks / elapsed);
+    }
+
+    // Memutar ulang rekaman input dan membandingkan hash state akhir; exit code 1 jika ada yang tidak cocok
+    private static void replay(String[] args) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        boolean allOk = true;
+        for (int i = 1; i < args.length; i++) {
+            long start = System.nanoTime();
+            ReplayRunner.Result r = ReplayRunner.replay(Path.of(args[i]));
+            double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+
+            String status = !r.hasExpected() ? "NO END HASH (session aborted)"
+                    : r.verified() ? "OK" : String.format("MISMATCH (expected %016x)", r.expectedHash());
+            if (r.hasExpected() && !r.verified()) allOk = false;
+            out.printf("%s: ticks %d | score %d | hash %016x | %s | %.1f ms%n",
+                    args[i], r.ticks(), r.score(), r.stateHash(), status, elapsed);
+        }
+
+        System.setOut(out);
+        if (!allOk) System.exit(1);
+    }
+
+    // Melanjutkan sesi dari checkpoint sampai selesai (skenario benchmark dari state yang ditangkap)
+    private static void resume(String[] args) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        for (int i = 1; i < args.length; i++) {
+            long start = System.nanoTime();
+            GameSession session = CheckpointReader.load(Path.of(args[i]));
+            double loadMs = (System.nanoTime() - start) / 1_000_000.0;
+            session.getEngine().setAudioSink(AudioSink.SILENT);
+            long fromTick = session.getEngine().getSimClock().getTick();
+
+            start = System.nanoTime();
+            while (!session.getEngine().isFinished()) session.getEngine().step();
+            double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+
+            HeadlessRunner.Result r = HeadlessRunner.resultOf(session);
+            out.printf("%s: tick %d -> %d | score %d | win %b | load %.3f ms | run %.1f ms%n",
+                    args[i], fromTick, r.ticks(), r.score(), r.win(), loadMs, elapsed);
+        }
+        System.setOut(out);
+    }
+
+    // Semua chef dijalankan autopilot: hasil order per stage dan biaya autopilot per tick
+    private static void bots(String[] args) {
+        int stages = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+        int mapType = (args.length > 2) ? Integer.parseInt(args[2]) : 3;
+        int seconds = (args.length > 3) ? Integer.parseInt(args[3]) : 180;
+        int chefs = (args.length > 4) ? Integer.parseInt(args[4]) : 2;
+        // Order gagal tidak menghentikan stage: yang diukur throughput bot selama stage penuh
+        GameConfig config = new GameConfig("Bots", seconds, Integer.MAX_VALUE, 0, 0, true);
+        HeadlessRunner runner = new HeadlessRunner(config, mapType);
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        long totalScore = 0, totalCompleted = 0, totalFailed = 0, totalAssignments = 0, maxNanos = 0;
+        double totalAvgNanos = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < stages; i++) {
+            GameSession session = runner.createSession(i, chefs);
+            Autopilot autopilot = Autopilot.attach(session.getEngine());
+            for (Chef chef : session.getEngine().getChefs()) autopilot.control(chef);
+            while (!session.getEngine().isFinished()) session.getEngine().step();
+
+            HeadlessRunner.Result r = HeadlessRunner.resultOf(session);
+            totalScore += r.score();
+            totalCompleted += r.completed();
+            totalFailed += r.failed();
+            totalAssignments += autopilot.getAssignmentCount();
+            totalAvgNanos += autopilot.getAverageUpdateNanos();
+            maxNanos = Math.max(maxNanos, autopilot.getMaxUpdateNanos());
+        }
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.setOut(out);
+        out.printf("Stages: %d | map %d | %ds each | %d bot chef(s) | budget %d eval/tick%n",
+                stages, mapType, seconds, chefs, config.botBudget);
+        out.printf("Avg score: %.1f | completed %.2f | failed %.2f | jobs %.1f per stage%n",
+                (double) totalScore / stages, (double) totalCompleted / stages,
+                (double) totalFailed / stages, (double) totalAssignments / stages);
+        out.printf("Autopilot: avg %.2f us/tick | max %.1f us | elapsed %.2fs%n",
+                totalAvgNanos / stages / 1000.0, maxNanos / 1000.0, elapsed);
+    }
+
+    // Server otoritatif tanpa GUI sampai stage selesai; metrik dicetak tiap 5 detik
+    private static void serve(String[] args) throws IOException {
+        GameConfig config = new GameConfig("Server", 180, 5, 0, 0, true);
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : config.netPort;
+        int mapType = (args.length > 2) ? Integer.parseInt(args[2]) : 3;
+        if (args.length > 3) config.stageTimeSeconds = Integer.parseInt(args[3]);
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        GameSession session = new HeadlessRunner(config, mapType).createSession(System.nanoTime());
+        try (GameServer server = new GameServer(session, port)) {
+            out.printf("Serving map %d on port %d | %d snapshot/s%n",
+                    mapType, server.getPort(), config.fps / server.getSendEveryTicks());
+            server.setReporter(5000, s -> printNetStats(out, s));
+            server.run();
+            printNetStats(out, server);
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    // Server + client bot lewat loopback: ukur bandwidth per client dan budget tick untuk sizing host
+    private static void netbench(String[] args) throws IOException, InterruptedException {
+        int clientCount = (args.length > 1) ? Integer.parseInt(args[1]) : 2;
+        int seconds = (args.length > 2) ? Integer.parseInt(args[2]) : 30;
+        GameConfig config = new GameConfig("NetBench", seconds + 5, Integer.MAX_VALUE, 0, 0, true);
+        if (args.length > 3) config.netSendRate = Integer.parseInt(args[3]);
+        int mapType = (args.length > 4) ? Integer.parseInt(args[4]) : 3;
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        GameSession session = new HeadlessRunner(config, mapType).createSession(1);
+        GameServer server = new GameServer(session, 0);
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }, "net-server");
+        serverThread.start();
+
+        List<GameClient> clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) clients.add(new GameClient("127.0.0.1", server.getPort(), "bot" + i));
+
+        // Bot acak: ganti arah / aksi kira-kira 5x per detik per client
+        Random rand = new Random(42);
+        InputOp[] actions = { InputOp.PICK_OR_PLACE, InputOp.INTERACT, InputOp.THROW, InputOp.DASH };
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        long nextInput = 0;
+        while (System.nanoTime() < end) {
+            for (GameClient c : clients) c.poll();
+            if (System.nanoTime() >= nextInput) {
+                for (GameClient c : clients) {
+                    if (c.getChefIndex() < 0) continue;
+                    if (rand.nextBoolean()) c.sendInput(InputOp.MOVE, rand.nextInt(9));
+                    else c.sendInput(actions[rand.nextInt(actions.length)], 0);
+                }
+                nextInput = System.nanoTime() + 200_000_000L;
+            }
+            Thread.sleep(1);
+        }
+
+        server.stop();
+        serverThread.join();
+        System.setOut(out);
+        out.printf("Net bench: %d client(s) | %ds | %d snapshot/s%n",
+                clientCount, seconds, config.fps / server.getSendEveryTicks());
+        printNetStats(out, server);
+        for (GameClient c : clients) {
+            out.printf("  client %s: received %d snapshot(s), last tick %d%n",
+                    c.getChefIndex() >= 0 ? "chef " + c.getChefIndex() : "(rejected)",
+                    c.getSnapshotCount(), c.getState().getTick());
+            c.close();
+        }
+        server.close();
+    }
+
+    private static void printNetStats(PrintStream out, GameServer server) {
+        out.printf("Ticks %d | budget %.0f us | avg %.1f us | max %.1f us | over budget %d%n",
+                server.getTickCount(), server.getTickBudgetMicros(), server.getAvgTickMicros(),
+                server.getMaxTickMicros(), server.getOverBudgetTicks());
+        if (server.getRejectedCount() > 0) out.printf("  %d connection(s) rejected (server full)%n", server.getRejectedCount());
+        for (GameServer.ClientStats c : server.getClientStats()) {
+            if (c.chefIndex() < 0) {
+                out.printf("  %-8s rejected (server full)%n", c.name());
+                continue;
+            }
+            out.printf("  %-8s chef %2d | down %.2f KB/s (avg snapshot %.0f B, %d sent, %d dropped) | up %.0f B/s%s%n",
+                    c.name(), c.chefIndex(), c.sentPerSecond() / 1024, c.avgSnapshotBytes(), c.snapshots(),
+                    c.droppedSnapshots(), c.receivedPerSecond(), c.connected() ? "" : " | disconnected");
+        }
+    }
+}
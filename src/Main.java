@@ -4,6 +4,7 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.imageio.ImageIO;
@@ -12,11 +13,13 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 import controller.GameController;
-import factory.ItemRegistryInit;
+import model.bot.Autopilot;
 import model.chef.Chef;
 import model.engine.GameConfig;
 import model.engine.GameEngine;
+import model.engine.GameSession;
 import model.orders.OrderManager;
+import model.replay.InputLogWriter;
 import model.world.WorldMap;
 import utils.Position;
 import view.gui.AssetManager;
@@ -24,19 +27,25 @@ import view.gui.GameOverPanel;
 import view.gui.GamePanel;
 import view.gui.HomePanel;
 import view.gui.StageSelectPanel;
+import view.gui.StartupMetrics;
 
 public class Main {
     private static JFrame window;
     private static JPanel mainContainer;
     private static CardLayout cardLayout;
     private static JPanel gameContainerPanel;
-    private static GameEngine engine;
+    private static GameSession session;
+    private static InputLogWriter recorder;
+    private static final int MAP_TYPE = 3;
 
     private static int unlockedStage = 1;
     private static boolean isCurrentGameMultiplayer = false;
 
     public static void main(String[] args) {
-        ItemRegistryInit.registerAll();
+        StartupMetrics.begin();
+        // Mulai decode asset di pool loader sementara EDT membangun window
+        AssetManager.getInstance();
+
         SwingUtilities.invokeLater(() -> {
             setupMainWindow();
             showHomeScreen();
@@ -92,14 +101,21 @@ public class Main {
     private static void initAndStartGame(GameConfig config) {
         AssetManager.getInstance().playBGM("bgm_game");
 
-        if (engine != null) return;
-
-        WorldMap world = new WorldMap();
-        OrderManager orders = new OrderManager(false);
+        // Sesi lama (jika ada) dihentikan; setiap game punya sesi sendiri
+        stopGame();
 
-        engine = new GameEngine(world, orders, config);
+        session = new GameSession(config, MAP_TYPE);
+        GameSession current = session;
+        GameEngine engine = session.getEngine();
+        WorldMap world = session.getWorld();
+        OrderManager orders = session.getOrders();
+        engine.setAudioSink(AssetManager.getInstance());
 
         engine.setOnGameEnd(() -> {
+            // Dipanggil di thread engine setelah tick terakhir: hash state akhir masuk ke rekaman
+            InputLogWriter log = recorder;
+            if (log != null) log.finish(current);
+
             boolean win = false;
 
             int finalScore = orders.getScore();
@@ -126,8 +142,15 @@ public class Main {
 
         engine.addChef(c1);
         engine.addChef(c2);
+        startRecording(config, current);
 
         GameController controller = new GameController(engine, isCurrentGameMultiplayer);
+        if (!isCurrentGameMultiplayer && config.autopilot) {
+            // Chef yang tidak sedang dipegang pemain dijalankan bot; TAB menukar kendali
+            Autopilot autopilot = Autopilot.attach(engine);
+            autopilot.control(c2);
+            controller.setAutopilot(autopilot);
+        }
 
         gameContainerPanel = new JPanel(new BorderLayout());
 
@@ -137,8 +160,7 @@ public class Main {
             showStageSelect(isCurrentGameMultiplayer);
         });
 
-        engine.addObserver(gamePanel);
-
+        gamePanel.setCameraFocus(controller::getCameraFocus);
         gameContainerPanel.add(gamePanel, BorderLayout.CENTER);
 
         setupKeyListener(gamePanel, controller);
@@ -151,6 +173,19 @@ public class Main {
         new Thread(engine::start).start();
     }
 
+    private static void startRecording(GameConfig config, GameSession current) {
+        if (config.replayDir == null || config.replayDir.isEmpty()) return;
+        Path file = Path.of(config.replayDir, "session-" + Long.toHexString(current.getSeed()) + ".cbr");
+        try {
+            recorder = new InputLogWriter(file, current, MAP_TYPE);
+            current.getEngine().setInputRecorder(recorder);
+            System.out.println("⏺ Merekam input ke " + file);
+        } catch (IOException e) {
+            System.err.println("⚠️ Warning: rekaman input tidak bisa dibuat: " + e.getMessage());
+            recorder = null;
+        }
+    }
+
     private static void setupKeyListener(JPanel panel, GameController controller) {
         panel.setFocusable(true);
         panel.addKeyListener(new KeyAdapter() {
@@ -173,10 +208,14 @@ public class Main {
     }
 
     private static void stopGame() {
-        model.engine.EffectManager.getInstance().resetEffects();
-        if (engine != null) {
-            engine.stop();
-            engine = null;
+        if (session != null) {
+            session.getEngine().stop();
+            session = null;
+        }
+        // Jika game belum selesai (keluar ke menu), rekaman ditutup tanpa hash akhir
+        if (recorder != null) {
+            recorder.close();
+            recorder = null;
         }
         if (gameContainerPanel != null) {
             mainContainer.remove(gameContainerPanel);
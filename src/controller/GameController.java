@@ -1,10 +1,20 @@
 package controller;
 
 import java.awt.event.KeyEvent;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import controller.commands.DashCommand;
+import controller.commands.InteractCommand;
+import controller.commands.MoveCommand;
+import controller.commands.PickCommand;
+import controller.commands.PickOrPlaceCommand;
+import controller.commands.PlaceCommand;
+import controller.commands.ThrowCommand;
+import model.bot.Autopilot;
 import model.chef.Chef;
 import model.engine.GameEngine;
 import utils.Direction;
@@ -12,15 +22,25 @@ import utils.Direction;
 public class GameController {
     private final GameEngine engine;
     private final boolean isMultiplayer;
-    private int activeChefIndex = 0;
+    // Ditulis di EDT, dibaca thread render (kamera mengikuti chef aktif)
+    private volatile int activeChefIndex = 0;
 
     private final Set<Integer> pressedKeys = new HashSet<>();
+    // Arah terakhir yang dikirim per chef: key repeat tidak menghasilkan command (dan entri log) baru
+    private final Map<Chef, Direction> sentMove = new HashMap<>();
+    // Single-player: chef yang tidak aktif dijalankan autopilot (null = diam seperti biasa)
+    private Autopilot autopilot;
 
     public GameController(GameEngine engine, boolean isMultiplayer) {
         this.engine = engine;
         this.isMultiplayer = isMultiplayer;
     }
 
+    public void setAutopilot(Autopilot autopilot) { this.autopilot = autopilot; }
+
+    // Index chef yang diikuti kamera: chef aktif di single-player, -1 (semua chef) di multiplayer
+    public int getCameraFocus() { return isMultiplayer ? -1 : activeChefIndex; }
+
     public void keyPressed(KeyEvent e) {
         int code = e.getKeyCode();
         if (!pressedKeys.contains(code)) {
@@ -73,11 +93,17 @@ public class GameController {
             dir = Direction.RIGHT;
         }
 
-        if (model.engine.EffectManager.getInstance().isDrunk() && dir != null) {
+        if (engine.getEffects().isDrunk() && dir != null) {
             dir = invertDirection(dir);
         }
 
-        chef.setMoveInput(dir);
+        sendMove(chef, dir);
+    }
+
+    private void sendMove(Chef chef, Direction dir) {
+        if (sentMove.containsKey(chef) && sentMove.get(chef) == dir) return;
+        sentMove.put(chef, dir);
+        new MoveCommand(engine, chef, dir).execute();
     }
 
     private Direction invertDirection(Direction d) {
@@ -114,8 +140,18 @@ public class GameController {
             // --- SINGLE PLAYER CONTROLS ---
             // Switch Chef
             if (code == KeyEvent.VK_TAB || code == KeyEvent.VK_C) {
-                chefs.get(activeChefIndex).setMoveInput(null); 
+                Chef previous = chefs.get(activeChefIndex);
+                sendMove(previous, null);
                 activeChefIndex = (activeChefIndex + 1) % chefs.size();
+                if (autopilot != null) {
+                    Chef next = chefs.get(activeChefIndex);
+                    engine.submit(() -> {
+                        autopilot.release(next);
+                        autopilot.control(previous);
+                    });
+                    // Arah terakhir chef ini dikirim bot, bukan controller: kirim ulang sesuai tombol yang ditekan
+                    sentMove.remove(next);
+                }
                 updateMovement();
                 return;
             }
@@ -124,21 +160,22 @@ public class GameController {
             handleSpecificAction(chefs.get(activeChefIndex), code,
                     KeyEvent.VK_E, KeyEvent.VK_F, KeyEvent.VK_T, KeyEvent.VK_SHIFT);
 
-            if (code == KeyEvent.VK_P) engine.pickAt(chefs.get(activeChefIndex), chefs.get(activeChefIndex).getFacingPosition());
-            if (code == KeyEvent.VK_O) engine.placeAt(chefs.get(activeChefIndex), chefs.get(activeChefIndex).getFacingPosition());
+            Chef active = chefs.get(activeChefIndex);
+            if (code == KeyEvent.VK_P) new PickCommand(engine, active).execute();
+            if (code == KeyEvent.VK_O) new PlaceCommand(engine, active).execute();
         }
     }
 
+    // Command diteruskan ke thread engine (GameEngine.submitInput) agar state game hanya diubah di sana
     private void handleSpecificAction(Chef chef, int code, int interact, int pickPlace, int throwItem, int dashKey) {
         if (code == interact) {
-            engine.interactAt(chef, chef.getFacingPosition());
+            new InteractCommand(engine, chef).execute();
         } else if (code == pickPlace) {
-            if (chef.getHeldItem() == null) engine.pickAt(chef, chef.getFacingPosition());
-            else engine.placeAt(chef, chef.getFacingPosition());
+            new PickOrPlaceCommand(engine, chef).execute();
         } else if (code == throwItem) {
-            engine.throwItem(chef);
+            new ThrowCommand(engine, chef).execute();
         } else if (code == dashKey) {
-            engine.dashChef(chef);
+            new DashCommand(engine, chef).execute();
         }
     }
 
@@ -1,5 +1,7 @@
 package controller.commands;
 
+// Aksi pemain; command gameplay diteruskan ke GameEngine.submitInput sehingga dieksekusi
+// di thread engine pada tick tertentu (dan bisa direkam untuk replay)
 public interface Command {
     void execute();
-}
\ No newline at end of file
+}
@@ -1,13 +1,14 @@
 package controller.commands;
 
-import model.engine.GameEngine;
 import model.chef.Chef;
+import model.engine.GameEngine;
+import model.engine.InputOp;
 import utils.Direction;
 
 public class MoveCommand implements Command {
     private final GameEngine engine;
     private final Chef chef;
-    private final Direction dir;
+    private final Direction dir;    // null = berhenti
 
     public MoveCommand(GameEngine engine, Chef chef, Direction dir) {
         this.engine = engine;
@@ -17,6 +18,6 @@ public class MoveCommand implements Command {
 
     @Override
     public void execute() {
-        engine.moveChef(chef, dir);
+        engine.submitInput(InputOp.MOVE, chef, dir == null ? 0 : dir.ordinal() + 1);
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,20 @@
 package controller.commands;
 
-import model.engine.GameEngine;
 import model.chef.Chef;
-import model.world.WorldMap;
-import utils.Position;
+import model.engine.GameEngine;
+import model.engine.InputOp;
 
 public class PickCommand implements Command {
     private final GameEngine engine;
     private final Chef chef;
-    private final WorldMap world;
 
-    public PickCommand(GameEngine engine, Chef chef, WorldMap world) {
+    public PickCommand(GameEngine engine, Chef chef) {
         this.engine = engine;
         this.chef = chef;
-        this.world = world;
     }
 
     @Override
     public void execute() {
-        Position facing = chef.getFacingPosition();
-        engine.pickAt(chef, facing);
+        engine.submitInput(InputOp.PICK, chef, 0);
     }
-}
\ No newline at end of file
+}
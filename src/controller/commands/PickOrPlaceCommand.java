@@ -0,0 +1,20 @@
+package controller.commands;
+
+import model.chef.Chef;
+import model.engine.GameEngine;
+import model.engine.InputOp;
+
+public class PickOrPlaceCommand implements Command {
+    private final GameEngine engine;
+    private final Chef chef;
+
+    public PickOrPlaceCommand(GameEngine engine, Chef chef) {
+        this.engine = engine;
+        this.chef = chef;
+    }
+
+    @Override
+    public void execute() {
+        engine.submitInput(InputOp.PICK_OR_PLACE, chef, 0);
+    }
+}
@@ -1,24 +1,20 @@
 package controller.commands;
 
-import model.engine.GameEngine;
 import model.chef.Chef;
-import model.world.WorldMap;
-import utils.Position;
+import model.engine.GameEngine;
+import model.engine.InputOp;
 
 public class PlaceCommand implements Command {
     private final GameEngine engine;
     private final Chef chef;
-    private final WorldMap map;
 
-    public PlaceCommand(GameEngine engine, Chef chef, WorldMap map) {
+    public PlaceCommand(GameEngine engine, Chef chef) {
         this.engine = engine;
         this.chef = chef;
-        this.map = map;
     }
 
     @Override
     public void execute() {
-        Position facing = chef.getFacingPosition();
-        engine.placeAt(chef, facing);
+        engine.submitInput(InputOp.PLACE, chef, 0);
     }
-}
\ No newline at end of file
+}
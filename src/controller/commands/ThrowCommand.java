@@ -2,21 +2,19 @@ package controller.commands;
 
 import model.chef.Chef;
 import model.engine.GameEngine;
-import model.world.WorldMap;
+import model.engine.InputOp;
 
 public class ThrowCommand implements Command {
     private final GameEngine engine;
     private final Chef chef;
-    private final WorldMap world;
 
-    public ThrowCommand(GameEngine engine, Chef chef, WorldMap world) {
+    public ThrowCommand(GameEngine engine, Chef chef) {
         this.engine = engine;
         this.chef = chef;
-        this.world = world;
     }
 
     @Override
     public void execute() {
-        engine.throwItem(chef);
+        engine.submitInput(InputOp.THROW, chef, 0);
     }
-}
\ No newline at end of file
+}
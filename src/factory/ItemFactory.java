@@ -4,20 +4,21 @@ import items.core.Item;
 import java.util.HashMap;
 import java.util.Map;
 
+// Registry per sesi (dibuat oleh ItemRegistryInit.createFactory), bukan global
 public class ItemFactory {
-    private static final Map<String, ItemCreator> registry = new HashMap<>();
+    private final Map<String, ItemCreator> registry = new HashMap<>();
 
-    public static void register(String id, ItemCreator creator) {
+    public void register(String id, ItemCreator creator) {
         registry.put(id.toLowerCase(), creator);
     }
 
-    public static Item create(String id) {
+    public Item create(String id) {
         ItemCreator c = registry.get(id.toLowerCase());
         if (c == null) throw new IllegalArgumentException("Unknown item id: " + id);
         return c.create();
     }
 
-    public static boolean isRegistered(String id) {
+    public boolean isRegistered(String id) {
         return registry.containsKey(id.toLowerCase());
     }
-}
+}
\ No newline at end of file
@@ -4,24 +4,28 @@ import items.ingredients.*;
 import items.utensils.*;
 
 public class ItemRegistryInit {
-    public static void registerAll() {
+    public static ItemFactory createFactory() {
+        ItemFactory factory = new ItemFactory();
+        registerAll(factory);
+        return factory;
+    }
+
+    public static void registerAll(ItemFactory factory) {
         // --- INGREDIENTS (Sesuai Spec Pasta Map) ---
         // Pastikan nama string (id) sama dengan yang dipanggil di WorldMap dan Resep
-        ItemFactory.register("tomato", Tomato::new);
-        ItemFactory.register("meat", Meat::new);
-        ItemFactory.register("pasta", Pasta::new);
-        ItemFactory.register("shrimp", Shrimp::new);
-        ItemFactory.register("fish", Fish::new);
+        factory.register("tomato", Tomato::new);
+        factory.register("meat", Meat::new);
+        factory.register("pasta", Pasta::new);
+        factory.register("shrimp", Shrimp::new);
+        factory.register("fish", Fish::new);
 
         // --- UTENSILS ---
-        ItemFactory.register("plate", Plate::new);
-        ItemFactory.register("boiling pot", BoilingPot::new);
-        ItemFactory.register("frying pan", FryingPan::new);
-        ItemFactory.register("plate_dirty", DirtyPlate::new);
+        factory.register("plate", Plate::new);
+        factory.register("boiling pot", BoilingPot::new);
+        factory.register("frying pan", FryingPan::new);
+        factory.register("plate_dirty", DirtyPlate::new);
 
         // --- DISHES (Opsional jika ingin spawn dish via debug, tapi factory dish biasanya complex) ---
         // Disini cukup Ingredients dan Utensils dasar
-
-        System.out.println("DEBUG: All items registered successfully.");
     }
 }
\ No newline at end of file
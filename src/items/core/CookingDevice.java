@@ -14,4 +14,9 @@ public interface CookingDevice {
     boolean isCooking();
     default void forceBurn(){}
     ItemState getState();
+
+    // Checkpoint: sisa tick timer matang/gosong (0 = tidak terjadwal) dan pemulihannya
+    long getCookTicksLeft();
+    long getBurnTicksLeft();
+    void restoreCooking(List<Preparable> contents, boolean cooking, long cookTicks, long burnTicks);
 }
\ No newline at end of file
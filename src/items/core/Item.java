@@ -4,7 +4,9 @@ public abstract class Item {
     protected boolean portable = true;
     protected ItemState state = ItemState.RAW;
 
-    protected double size = 0.4;
+    public static final double DEFAULT_SIZE = 0.4;
+
+    protected double size = DEFAULT_SIZE;
 
     public boolean isPortable() {
         return portable;
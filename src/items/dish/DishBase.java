@@ -4,6 +4,7 @@ import items.core.Item;
 import items.core.ItemState;
 import items.core.Preparable;
 import model.recipes.Recipe;
+import model.recipes.RecipeBook;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.List;
 public class DishBase extends Item {
     protected final Recipe recipe;
     protected final List<Preparable> ingredients = new ArrayList<>();
+    private long signature = RecipeBook.EMPTY_SIGNATURE;
     protected DishState dishState = DishState.INCOMPLETE;
 
     public DishBase(Recipe recipe) {
@@ -39,8 +41,9 @@ public class DishBase extends Item {
     public boolean addIngredient(Preparable p) {
         if (p == null) return false;
         ingredients.add(p);
+        signature = RecipeBook.addToSignature(signature, p);
 
-        if (recipe.matches(ingredients)) {
+        if (recipe.matches(signature)) {
             dishState = DishState.COMPLETE;
             state = ItemState.COOKED;
         } else {
@@ -51,6 +54,7 @@ public class DishBase extends Item {
 
     public void clearIngredients() {
         ingredients.clear();
+        signature = RecipeBook.EMPTY_SIGNATURE;
         dishState = DishState.INCOMPLETE;
     }
 
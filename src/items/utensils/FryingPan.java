@@ -2,22 +2,23 @@ package items.utensils;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
 
 import items.core.CookingDevice;
 import items.core.Item;
 import items.core.ItemState;
 import items.core.Preparable;
 import items.ingredients.IngredientBase;
-import utils.TimerUtils;
+import model.engine.GameEngine;
+import model.engine.GameSession;
+import utils.TimingWheel.Timeout;
 
 public class FryingPan extends UtensilBase implements CookingDevice {
     private final List<Preparable> contents = new ArrayList<>();
     private final int capacity = 1; 
 
     private boolean cooking = false;
-    private ScheduledFuture<?> cookTask;
-    private ScheduledFuture<?> burnTask;
+    private Timeout cookTask;
+    private Timeout burnTask;
 
     @Override
     public String getName() { return "Frying Pan"; }
@@ -46,34 +47,38 @@ public class FryingPan extends UtensilBase implements CookingDevice {
     @Override
     public void startCooking() {
         if (contents.isEmpty() || cooking) return;
-        view.gui.AssetManager.getInstance().playSound("fry");
+        GameEngine.audio().playSound("fry");
 
         System.out.println("🔥 Frying Pan mulai menggoreng (12 detik)...");
         cooking = true;
 
-        cookTask = TimerUtils.schedule(() -> {
-            if (!cooking) return;
-            for (Preparable p : contents) p.cook();
-            System.out.println("✅ Frying Pan: MATANG! (Angkat sebelum gosong)");
-            scheduleBurn();
-        }, 12000);
+        cookTask = GameSession.current().getEngine().schedule(this::onCooked, 12000);
+    }
+
+    private void onCooked() {
+        if (!cooking) return;
+        for (Preparable p : contents) p.cook();
+        System.out.println("✅ Frying Pan: MATANG! (Angkat sebelum gosong)");
+        scheduleBurn();
     }
 
     private void scheduleBurn() {
-        burnTask = TimerUtils.schedule(() -> {
-            if (!cooking) return;
-            for (Preparable p : contents) {
-                if (p instanceof IngredientBase ib) ib.burn();
-                else if (p instanceof Item i) i.setState(ItemState.BURNED);
-            }
-            System.out.println("💀 Frying Pan: GOSONG!");
-        }, 12000);
+        burnTask = GameSession.current().getEngine().schedule(this::onBurned, 12000);
+    }
+
+    private void onBurned() {
+        if (!cooking) return;
+        for (Preparable p : contents) {
+            if (p instanceof IngredientBase ib) ib.burn();
+            else if (p instanceof Item i) i.setState(ItemState.BURNED);
+        }
+        System.out.println("💀 Frying Pan: GOSONG!");
     }
 
     @Override
     public void finishCooking() {
-        if (cookTask != null) cookTask.cancel(false);
-        if (burnTask != null) burnTask.cancel(false);
+        if (cookTask != null) cookTask.cancel();
+        if (burnTask != null) burnTask.cancel();
         cooking = false;
         System.out.println("🔕 Api Frying Pan mati.");
     }
@@ -90,6 +95,26 @@ public class FryingPan extends UtensilBase implements CookingDevice {
     @Override
     public boolean isCooking() { return cooking; }
 
+    @Override
+    public long getCookTicksLeft() { return cookTask != null ? cookTask.remainingTicks() : 0; }
+
+    @Override
+    public long getBurnTicksLeft() { return burnTask != null ? burnTask.remainingTicks() : 0; }
+
+    @Override
+    public void restoreCooking(List<Preparable> restored, boolean cooking, long cookTicks, long burnTicks) {
+        if (cookTask != null) cookTask.cancel();
+        if (burnTask != null) burnTask.cancel();
+        cookTask = burnTask = null;
+        contents.clear();
+        contents.addAll(restored);
+        this.cooking = cooking;
+
+        GameEngine engine = GameSession.current().getEngine();
+        if (cookTicks > 0) cookTask = engine.scheduleTicks(this::onCooked, cookTicks);
+        if (burnTicks > 0) burnTask = engine.scheduleTicks(this::onBurned, burnTicks);
+    }
+
     @Override
     public String toString() {
         String status = "";
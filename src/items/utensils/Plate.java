@@ -3,6 +3,7 @@ package items.utensils;
 import items.core.Item;
 import items.core.ItemState;
 import items.core.Preparable;
+import model.recipes.RecipeBook;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +11,8 @@ import java.util.List;
 public class Plate extends UtensilBase {
     private ItemState cleanliness = ItemState.CLEAN;
     private final List<Preparable> contents = new ArrayList<>();
+    // Diperbarui setiap bahan masuk, jadi pencocokan resep cukup satu lookup
+    private long signature = RecipeBook.EMPTY_SIGNATURE;
 
     @Override
     public String getName() { return "Plate"; }
@@ -20,7 +23,7 @@ public class Plate extends UtensilBase {
 
     public void wash() {
         cleanliness = ItemState.CLEAN;
-        contents.clear();
+        clearIngredients();
     }
 
     public void makeDirty() {
@@ -29,6 +32,11 @@ public class Plate extends UtensilBase {
 
     public void addIngredient(Preparable p) {
         contents.add(p);
+        signature = RecipeBook.addToSignature(signature, p);
+    }
+
+    public long getSignature() {
+        return signature;
     }
 
     public List<Preparable> getContents() {
@@ -37,6 +45,7 @@ public class Plate extends UtensilBase {
 
     public void clearIngredients() {
         contents.clear();
+        signature = RecipeBook.EMPTY_SIGNATURE;
     }
 
     @Override
@@ -0,0 +1,172 @@
+package model.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.chef.Chef;
+import model.engine.GameEngine;
+import model.world.NavGrid;
+import view.Observer;
+
+// Autopilot chef: order aktif diubah JobBoard menjadi job, lalu job yang siap dibagikan ke bot yang menganggur.
+// Berjalan sebagai observer engine (thread engine, setelah fisika). Assignment inkremental: tiap tick paling banyak
+// GameConfig.botBudget evaluasi (job x bot); scan yang belum selesai dilanjutkan di tick berikutnya, sehingga
+// biaya per tick terbatas berapa pun jumlah bot dan job. Budget dihitung dalam evaluasi, bukan waktu, supaya deterministik.
+// Sel BFS NavGrid selama tick bot (field yang baru dihitung, pencarian station) ikut dibebankan ke budget:
+// setelah budget tick habis bot yang butuh field baru menunggu, dan field besar menjadi utang assignment tick berikutnya.
+public class Autopilot implements Observer {
+    private static final int CELLS_PER_EVALUATION = 256;
+
+    private final GameEngine engine;
+    private final JobBoard board;
+    private final NavGrid nav;
+    private final int budget;
+    private final List<BotChef> bots = new ArrayList<>();
+
+    // Scan assignment yang sedang berjalan: bot di botCursor, posisi di daftar job open, kandidat terbaik sejauh ini
+    private int botCursor, jobCursor;
+    private int scanVersion = -1;
+    private Job bestJob;
+    private int bestCost;
+
+    // Sel BFS yang sudah dibebankan, dan sisa utang evaluasi dari tick sebelumnya
+    private long navCharged;
+    private long debt;
+
+    // Metrik
+    private long updates, totalNanos, maxNanos;
+    private long evaluations, assignments;
+
+    private Autopilot(GameEngine engine) {
+        this.engine = engine;
+        this.board = new JobBoard(engine);
+        this.nav = engine.getWorld().getNav();
+        this.budget = Math.max(1, engine.getConfig().botBudget);
+        this.navCharged = nav.getWork();       // prewarm JobBoard dibayar di luar tick
+    }
+
+    // Hanya dari thread engine atau sebelum engine berjalan
+    public static Autopilot attach(GameEngine engine) {
+        Autopilot autopilot = new Autopilot(engine);
+        engine.addObserver(autopilot);
+        return autopilot;
+    }
+
+    public void control(Chef chef) {
+        if (find(chef) != null) return;
+        bots.add(new BotChef(chef, engine, board, engine.getSession().getBotRandom()));
+        resetScan();
+    }
+
+    public void release(Chef chef) {
+        BotChef bot = find(chef);
+        if (bot == null) return;
+        bot.release();
+        bots.remove(bot);
+        resetScan();
+    }
+
+    public boolean isControlled(Chef chef) { return find(chef) != null; }
+
+    private BotChef find(Chef chef) {
+        for (BotChef bot : bots) if (bot.chef == chef) return bot;
+        return null;
+    }
+
+    @Override
+    public void update() {
+        if (bots.isEmpty()) return;
+        long start = System.nanoTime();
+        long tick = engine.getSimClock().getTick();
+
+        long fieldLimit = nav.getWork() + (long) budget * CELLS_PER_EVALUATION;
+        board.update(tick);
+        for (int i = 0; i < bots.size(); i++) bots.get(i).update(tick, nav.getWork() < fieldLimit);
+        assign();
+
+        long elapsed = System.nanoTime() - start;
+        updates++;
+        totalNanos += elapsed;
+        if (elapsed > maxNanos) maxNanos = elapsed;
+    }
+
+    // --- ASSIGNMENT ---
+
+    private void assign() {
+        debt += navCost();
+        long work = budget - debt;
+        debt = Math.max(0, -work);
+        int visited = 0;
+        while (work > 0 && visited < bots.size()) {
+            if (scanVersion != board.version()) restartScan();
+            BotChef bot = bots.get(botCursor);
+            if (!bot.isIdle()) {
+                nextBot();
+                visited++;
+                continue;
+            }
+
+            List<Job> open = board.open();
+            while (jobCursor < open.size() && work > 0) {
+                Job j = open.get(jobCursor++);
+                work--;
+                evaluations++;
+                if (!board.isReady(j)) continue;
+                int cost = board.cost(j, bot);
+                work -= navCost();
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestJob = j;
+                }
+            }
+            if (work < 0) debt = -work;
+            if (jobCursor < open.size()) return;        // budget habis: lanjut tick berikutnya
+
+            // Kandidat dicek ulang: kesiapan bisa berubah selama scan terbagi beberapa tick
+            Job chosen = bestJob;
+            nextBot();
+            visited++;
+            if (chosen != null && board.isReady(chosen) && board.assign(chosen, bot)) {
+                assignments++;
+            } else if (bot.chef.getHeldItem() != null && bot.canDispose()) {
+                board.disposal(bot);
+            }
+        }
+    }
+
+    // Evaluasi setara kerja BFS sejak pembebanan terakhir; sisa di bawah satu evaluasi dibawa ke pembebanan berikutnya
+    private long navCost() {
+        long cells = nav.getWork() - navCharged;
+        navCharged += cells - cells % CELLS_PER_EVALUATION;
+        return cells / CELLS_PER_EVALUATION;
+    }
+
+    private void nextBot() {
+        botCursor = (botCursor + 1) % bots.size();
+        jobCursor = 0;
+        bestJob = null;
+        bestCost = Integer.MAX_VALUE;
+    }
+
+    // Daftar job berubah: scan bot saat ini diulang dari awal (bot lain tetap pada gilirannya)
+    private void restartScan() {
+        scanVersion = board.version();
+        jobCursor = 0;
+        bestJob = null;
+        bestCost = Integer.MAX_VALUE;
+    }
+
+    private void resetScan() {
+        botCursor = 0;
+        scanVersion = -1;
+    }
+
+    // --- METRIK ---
+
+    public int getBotCount() { return bots.size(); }
+    public int getPipelineCount() { return board.pipelineCount(); }
+    public long getAssignmentCount() { return assignments; }
+    public long getEvaluationCount() { return evaluations; }
+    public double getAverageUpdateNanos() { return updates == 0 ? 0 : (double) totalNanos / updates; }
+    public long getMaxUpdateNanos() { return maxNanos; }
+}
@@ -0,0 +1,492 @@
+package model.bot;
+
+import java.util.Random;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.ItemState;
+import items.dish.DishBase;
+import items.utensils.DirtyPlate;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.engine.GameEngine;
+import model.engine.InputOp;
+import model.orders.Order;
+import model.world.NavGrid;
+import model.world.WorldMap;
+import model.world.tiles.StationTile;
+import stations.StationType;
+import utils.Direction;
+import utils.Position;
+
+// Menjalankan satu job untuk satu chef lewat engine.submitInput (sama seperti pemain, jadi ikut terekam replay).
+// Setiap fase = kunjungan ke satu station: jalan menuruni distance field NavGrid, rapat ke tengah tile akses,
+// menghadap station, lalu kirim aksi; hasilnya diperiksa satu tick kemudian.
+final class BotChef {
+    private static final int MAX_ATTEMPTS = 3;
+    // Kotak tabrakan chef ada di bagian bawah tile (y+0.4 .. y+1.0): pita bebas vertikal sel c adalah [c-0.4, c].
+    // Titik tuju sedikit di atas c supaya tidak menyentuh baris bawah, tetap dalam jangkauan pick (±0.1).
+    private static final double AIM_Y = -0.04;
+    private static final double STEER = 0.04;       // < setengah langkah per tick, supaya tidak bolak-balik
+    private static final int STUCK_TICKS = 45;
+    private static final int STUCK_JITTER = 20;     // dua bot yang saling menghalangi tidak retry di tick yang sama
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private enum Visit { RUNNING, ACTED, FAILED }
+
+    final Chef chef;
+    private final GameEngine engine;
+    private final JobBoard board;
+    private final WorldMap world;
+    private final NavGrid nav;
+    private final Random random;
+
+    Job job;
+    private int phase;
+    private long tick;
+    private long actionTick = -1;
+    private boolean acted;
+    private long deadline;
+    private int attempts;
+    private StationTile target;       // station fase saat ini (dipilih sekali per fase)
+    private StationTile cutBoard;     // talenan yang dipesan PREP selama bahan di atasnya
+    private Direction sentMove;
+    private boolean active = true;
+    private boolean pickedPlate;
+    private boolean fieldAllowed = true;   // boleh menghitung field station baru di tick ini (budget Autopilot)
+
+    // Deteksi macet: posisi terakhir yang berubah
+    private double lastX, lastY;
+    private long lastProgressTick;
+    private int stuckLimit = STUCK_TICKS;
+
+    BotChef(Chef chef, GameEngine engine, JobBoard board, Random random) {
+        this.chef = chef;
+        this.engine = engine;
+        this.board = board;
+        this.world = engine.getWorld();
+        this.nav = world.getNav();
+        this.random = random;
+    }
+
+    boolean isIdle() { return job == null; }
+    boolean hasPickedPlate() { return pickedPlate; }
+
+    int cellX() { return chef.getX(); }
+    int cellY() { return chef.getY(); }
+
+    // Bahan yang dipegang bisa langsung dipakai PREP (mentah, atau sudah dipotong bila memang perlu dipotong)
+    boolean holdsUsable(Class<?> type) {
+        Item held = chef.getHeldItem();
+        if (held == null || held.getClass() != type) return false;
+        return held.getState() == ItemState.RAW || (held.getState() == ItemState.CHOPPED && board.isChoppable(type));
+    }
+
+    void start(Job j) {
+        job = j;
+        phase = 0;
+        attempts = 0;
+        target = null;
+        actionTick = -1;
+        acted = false;
+        pickedPlate = false;
+        deadline = tick + engine.getSimClock().ticksFor(30_000);
+        lastProgressTick = tick;
+    }
+
+    // Job dibatalkan papan (pipeline batal); item di tangan dibuang lewat disposal berikutnya
+    void abort() {
+        releaseBoard();
+        job = null;
+        actionTick = -1;
+        acted = false;
+    }
+
+    // Dilepas dari autopilot (pemain mengambil alih): job dikembalikan ke papan, gerak chef diserahkan ke pemain
+    void release() {
+        active = false;
+        if (job == null) return;
+        Job j = job;
+        releaseBoard();
+        job = null;
+        if (j.kind != Job.Kind.CLEAR || j.station != null) board.fail(j);
+    }
+
+    private void releaseBoard() {
+        if (cutBoard == null) return;
+        board.releaseBoard(cutBoard);
+        if (cutBoard.getStation().peek() != null) board.addClear(cutBoard);
+        cutBoard = null;
+    }
+
+    void update(long now, boolean mayBuildField) {
+        tick = now;
+        fieldAllowed = mayBuildField;
+        if (job == null) {
+            steer(null);
+            return;
+        }
+        // Aksi terkirim baru terlihat satu tick kemudian; fase memeriksa hasilnya lewat flag acted
+        if (actionTick >= 0) {
+            if (tick <= actionTick) return;
+            actionTick = -1;
+            acted = true;
+        }
+        if (chef.isBusy()) {
+            lastProgressTick = tick;
+            return;
+        }
+        if (tick > deadline) {
+            fail();
+            return;
+        }
+        unstick();
+        if (job == null) return;
+
+        boolean done = switch (job.kind) {
+            case PLATE -> runPlate();
+            case PREP -> runPrep();
+            case POUR -> runPour();
+            case SERVE -> runServe();
+            case WASH -> runWash();
+            case CLEAR -> runClear();
+        };
+        if (done && job != null) {
+            Job j = job;
+            job = null;
+            steer(null);
+            board.finish(j);
+        }
+    }
+
+    // --- JOB ---
+    // Setiap run* mengembalikan true saat job selesai; gagal ditangani lewat retry()/fail()
+
+    private boolean runPlate() {
+        Pipeline p = job.pipeline;
+        switch (phase) {
+            case 0 -> {
+                if (!acted && JobBoard.isCleanPlate(chef.getHeldItem())) {
+                    pickedPlate = true;
+                    return next(1);
+                }
+                if (!acted && (target == null || !JobBoard.isCleanPlateOnTop(target))) {
+                    target = nav.nearest(StationType.PLATE_STORAGE, cellX(), cellY(), JobBoard::isCleanPlateOnTop);
+                    if (target == null) return fail();
+                }
+                act(visit(target, InputOp.PICK), chef.getHeldItem() instanceof Plate, () -> pickedPlate = true);
+                return false;
+            }
+            case 1 -> {
+                return act(visit(p.assembly, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    private boolean runPrep() {
+        switch (phase) {
+            case 0 -> {
+                if (holdsUsable(job.ingredient)) return next(1);
+                if (chef.getHeldItem() != null) return fail();
+                StationTile storage = board.nearestStorage(job.ingredient, cellX(), cellY());
+                if (storage == null) return fail();
+                act(visit(storage, InputOp.PICK), holdsUsable(job.ingredient), null);
+                return false;
+            }
+            case 1 -> {
+                if (!acted && !needsCut()) return next(4);
+                if (cutBoard == null) {
+                    cutBoard = board.freeCuttingBoard(cellX(), cellY());
+                    if (cutBoard == null) return false;     // semua talenan terpakai: tunggu
+                    board.reserveBoard(cutBoard, job);
+                }
+                act(visit(cutBoard, InputOp.PLACE), chef.getHeldItem() == null, null);
+                return false;
+            }
+            case 2 -> {
+                // INTERACT memulai BusyCuttingState; update() menunggu selama chef sibuk
+                Item onBoard = cutBoard.getStation().peek();
+                if (onBoard == null) return fail();
+                if (onBoard.getState() == ItemState.CHOPPED) return next(3);
+                act(visit(cutBoard, InputOp.INTERACT), chef.isBusy() || onBoard.getState() == ItemState.CHOPPED, null);
+                return false;
+            }
+            case 3 -> {
+                Item onBoard = cutBoard.getStation().peek();
+                if (!acted && onBoard == null) return fail();
+                if (!acted && onBoard.getState() != ItemState.CHOPPED) return next(2);
+                act(visit(cutBoard, InputOp.PICK), holdsUsable(job.ingredient), this::releaseBoard);
+                return false;
+            }
+            case 4 -> {
+                return act(visit(job.station, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    private boolean needsCut() {
+        return chef.getHeldItem().getState() == ItemState.RAW && board.isChoppable(job.ingredient);
+    }
+
+    private boolean runPour() {
+        StationTile cooker = job.prep.station;
+        switch (phase) {
+            case 0 -> {
+                act(visit(cooker, InputOp.PICK), chef.getHeldItem() instanceof CookingDevice, null);
+                return false;
+            }
+            case 1 -> {
+                // Tuang: alat masak tetap di tangan, isinya pindah ke piring (jadi dish bila resep lengkap)
+                if (!(chef.getHeldItem() instanceof CookingDevice device)) return fail();
+                act(visit(job.pipeline.assembly, InputOp.PLACE), device.getContents().isEmpty(), null);
+                return false;
+            }
+            case 2 -> {
+                if (target == null) {
+                    target = cooker.getStation().peek() == null ? cooker : emptyCooker();
+                    if (target == null) return false;   // tunggu sampai ada cooker kosong
+                }
+                return act(visit(target, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    private boolean runServe() {
+        switch (phase) {
+            case 0 -> {
+                act(visit(job.pipeline.assembly, InputOp.PICK), chef.getHeldItem() instanceof DishBase, null);
+                return false;
+            }
+            case 1 -> {
+                if (target == null) target = nav.nearest(StationType.SERVING, cellX(), cellY());
+                if (target == null) return fail();
+                return act(visit(target, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    private boolean runWash() {
+        switch (phase) {
+            case 0 -> {
+                if (!acted && target == null) target = board.dirtyStorage();
+                if (!acted && target == null) return true;      // sudah dicuci pemain
+                act(visit(target, InputOp.PICK), isDirty(chef.getHeldItem()), null);
+                return false;
+            }
+            case 1 -> {
+                act(visit(job.station, InputOp.PLACE), chef.getHeldItem() == null, null);
+                return false;
+            }
+            case 2 -> {
+                Item onWasher = job.station.getStation().peek();
+                if (onWasher == null) return fail();
+                if (!isDirty(onWasher)) return next(3);
+                act(visit(job.station, InputOp.INTERACT), chef.isBusy() || !isDirty(onWasher), null);
+                return false;
+            }
+            case 3 -> {
+                Item onWasher = job.station.getStation().peek();
+                if (!acted && onWasher == null) return fail();
+                if (!acted && isDirty(onWasher)) return next(2);
+                act(visit(job.station, InputOp.PICK), chef.getHeldItem() instanceof Plate p && p.isClean(), null);
+                return false;
+            }
+            case 4 -> {
+                if (target == null) target = nav.nearest(StationType.PLATE_STORAGE, cellX(), cellY());
+                if (target == null) return fail();
+                return act(visit(target, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    // Ambil sisa dari station (jika ada), lalu buang: alat masak & piring dikosongkan di trash lalu dikembalikan,
+    // dish yang masih dipesan diantar, sisanya dibuang
+    private boolean runClear() {
+        Item held = chef.getHeldItem();
+        switch (phase) {
+            case 0 -> {
+                if (job.station == null || held != null) return next(1);
+                if (!acted && job.station.getStation().peek() == null) return true;
+                act(visit(job.station, InputOp.PICK), chef.getHeldItem() != null, null);
+                return false;
+            }
+            case 1 -> {
+                if (held == null) return true;
+                if (held instanceof DishBase dish && isOrdered(dish)) {
+                    if (target == null) target = nav.nearest(StationType.SERVING, cellX(), cellY());
+                    if (target == null) return fail();
+                    return act(visit(target, InputOp.PLACE), chef.getHeldItem() == null, null);
+                }
+                if (isEmptyContainer(held)) return next(2);
+                if (target == null) target = nav.nearest(StationType.TRASH, cellX(), cellY());
+                if (target == null) return fail();
+                act(visit(target, InputOp.PLACE), chef.getHeldItem() == null || isEmptyContainer(chef.getHeldItem()), null);
+                return false;
+            }
+            case 2 -> {
+                if (held == null) return true;
+                if (target == null) {
+                    target = held instanceof CookingDevice
+                            ? (job.station != null && job.station.getStation().peek() == null ? job.station : emptyCooker())
+                            : nav.nearest(StationType.PLATE_STORAGE, cellX(), cellY());
+                    if (target == null) return false;   // tunggu sampai ada tempat kosong
+                }
+                return act(visit(target, InputOp.PLACE), chef.getHeldItem() == null, null);
+            }
+            default -> { return true; }
+        }
+    }
+
+    // Item di tangan bisa dibereskan tanpa job lain (disposal): ada trash, atau wadah kosong/dish yang masih dipesan
+    boolean canDispose() {
+        Item held = chef.getHeldItem();
+        if (held == null) return false;
+        if (isEmptyContainer(held) || (held instanceof DishBase dish && isOrdered(dish))) return true;
+        return !world.getStations(StationType.TRASH).isEmpty();
+    }
+
+    // --- FASE ---
+
+    // Hasil kunjungan: ACTED + ok -> fase berikutnya (after dijalankan dulu), ACTED + !ok -> ulangi, FAILED -> gagal.
+    // Mengembalikan true bila fase maju; di fase terakhir itu berarti job selesai.
+    private boolean act(Visit v, boolean ok, Runnable after) {
+        if (v == Visit.RUNNING) return false;
+        if (v == Visit.FAILED) return fail();
+        if (!ok) return retry();
+        int before = phase;
+        if (after != null) after.run();
+        if (phase == before) phase++;
+        attempts = 0;
+        target = null;
+        return true;
+    }
+
+    // Lompat fase karena keadaan (bukan hasil aksi): hasil aksi yang tertunda tidak berlaku untuk fase baru
+    private boolean next(int p) {
+        phase = p;
+        target = null;
+        acted = false;
+        return false;
+    }
+
+    private boolean retry() {
+        if (++attempts >= MAX_ATTEMPTS) return fail();
+        target = null;
+        return false;
+    }
+
+    private boolean fail() {
+        Job j = job;
+        releaseBoard();
+        job = null;
+        steer(null);
+        if (j.kind != Job.Kind.CLEAR || j.station != null) board.fail(j);
+        return false;
+    }
+
+    // --- GERAK ---
+
+    private Visit visit(StationTile st, InputOp op) {
+        if (acted) {
+            acted = false;
+            return Visit.ACTED;
+        }
+        if (!fieldAllowed && !nav.hasField(st)) {     // budget tick ini habis: field dihitung tick berikutnya
+            steer(null);
+            return Visit.RUNNING;
+        }
+        int cx = cellX(), cy = cellY();
+        int d = nav.distanceTo(st, cx, cy);
+        if (d == NavGrid.UNREACHABLE) return Visit.FAILED;
+        if (d > 0) {
+            Direction step = nav.stepToward(st, cx, cy);
+            if (step == null) return Visit.FAILED;
+            steerTo(cx + step.dx, cy + step.dy);
+            return Visit.RUNNING;
+        }
+        if (Math.abs(cx - chef.getExactX()) > STEER || Math.abs(cy + AIM_Y - chef.getExactY()) > STEER) {
+            steerTo(cx, cy);
+            return Visit.RUNNING;
+        }
+        Position p = st.getPos();
+        Direction face = direction(p.x - cx, p.y - cy);
+        if (face == null) return Visit.FAILED;
+        // Hadap tanpa bergerak lalu aksi, satu batch di awal tick berikutnya
+        send(InputOp.MOVE, face.ordinal() + 1);
+        send(InputOp.MOVE, 0);
+        send(op, 0);
+        sentMove = null;
+        actionTick = tick;
+        return Visit.RUNNING;
+    }
+
+    // Menuju titik tuju sel (x, y), 8 arah supaya offset tegak lurus ikut terkoreksi
+    private void steerTo(int x, int y) {
+        double vx = x - chef.getExactX(), vy = y + AIM_Y - chef.getExactY();
+        int sx = Math.abs(vx) > STEER ? (int) Math.signum(vx) : 0;
+        int sy = Math.abs(vy) > STEER ? (int) Math.signum(vy) : 0;
+        steer(direction(sx, sy));
+    }
+
+    private void steer(Direction dir) {
+        if (dir == sentMove) return;
+        sentMove = dir;
+        send(InputOp.MOVE, dir == null ? 0 : dir.ordinal() + 1);
+    }
+
+    // Input yang masih antre saat chef diambil alih pemain (TAB) dibuang, bukan menimpa input pemain
+    private void send(InputOp op, int arg) {
+        engine.submitInput(op, chef, arg, () -> active);
+    }
+
+    // Terjebak di sudut dinding: posisi tidak berubah padahal ada input gerak -> kembali ke tengah sel
+    private void unstick() {
+        double x = chef.getExactX(), y = chef.getExactY();
+        if (sentMove == null || Math.abs(x - lastX) > 1e-6 || Math.abs(y - lastY) > 1e-6) {
+            lastX = x;
+            lastY = y;
+            lastProgressTick = tick;
+            return;
+        }
+        if (tick - lastProgressTick > stuckLimit) {
+            lastProgressTick = tick;
+            stuckLimit = STUCK_TICKS + random.nextInt(STUCK_JITTER);
+            retry();
+        }
+    }
+
+    private static Direction direction(int dx, int dy) {
+        for (Direction d : DIRECTIONS) {
+            if (d.dx == dx && d.dy == dy) return d;
+        }
+        return null;
+    }
+
+    // --- ITEM ---
+
+    private StationTile emptyCooker() {
+        return nav.nearest(StationType.COOKING, cellX(), cellY(),
+                st -> st.getStation().peek() == null && !board.isReserved(st));
+    }
+
+    private static boolean isDirty(Item item) {
+        return item instanceof DirtyPlate || (item instanceof Plate p && !p.isClean());
+    }
+
+    private static boolean isEmptyContainer(Item item) {
+        if (item instanceof CookingDevice d) return d.getContents().isEmpty();
+        return item instanceof Plate p && p.getContents().isEmpty();
+    }
+
+    private boolean isOrdered(DishBase dish) {
+        for (Order o : engine.getOrders().getActiveOrders()) {
+            if (o.getRecipe().getType() == dish.getRecipe().getType()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package model.bot;
+
+import items.core.Preparable;
+import model.world.tiles.StationTile;
+
+// Satu pekerjaan yang dikerjakan satu chef dari awal sampai selesai (item yang dipegang tidak berpindah tangan)
+final class Job {
+    enum Kind {
+        PLATE,      // piring bersih dari PlateStorage ke AssemblyStation milik pipeline
+        PREP,       // ambil bahan dari IngredientStorage, potong jika perlu, masukkan ke alat masak di cooker
+        POUR,       // alat masak yang sudah matang dituang ke piring, lalu dikembalikan ke cooker
+        SERVE,      // dish dari AssemblyStation ke ServingStation
+        WASH,       // DirtyPlate dari PlateStorage dicuci lalu dikembalikan
+        CLEAR       // buang sisa pipeline yang batal (dan item yang masih dipegang bot)
+    }
+
+    enum Status { WAITING, ASSIGNED, DONE, CANCELLED }
+
+    final Kind kind;
+    final Pipeline pipeline;                        // null untuk WASH/CLEAR
+    final Class<? extends Preparable> ingredient;   // hanya PREP
+    final Job prep;                                 // POUR: PREP yang mengisi alat masaknya
+
+    // Station yang dipesan job ini (cooker untuk PREP/POUR, washer untuk WASH, sumber untuk CLEAR)
+    StationTile station;
+    Status status = Status.WAITING;
+    BotChef assignee;
+
+    Job(Kind kind, Pipeline pipeline, Class<? extends Preparable> ingredient, Job prep) {
+        this.kind = kind;
+        this.pipeline = pipeline;
+        this.ingredient = ingredient;
+        this.prep = prep;
+    }
+
+    boolean isOpen() { return status == Status.WAITING; }
+    boolean isDone() { return status == Status.DONE; }
+
+    @Override
+    public String toString() {
+        return kind + (ingredient != null ? "(" + ingredient.getSimpleName() + ")" : "")
+                + (pipeline != null ? " for " + pipeline.dish : "");
+    }
+}
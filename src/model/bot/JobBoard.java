@@ -0,0 +1,492 @@
+package model.bot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.ItemState;
+import items.core.Preparable;
+import items.dish.DishBase;
+import items.utensils.DirtyPlate;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.engine.GameEngine;
+import model.engine.GameSession;
+import model.orders.Order;
+import model.orders.OrderManager;
+import model.world.NavGrid;
+import model.world.WorldMap;
+import model.world.tiles.StationTile;
+import stations.IngredientStorage;
+import stations.PlateStorage;
+import stations.StationType;
+
+// Papan job: menerjemahkan order aktif menjadi pipeline (graf job), menilai kesiapan & biaya job,
+// dan memegang reservasi station (assembly, cooker, washer, talenan) agar dua bot tidak berebut.
+final class JobBoard {
+    // Bobot biaya: jarak dalam langkah x10, dikurangi prioritas jenis job (tuang/antar sebelum gosong/expired)
+    private static final int STEP_COST = 10;
+    private static final int POUR_BONUS = 300;
+    private static final int SERVE_BONUS = 400;
+    private static final int WASH_PENALTY = 100;
+    private static final int CLEAR_PENALTY = 50;
+    private static final int REPLAN_TICKS = 30;
+
+    // Bahan per kelas: storage sumbernya, perlu dipotong atau tidak, dan contoh item yang sudah siap dimasak
+    private record Ingredient(List<StationTile> storages, boolean choppable, Preparable prepared, Set<Class<?>> devices) {}
+
+    private final GameEngine engine;
+    private final WorldMap world;
+    private final NavGrid nav;
+    private final OrderManager orders;
+    private final Map<Class<?>, Ingredient> ingredients = new HashMap<>();
+    private final Set<Class<?>> learnedDevices = new HashSet<>();
+
+    private final List<Pipeline> pipelines = new ArrayList<>();
+    private final List<Job> open = new ArrayList<>();
+    private final Map<StationTile, Job> reserved = new IdentityHashMap<>();
+    private Job washJob;
+    private int version;
+    private long orderStamp = -1;
+    private long nextPlanTick;
+
+    JobBoard(GameEngine engine) {
+        this.engine = engine;
+        this.world = engine.getWorld();
+        this.nav = world.getNav();
+        this.orders = engine.getOrders();
+        indexIngredients(engine.getSession());
+        learnDevices();
+        // Distance field dihitung di depan (map kecil), bukan di tick pertama bot berjalan
+        nav.prewarm();
+    }
+
+    private void indexIngredients(GameSession session) {
+        for (StationTile st : world.getStations(StationType.INGREDIENT_STORAGE)) {
+            Item probe = session.getItems().create(((IngredientStorage) st.getStation()).getIngredientType());
+            if (!(probe instanceof Preparable prep)) continue;
+            Ingredient known = ingredients.get(probe.getClass());
+            if (known != null) {
+                known.storages.add(st);
+                continue;
+            }
+            boolean choppable = prep.canBeChopped();
+            if (choppable) prep.chop();
+            List<StationTile> storages = new ArrayList<>(2);
+            storages.add(st);
+            ingredients.put(probe.getClass(), new Ingredient(storages, choppable, prep, new HashSet<>(2)));
+        }
+    }
+
+    List<Job> open() { return open; }
+    // Naik setiap isi daftar open berubah; scan assignment yang sedang berjalan diulang
+    int version() { return version; }
+
+    boolean isReserved(StationTile st) { return reserved.containsKey(st); }
+
+    // --- PLANNING ---
+
+    void update(long tick) {
+        long stamp = orders.getNextOrderId() * 31L * 31L + orders.getCompletedCount() * 31L + orders.getFailedCount();
+        if (stamp == orderStamp && tick < nextPlanTick) return;
+        orderStamp = stamp;
+        nextPlanTick = tick + REPLAN_TICKS;
+        plan();
+    }
+
+    private void plan() {
+        learnDevices();
+        List<Order> active = new ArrayList<>(orders.getActiveOrders());
+        active.sort(Comparator.comparingInt(Order::getTimeLeft));
+
+        for (Iterator<Pipeline> it = pipelines.iterator(); it.hasNext(); ) {
+            Pipeline p = it.next();
+            if (p.isFinished()) {
+                reserved.remove(p.assembly);
+                it.remove();
+                continue;
+            }
+            if (containsOrder(active, p.order)) continue;
+            // Order expired: pindahkan ke order lain dengan dish sama, kalau tidak ada pipeline dibatalkan
+            Order other = unboundOrder(active, p);
+            if (other != null) {
+                p.order = other;
+            } else {
+                cancelJobs(p);
+                it.remove();
+            }
+        }
+
+        for (Order order : active) {
+            if (isBound(order) || !isFeasible(order)) continue;
+            StationTile assembly = freeAssembly();
+            if (assembly == null) break;
+            createPipeline(order, assembly);
+        }
+
+        if (washJob == null && dirtyStorage() != null && !world.getStations(StationType.WASHING).isEmpty()) {
+            washJob = new Job(Job.Kind.WASH, null, null, null);
+            addOpen(washJob);
+        }
+    }
+
+    private static boolean containsOrder(List<Order> active, Order order) {
+        for (Order o : active) if (o == order) return true;
+        return false;
+    }
+
+    private boolean isBound(Order order) {
+        for (Pipeline p : pipelines) if (p.order == order) return true;
+        return false;
+    }
+
+    private Order unboundOrder(List<Order> active, Pipeline p) {
+        for (Order o : active) {
+            if (o.getRecipe().getType() == p.dish && !isBound(o)) return o;
+        }
+        return null;
+    }
+
+    private boolean isFeasible(Order order) {
+        for (Class<? extends Preparable> type : order.getRecipe().getRequiredIngredients()) {
+            Ingredient ing = ingredients.get(type);
+            if (ing == null || !hasCookerFor(ing)) return false;
+            if (ing.choppable && world.getStations(StationType.CUTTING).isEmpty()) return false;
+        }
+        return true;
+    }
+
+    private static boolean hasCookerFor(Ingredient ing) {
+        return !ing.devices.isEmpty();
+    }
+
+    // Jenis alat masak yang menerima bahan ini, dipelajari dari alat yang sedang kosong (kapasitas/isi tidak ikut).
+    // Cukup sekali per kelas alat: map besar punya ribuan kompor yang dipindai setiap replan
+    private void learnDevices() {
+        for (StationTile st : world.getStations(StationType.COOKING)) {
+            if (!(st.getStation().peek() instanceof CookingDevice d) || learnedDevices.contains(d.getClass())) continue;
+            if (!d.getContents().isEmpty() || d.isCooking() || !isReachable(st)) continue;
+            learnedDevices.add(d.getClass());
+            for (Ingredient ing : ingredients.values()) {
+                if (d.canAccept(ing.prepared)) ing.devices.add(d.getClass());
+            }
+        }
+    }
+
+    // Assembly kosong terdekat dari chef pertama yang menjangkau salah satunya; di map besar urutan daftar
+    // (baris demi baris) bisa menunjuk dapur di ujung peta sehingga order expired di jalan
+    private StationTile freeAssembly() {
+        Predicate<StationTile> free = st -> st.getStation().peek() == null && !reserved.containsKey(st);
+        for (Chef chef : engine.getChefs()) {
+            StationTile st = nav.nearest(StationType.ASSEMBLY, chef.getX(), chef.getY(), free);
+            if (st != null) return st;
+        }
+        return null;
+    }
+
+    // Generator map bisa menghasilkan station yang terkurung; dianggap terjangkau jika ada chef yang bisa mencapainya
+    private boolean isReachable(StationTile st) {
+        for (Chef chef : engine.getChefs()) {
+            if (nav.canReach(st, chef.getX(), chef.getY())) return true;
+        }
+        return false;
+    }
+
+    private void createPipeline(Order order, StationTile assembly) {
+        Pipeline p = new Pipeline(order, assembly);
+        reserved.put(assembly, p.plate);
+        for (Class<? extends Preparable> type : order.getRecipe().getRequiredIngredients()) {
+            Job prep = new Job(Job.Kind.PREP, p, type, null);
+            p.preps.add(prep);
+            p.pours.add(new Job(Job.Kind.POUR, p, null, prep));
+        }
+        pipelines.add(p);
+        for (Job j : p.jobs()) addOpen(j);
+    }
+
+    private void addOpen(Job job) {
+        job.status = Job.Status.WAITING;
+        job.assignee = null;
+        open.add(job);
+        version++;
+    }
+
+    private void removeOpen(Job job) {
+        if (open.remove(job)) version++;
+    }
+
+    // Pipeline batal: job yang belum selesai dihentikan, sisa di station dibersihkan lewat job CLEAR
+    private void cancelJobs(Pipeline p) {
+        for (Job j : p.jobs()) {
+            if (j.status == Job.Status.WAITING) removeOpen(j);
+            if (j.status == Job.Status.ASSIGNED && j.assignee != null) j.assignee.abort();
+            if (j.status != Job.Status.DONE) j.status = Job.Status.CANCELLED;
+        }
+        for (Job prep : p.preps) {
+            StationTile cooker = prep.station;
+            if (cooker == null || reserved.get(cooker) != prep) continue;
+            if (hasContents(cooker)) addClear(cooker);
+            else reserved.remove(cooker);
+        }
+        if (p.assembly.getStation().peek() != null) addClear(p.assembly);
+        else reserved.remove(p.assembly);
+    }
+
+    void addClear(StationTile st) {
+        Job clear = new Job(Job.Kind.CLEAR, null, null, null);
+        clear.station = st;
+        reserved.put(st, clear);
+        addOpen(clear);
+    }
+
+    // --- READINESS & COST ---
+
+    boolean isReady(Job j) {
+        return switch (j.kind) {
+            case PLATE -> availableCleanPlates() > claimedPlates();
+            case PREP -> freeCooker(j.ingredient, -1, -1) != null;
+            case POUR -> j.prep.isDone() && j.pipeline.plate.isDone() && isCooked(j.prep.station);
+            case SERVE -> allDone(j.pipeline.pours) && j.pipeline.assembly.getStation().peek() instanceof DishBase;
+            case WASH -> dirtyStorage() != null && freeWasher(-1, -1) != null;
+            case CLEAR -> true;
+        };
+    }
+
+    // Biaya (lebih kecil lebih baik) untuk bot di sel (x, y); Integer.MAX_VALUE = tidak bisa
+    int cost(Job j, BotChef bot) {
+        int x = bot.cellX(), y = bot.cellY();
+        Item held = bot.chef.getHeldItem();
+        if (held != null && !(j.kind == Job.Kind.PREP && bot.holdsUsable(j.ingredient))
+                && !(j.kind == Job.Kind.PLATE && isCleanPlate(held))) return Integer.MAX_VALUE;
+
+        int dist = switch (j.kind) {
+            case PLATE -> held != null ? nav.distanceTo(j.pipeline.assembly, x, y)
+                    : nav.distanceToNearest(StationType.PLATE_STORAGE, x, y);
+            case WASH -> nav.distanceToNearest(StationType.PLATE_STORAGE, x, y);
+            case PREP -> held != null ? 0 : distanceToStorage(j.ingredient, x, y);
+            case POUR -> nav.distanceTo(j.prep.station, x, y);
+            case SERVE -> nav.distanceTo(j.pipeline.assembly, x, y);
+            case CLEAR -> nav.distanceTo(j.station, x, y);
+        };
+        if (dist == NavGrid.UNREACHABLE) return Integer.MAX_VALUE;
+
+        int cost = dist * STEP_COST;
+        if (j.pipeline != null) cost += j.pipeline.order.getTimeLeft();
+        cost += switch (j.kind) {
+            case POUR -> -POUR_BONUS;
+            case SERVE -> -SERVE_BONUS;
+            case WASH -> availableCleanPlates() > 0 ? WASH_PENALTY : 0;
+            case CLEAR -> CLEAR_PENALTY;
+            default -> 0;
+        };
+        return cost;
+    }
+
+    private int distanceToStorage(Class<?> type, int x, int y) {
+        return nav.distanceToNearest(ingredients.get(type).storages, x, y);
+    }
+
+    StationTile nearestStorage(Class<?> type, int x, int y) {
+        return nav.nearest(ingredients.get(type).storages, x, y, st -> true);
+    }
+
+    boolean isChoppable(Class<?> type) {
+        return ingredients.get(type).choppable;
+    }
+
+    // --- ASSIGNMENT ---
+
+    // Memesan resource yang dibutuhkan job; false jika resource sudah tidak tersedia
+    boolean assign(Job j, BotChef bot) {
+        switch (j.kind) {
+            case PREP -> {
+                StationTile cooker = freeCooker(j.ingredient, bot.cellX(), bot.cellY());
+                if (cooker == null) return false;
+                j.station = cooker;
+                reserved.put(cooker, j);
+            }
+            case WASH -> {
+                StationTile washer = freeWasher(bot.cellX(), bot.cellY());
+                if (washer == null) return false;
+                j.station = washer;
+                reserved.put(washer, j);
+            }
+            default -> {}
+        }
+        removeOpen(j);
+        j.status = Job.Status.ASSIGNED;
+        j.assignee = bot;
+        bot.start(j);
+        return true;
+    }
+
+    void finish(Job j) {
+        j.status = Job.Status.DONE;
+        j.assignee = null;
+        switch (j.kind) {
+            case POUR -> reserved.remove(j.prep.station);
+            case SERVE -> orderStamp = -1;     // pipeline dilepas di plan() berikutnya
+            case WASH -> {
+                reserved.remove(j.station);
+                washJob = null;
+            }
+            case CLEAR -> {
+                if (j.station != null && reserved.get(j.station) == j) reserved.remove(j.station);
+            }
+            default -> {}
+        }
+    }
+
+    // Bot gagal/dilepas di tengah job. PLATE/PREP yang belum meninggalkan jejak diulang;
+    // selain itu pipeline dibatalkan dan order direncanakan ulang dari awal.
+    void fail(Job j) {
+        if (j.status != Job.Status.ASSIGNED) return;
+        j.assignee = null;
+        switch (j.kind) {
+            case PLATE -> {
+                if (j.pipeline.assembly.getStation().peek() == null) addOpen(j);
+                else cancelPipeline(j.pipeline);
+            }
+            case PREP -> {
+                if (hasContents(j.station)) {
+                    cancelPipeline(j.pipeline);
+                    return;
+                }
+                if (reserved.get(j.station) == j) reserved.remove(j.station);
+                j.station = null;
+                addOpen(j);
+            }
+            case POUR, SERVE -> cancelPipeline(j.pipeline);
+            case WASH -> {
+                reserved.remove(j.station);
+                j.status = Job.Status.CANCELLED;
+                washJob = null;
+            }
+            case CLEAR -> {
+                if (j.station != null && j.station.getStation().peek() != null
+                        && !world.getStations(StationType.TRASH).isEmpty()) {
+                    addOpen(j);
+                    return;
+                }
+                if (j.station != null && reserved.get(j.station) == j) reserved.remove(j.station);
+                j.status = Job.Status.CANCELLED;
+            }
+        }
+    }
+
+    private void cancelPipeline(Pipeline p) {
+        if (pipelines.remove(p)) cancelJobs(p);
+        orderStamp = -1;
+    }
+
+    // Bot yang memegang item tanpa job (sisa job batal): item dibuang/dikembalikan lewat job CLEAR tanpa station sumber
+    Job disposal(BotChef bot) {
+        Job clear = new Job(Job.Kind.CLEAR, null, null, null);
+        clear.status = Job.Status.ASSIGNED;
+        clear.assignee = bot;
+        bot.start(clear);
+        return clear;
+    }
+
+    // --- QUERY STATION ---
+
+    StationTile freeCooker(Class<?> type, int x, int y) {
+        Ingredient ing = ingredients.get(type);
+        Predicate<StationTile> free = st -> !reserved.containsKey(st)
+                && st.getStation().peek() instanceof CookingDevice d
+                && d.getContents().isEmpty() && !d.isCooking() && d.canAccept(ing.prepared);
+        return x < 0 ? firstReachable(world.getStations(StationType.COOKING), free)
+                : nav.nearest(StationType.COOKING, x, y, free);
+    }
+
+    private StationTile freeWasher(int x, int y) {
+        Predicate<StationTile> free = st -> !reserved.containsKey(st) && st.getStation().peek() == null;
+        return x < 0 ? firstReachable(world.getStations(StationType.WASHING), free)
+                : nav.nearest(StationType.WASHING, x, y, free);
+    }
+
+    private StationTile firstReachable(List<StationTile> stations, Predicate<StationTile> filter) {
+        for (StationTile st : stations) {
+            if (filter.test(st) && isReachable(st)) return st;
+        }
+        return null;
+    }
+
+    StationTile freeCuttingBoard(int x, int y) {
+        return nav.nearest(StationType.CUTTING, x, y, st -> st.getStation().peek() == null && !reserved.containsKey(st));
+    }
+
+    // Talenan dipesan oleh job PREP selama bahan di atasnya
+    void reserveBoard(StationTile board, Job job) { reserved.put(board, job); }
+    void releaseBoard(StationTile board) { reserved.remove(board); }
+
+    private static boolean hasContents(StationTile cooker) {
+        return cooker != null && cooker.getStation().peek() instanceof CookingDevice d && !d.getContents().isEmpty();
+    }
+
+    private boolean isCooked(StationTile cooker) {
+        if (cooker == null || !(cooker.getStation().peek() instanceof CookingDevice d)) return false;
+        List<Preparable> contents = d.getContents();
+        if (contents.isEmpty()) return false;
+        for (Preparable p : contents) {
+            ItemState s = ((Item) p).getState();
+            if (s != ItemState.COOKED && s != ItemState.BURNED) return false;
+        }
+        return true;
+    }
+
+    private static boolean allDone(List<Job> jobs) {
+        for (Job j : jobs) if (!j.isDone()) return false;
+        return true;
+    }
+
+    // Piring bersih yang bisa diambil berurutan dari atas tumpukan semua PlateStorage
+    private int availableCleanPlates() {
+        int count = 0;
+        for (StationTile st : world.getStations(StationType.PLATE_STORAGE)) {
+            List<Item> plates = ((PlateStorage) st.getStation()).getPlates();
+            for (int i = plates.size() - 1; i >= 0; i--) {
+                if (!(plates.get(i) instanceof Plate p) || !p.isClean() || !p.getContents().isEmpty()) break;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int claimedPlates() {
+        int claimed = 0;
+        for (Pipeline p : pipelines) {
+            if (p.plate.status == Job.Status.ASSIGNED && p.plate.assignee != null && !p.plate.assignee.hasPickedPlate()) {
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
+    StationTile dirtyStorage() {
+        for (StationTile st : world.getStations(StationType.PLATE_STORAGE)) {
+            Item top = st.getStation().peek();
+            if (top instanceof DirtyPlate || (top instanceof Plate p && !p.isClean())) return st;
+        }
+        return null;
+    }
+
+    static boolean isCleanPlateOnTop(StationTile st) {
+        return isCleanPlate(st.getStation().peek());
+    }
+
+    static boolean isCleanPlate(Item item) {
+        return item instanceof Plate p && p.isClean() && p.getContents().isEmpty();
+    }
+
+    int pipelineCount() { return pipelines.size(); }
+}
@@ -0,0 +1,40 @@
+package model.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.orders.Order;
+import model.recipes.DishType;
+import model.world.tiles.StationTile;
+
+// Graf job untuk satu dish: PLATE dan PREP tiap bahan -> POUR tiap bahan (butuh PLATE + PREP-nya) -> SERVE.
+// AssemblyStation dipesan sepanjang umur pipeline.
+final class Pipeline {
+    Order order;
+    final DishType dish;
+    final StationTile assembly;
+
+    final Job plate;
+    final List<Job> preps = new ArrayList<>(3);
+    final List<Job> pours = new ArrayList<>(3);
+    final Job serve;
+
+    Pipeline(Order order, StationTile assembly) {
+        this.order = order;
+        this.dish = order.getRecipe().getType();
+        this.assembly = assembly;
+        this.plate = new Job(Job.Kind.PLATE, this, null, null);
+        this.serve = new Job(Job.Kind.SERVE, this, null, null);
+    }
+
+    List<Job> jobs() {
+        List<Job> all = new ArrayList<>(2 + preps.size() * 2);
+        all.add(plate);
+        all.addAll(preps);
+        all.addAll(pours);
+        all.add(serve);
+        return all;
+    }
+
+    boolean isFinished() { return serve.isDone(); }
+}
@@ -30,7 +30,7 @@ public class Chef {
     private ChefAction currentAction;
 
     // --- DASH VARIABLES ---
-    private long lastDashTime = 0;
+    private long lastDashTime = -DASH_COOLDOWN_MS;
     private static final long DASH_COOLDOWN_MS = 1500;
     private boolean isDashing = false;
     private double dashDistanceRemaining = 0;
@@ -124,24 +124,26 @@ public class Chef {
     public void move(int dx, int dy) { }
 
     // --- DASH LOGIC ---
-    public boolean canDash() {
+    // nowMs = waktu simulasi dari GameEngine (SimClock), bukan jam dinding
+    // ignoreCooldown = efek The Flash aktif di sesi chef ini
+    public boolean canDash(long nowMs, boolean ignoreCooldown) {
         if (isDashing) return false;
-        if (model.engine.EffectManager.getInstance().isFlash()) return true;
-        return System.currentTimeMillis() - lastDashTime >= DASH_COOLDOWN_MS;
+        if (ignoreCooldown) return true;
+        return nowMs - lastDashTime >= DASH_COOLDOWN_MS;
     }
 
-    public void startDash(Direction dir, double distance) {
+    public void startDash(Direction dir, double distance, long nowMs) {
         this.isDashing = true;
         this.dashDirection = dir;
         this.dashDistanceRemaining = distance;
-        this.lastDashTime = System.currentTimeMillis();
+        this.lastDashTime = nowMs;
     }
 
     public boolean isDashing() { return isDashing; }
 
     public void updateDash(double distanceCovered) {
         this.dashDistanceRemaining -= distanceCovered;
-        if (this.dashDistanceRemaining <= 0) {
+        if (this.dashDistanceRemaining <= 1e-9) {
             this.isDashing = false;
             this.dashDistanceRemaining = 0;
         }
@@ -155,6 +157,11 @@ public class Chef {
     public Direction getDashDirection() { return dashDirection; }
 
     public void changeState(ChefState s) {
+        setStateOnly(s);
+        s.enter(this);
+    }
+
+    private void setStateOnly(ChefState s) {
         this.state = s;
         if (s instanceof IdleState) currentAction = ChefAction.IDLE;
         else if (s instanceof MovingState) currentAction = ChefAction.MOVING;
@@ -162,8 +169,29 @@ public class Chef {
         else if (s instanceof BusyCuttingState) currentAction = ChefAction.CUTTING;
         else if (s instanceof BusyCookingState) currentAction = ChefAction.COOKING;
         else if (s instanceof BusyWashingState) currentAction = ChefAction.WASHING;
+    }
 
-        s.enter(this);
+    // --- CHECKPOINT ---
+    // Memasang state tanpa enter(): proses yang sedang berjalan dilanjutkan oleh pemanggil
+    public void restoreState(ChefState s, ChefAction action) {
+        setStateOnly(s);
+        this.currentAction = action;
+    }
+
+    public long getLastDashTime() { return lastDashTime; }
+    public double getDashDistanceRemaining() { return dashDistanceRemaining; }
+
+    public void restoreDash(long lastDashTime, boolean dashing, Direction dir, double distanceRemaining) {
+        this.lastDashTime = lastDashTime;
+        this.isDashing = dashing;
+        this.dashDirection = dir;
+        this.dashDistanceRemaining = distanceRemaining;
+    }
+
+    public void restoreMovement(double exactX, double exactY, Direction facing, Direction moveInput) {
+        setExactPos(exactX, exactY);
+        this.direction = facing;
+        this.moveInput = moveInput;
     }
 
     public void tryPickFrom(Station st) {
@@ -171,7 +199,7 @@ public class Chef {
             Item item = st.pick();
             if (item != null) {
                 state.pickItem(this, item);
-                view.gui.AssetManager.getInstance().playSound("pickup");
+                model.engine.GameEngine.audio().playSound("pickup");
             }
             return;
         }
@@ -194,7 +222,7 @@ public class Chef {
             st.pick();
             plate.addIngredient(prep);
 
-            DishType match = RecipeBook.findMatch(plate.getContents());
+            DishType match = RecipeBook.findMatch(plate.getSignature());
             if (match != null) {
                 if (match == DishType.PASTA_MARINARA) setHeldItem(new PastaMarinara());
                 else if (match == DishType.PASTA_BOLOGNESE) setHeldItem(new PastaBolognese());
@@ -221,13 +249,13 @@ public class Chef {
             }
 
             System.out.println("Menuang isi " + ((Item)device).getName() + " ke Piring...");
-            view.gui.AssetManager.getInstance().playSound("place");
+            model.engine.GameEngine.audio().playSound("place");
 
             for (Preparable ingredient : device.getContents()) {
                 plate.addIngredient(ingredient);
             }
 
-            DishType match = RecipeBook.findMatch(plate.getContents());
+            DishType match = RecipeBook.findMatch(plate.getSignature());
             if (match != null) {
                 DishBase finalDish = null;
                 switch (match) {
@@ -240,7 +268,7 @@ public class Chef {
                     st.pick();
                     st.place(finalDish);
                     System.out.println("✨ Plating Berhasil: " + match);
-                    view.gui.AssetManager.getInstance().playSound("serve");
+                    model.engine.GameEngine.audio().playSound("serve");
                 }
             } else {
                 System.out.println("⚠️ Bahan dituang, tapi belum jadi menu lengkap.");
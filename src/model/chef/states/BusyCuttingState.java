@@ -5,19 +5,27 @@ import items.core.ItemState;
 import items.core.Preparable;
 import model.chef.Chef;
 import model.chef.ChefState;
+import model.engine.GameEngine;
+import model.engine.GameSession;
 import stations.Station;
-import utils.TimerUtils;
-import view.gui.AssetManager;
+import utils.TimingWheel.Timeout;
 
 public class BusyCuttingState implements ChefState {
     private final Station station;
     private int progress = 0;
+    private Timeout nextStep;
     private final int maxProgress = 3; 
 
     public BusyCuttingState(Station station) {
         this.station = station;
     }
 
+    // Dari checkpoint: progres yang sudah berjalan, dilanjutkan lewat resume()
+    public BusyCuttingState(Station station, int progress) {
+        this.station = station;
+        this.progress = progress;
+    }
+
     @Override
     public void enter(Chef chef) {
         if (station.isOccupied()) {
@@ -38,7 +46,7 @@ public class BusyCuttingState implements ChefState {
         }
 
         System.out.println("🔪 " + chef.getName() + " started cutting...");
-        AssetManager.getInstance().playSound("chop");
+        GameEngine.audio().playSound("chop");
         cutWithProgress(chef);
     }
     
@@ -59,12 +67,19 @@ public class BusyCuttingState implements ChefState {
         // System.out.println("   Cutting progress: " + progress + "/" + maxProgress);
         
         if (progress < maxProgress) {
-             AssetManager.getInstance().playSound("chop");
+             GameEngine.audio().playSound("chop");
         }
 
-        TimerUtils.schedule(() -> cutWithProgress(chef), 1000);
+        nextStep = GameSession.current().getEngine().schedule(() -> cutWithProgress(chef), 1000);
     }
 
+    public void resume(Chef chef, long ticksLeft) {
+        nextStep = GameSession.current().getEngine().scheduleTicks(() -> cutWithProgress(chef), ticksLeft);
+    }
+
+    public Station getStation() { return station; }
+    public long getTicksToNextStep() { return nextStep != null ? nextStep.remainingTicks() : 0; }
+
     private void finishCutting(Chef chef) {
         if (station.isOccupied() && station.peek() instanceof Preparable p) {
             p.chop();
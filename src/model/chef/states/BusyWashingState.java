@@ -5,23 +5,31 @@ import items.utensils.DirtyPlate;
 import items.utensils.Plate;
 import model.chef.Chef;
 import model.chef.ChefState;
+import model.engine.GameEngine;
+import model.engine.GameSession;
 import stations.Station;
-import utils.TimerUtils;
-import view.gui.AssetManager; 
+import utils.TimingWheel.Timeout;
 
 public class BusyWashingState implements ChefState {
     private final Station station;
     private int progress = 0;
+    private Timeout nextStep;
     private final int maxProgress = 3;
 
     public BusyWashingState(Station station) {
         this.station = station;
     }
 
+    // Dari checkpoint: progres yang sudah berjalan, dilanjutkan lewat resume()
+    public BusyWashingState(Station station, int progress) {
+        this.station = station;
+        this.progress = progress;
+    }
+
     @Override
     public void enter(Chef chef) {
         System.out.println(chef.getName() + " started washing plates...");
-        AssetManager.getInstance().playSound("wash"); 
+        GameEngine.audio().playSound("wash"); 
         washWithProgress(chef);
     }
 
@@ -37,12 +45,19 @@ public class BusyWashingState implements ChefState {
         // System.out.println("   Washing progress: " + progress + "/" + maxProgress);
         
         if (progress < maxProgress) {
-             AssetManager.getInstance().playSound("wash");
+             GameEngine.audio().playSound("wash");
         }
 
-        TimerUtils.schedule(() -> washWithProgress(chef), 1000);
+        nextStep = GameSession.current().getEngine().schedule(() -> washWithProgress(chef), 1000);
+    }
+
+    public void resume(Chef chef, long ticksLeft) {
+        nextStep = GameSession.current().getEngine().scheduleTicks(() -> washWithProgress(chef), ticksLeft);
     }
 
+    public Station getStation() { return station; }
+    public long getTicksToNextStep() { return nextStep != null ? nextStep.remainingTicks() : 0; }
+
     private void finishWashing(Chef chef) {
         if (station.isOccupied()) {
             Item item = station.peek();
@@ -53,13 +68,13 @@ public class BusyWashingState implements ChefState {
                 station.place(new Plate()); 
                 
                 System.out.println("✨ Cling! DirtyPlate menjadi Plate bersih.");
-                AssetManager.getInstance().playSound("pick"); 
+                GameEngine.audio().playSound("pick"); 
             } 
             // Skenario 2: Item adalah Plate biasa tapi kotor 
             else if (item instanceof Plate p && !p.isClean()) {
                 p.wash();
                 System.out.println("✨ Cling! Plate dicuci bersih.");
-                AssetManager.getInstance().playSound("pick");
+                GameEngine.audio().playSound("pick");
             }
         }
         chef.changeState(new IdleState());
@@ -73,4 +88,8 @@ public class BusyWashingState implements ChefState {
     @Override public void pickItem(Chef chef, Item item) {}
     @Override public void placeItem(Chef chef, Station st) {}
     @Override public void interact(Chef chef, Station st) {}
+
+    public int getProgress() {
+        return progress;
+    }
 }
\ No newline at end of file
@@ -30,7 +30,7 @@ public class CarryingState implements ChefState {
 
         if (st.getName().toLowerCase().contains("assembly")) {
             handlePlating(chef, st, held);
-            view.gui.AssetManager.getInstance().playSound("place");
+            model.engine.GameEngine.audio().playSound("place");
             return;
         }
 
@@ -47,7 +47,7 @@ public class CarryingState implements ChefState {
         if (st.place(held)) {
             chef.setHeldItem(null);
             chef.changeState(new IdleState());
-            view.gui.AssetManager.getInstance().playSound("place");
+            model.engine.GameEngine.audio().playSound("place");
             System.out.println("✅ Placed " + held.getName() + " on " + st.getName());
         }
     }
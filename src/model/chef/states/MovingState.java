@@ -11,6 +11,8 @@ public class MovingState implements ChefState {
         this.returnState = prev;
     }
 
+    public ChefState getReturnState() { return returnState; }
+
     @Override
     public void enter(Chef chef) {}
 
@@ -0,0 +1,9 @@
+package model.engine;
+
+// Tujuan suara dari model. GUI memakai AssetManager, mode headless memakai SILENT.
+@FunctionalInterface
+public interface AudioSink {
+    void playSound(String name);
+
+    AudioSink SILENT = name -> {};
+}
@@ -0,0 +1,56 @@
+package model.engine;
+
+// Format checkpoint sesi (.cbs), big-endian, semua sisa waktu timer dalam tick simulasi:
+//   header     : magic(int) version(short)
+//   config     : fps stageTime maxFailed targetOrders minScore(int) survival(byte) stageName(str)
+//                maxOrders orderInterval orderTimeLimit(int)
+//   sesi       : seed(long) rngState order/efek/bot(3x long) tick(long) timeRemaining(int) finished(byte)
+//                win(byte) nextProjectileId(int)
+//   world      : width height(short) layout(byte[w*h]) nIngredient(short) {type(str)}*
+//                nStation(short) {stationType(byte) isi}*   -- urutan WorldMap.getAllStations()
+//                  BaseStation: item | LuckyStation: cooldown(int) ticksLeft(int) | PlateStorage: n(short) {item}*
+//                nFloor(short) {x y(double) item}*
+//   chef       : n(byte) {id name(str) x y(double) facing moveDir(byte, -1 = null) action(byte) item
+//                state(byte) [MOVING: returnState(byte) | CUTTING/WASHING: station(short) progress(byte) ticksLeft(int)]
+//                lastDash(long) dashing(byte) dashDir(byte) dashLeft(double)}*
+//   projectile : n(short) {id(int) thrower(byte) item flying(byte) start target current(2x double)
+//                startTime duration progress bounceStart bounceTarget(2x double) bounceStartTime(double)}*
+//   order      : score completed failed spawnTimer nextOrderId(int) n(short) {id(int) dish(byte) timeLeft(int)}*
+//   efek       : pending(byte, -1 = null) endTime(long) {endTicksLeft(int)}* per EffectType
+//                nPlateReturn(short) {ticksLeft(int)}*
+//   item       : kind(byte, 0 = null) state(byte) lalu per jenis:
+//                Plate: clean(byte) n(byte) {item}* | Dish: dishType(byte) n(byte) {item}*
+//                CookingDevice: cooking(byte) cookTicks burnTicks(int) n(byte) {item}*
+//   str        : len(short) UTF-8
+// Input yang sudah di-submit tapi belum dieksekusi tidak ikut: checkpoint diambil di antara dua step.
+final class Checkpoint {
+    static final int MAGIC = 0x43424353;    // "CBCS"
+    static final int VERSION = 3;
+
+    // Jenis item; 1..9 sama dengan id di ItemRegistryInit (lihat ITEM_IDS)
+    static final byte ITEM_NONE = 0;
+    static final byte ITEM_TOMATO = 1;
+    static final byte ITEM_MEAT = 2;
+    static final byte ITEM_PASTA = 3;
+    static final byte ITEM_SHRIMP = 4;
+    static final byte ITEM_FISH = 5;
+    static final byte ITEM_PLATE = 6;
+    static final byte ITEM_DIRTY_PLATE = 7;
+    static final byte ITEM_BOILING_POT = 8;
+    static final byte ITEM_FRYING_PAN = 9;
+    static final byte ITEM_DISH = 10;
+
+    static final String[] ITEM_IDS = {
+        null, "tomato", "meat", "pasta", "shrimp", "fish", "plate", "plate_dirty", "boiling pot", "frying pan"
+    };
+
+    // State chef; BusyCookingState langsung kembali ke Idle di enter() sehingga disimpan sebagai IDLE
+    static final byte STATE_IDLE = 0;
+    static final byte STATE_CARRYING = 1;
+    static final byte STATE_MOVING = 2;
+    static final byte STATE_INTERACTING = 3;
+    static final byte STATE_CUTTING = 4;
+    static final byte STATE_WASHING = 5;
+
+    private Checkpoint() {}
+}
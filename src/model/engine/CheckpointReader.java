@@ -0,0 +1,349 @@
+package model.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.ItemState;
+import items.core.Preparable;
+import items.dish.DishBase;
+import items.dish.PastaBolognese;
+import items.dish.PastaFruttiDiMare;
+import items.dish.PastaMarinara;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.chef.ChefAction;
+import model.chef.ChefState;
+import model.chef.states.BusyCuttingState;
+import model.chef.states.BusyWashingState;
+import model.chef.states.CarryingState;
+import model.chef.states.IdleState;
+import model.chef.states.InteractingState;
+import model.chef.states.MovingState;
+import model.orders.Order;
+import model.recipes.DishType;
+import model.recipes.RecipeBook;
+import model.world.FloorItemIndex;
+import model.world.WorldMap;
+import model.world.tiles.StationTile;
+import stations.BaseStation;
+import stations.LuckyStation;
+import stations.PlateStorage;
+import stations.Station;
+import stations.StationType;
+import utils.Direction;
+
+// Membangun GameSession baru dari checkpoint (format di Checkpoint): map dari layout tersimpan,
+// lalu isi station, chef, proyektil, order, efek, dan semua timer dijadwalkan ulang dengan sisa tick-nya.
+// Sesi hasil belum punya audio sink, observer, maupun thread engine; pemanggil yang memasangnya.
+public final class CheckpointReader {
+    private static final ItemState[] ITEM_STATES = ItemState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final ChefAction[] ACTIONS = ChefAction.values();
+    private static final StationType[] STATION_TYPES = StationType.values();
+    private static final DishType[] DISH_TYPES = DishType.values();
+    private static final EffectManager.EffectType[] EFFECTS = EffectManager.EffectType.values();
+
+    private CheckpointReader() {}
+
+    public static GameSession read(ByteBuffer in) throws IOException {
+        in.order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (in.getInt() != Checkpoint.MAGIC) throw new IOException("Not a session checkpoint");
+            int version = in.getShort();
+            if (version != Checkpoint.VERSION) throw new IOException("Unsupported checkpoint version: " + version);
+            return readSession(in);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt checkpoint: " + e, e);
+        }
+    }
+
+    public static GameSession read(byte[] bytes) throws IOException {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    public static GameSession load(Path path) throws IOException {
+        return read(Files.readAllBytes(path));
+    }
+
+    private static GameSession readSession(ByteBuffer in) throws IOException {
+        GameConfig config = new GameConfig();
+        config.fps = in.getInt();
+        config.stageTimeSeconds = in.getInt();
+        config.maxFailedStreak = in.getInt();
+        config.targetOrders = in.getInt();
+        config.minScore = in.getInt();
+        config.isSurvival = in.get() != 0;
+        config.stageName = getString(in);
+        config.maxActiveOrders = in.getInt();
+        config.orderSpawnInterval = in.getInt();
+        config.orderTimeLimit = in.getInt();
+
+        long seed = in.getLong();
+        long orderRngState = in.getLong();
+        long effectRngState = in.getLong();
+        long botRngState = in.getLong();
+        long tick = in.getLong();
+        int timeRemaining = in.getInt();
+        boolean finished = in.get() != 0;
+        boolean win = in.get() != 0;
+        int nextProjectileId = in.getInt();
+
+        int width = in.getShort();
+        int height = in.getShort();
+        byte[] layout = new byte[width * height];
+        in.get(layout);
+        int ingredientCount = in.getShort();
+        List<String> ingredients = new ArrayList<>(ingredientCount);
+        for (int i = 0; i < ingredientCount; i++) ingredients.add(getString(in));
+
+        config.mapWidth = width;
+        config.mapHeight = height;
+        GameSession session;
+        try {
+            session = new GameSession(config, seed, rng -> new WorldMap(width, height, layout, ingredients, rng));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid checkpoint map: " + e.getMessage());
+        }
+        WorldMap world = session.getWorld();
+        GameEngine engine = session.getEngine();
+        // Timer dijadwalkan relatif terhadap tick yang dipulihkan
+        engine.restoreClock(tick, timeRemaining);
+
+        IOException[] failure = { null };
+        session.runBound(() -> {
+            try {
+                readWorld(in, session, world);
+                readChefs(in, session, engine, world);
+                readProjectiles(in, session, engine);
+                readOrders(in, session);
+                readEffects(in, engine, finished, win, nextProjectileId);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) throw failure[0];
+
+        session.orderRng().setState(orderRngState);
+        session.effectRng().setState(effectRngState);
+        session.botRng().setState(botRngState);
+        return session;
+    }
+
+    private static void readWorld(ByteBuffer in, GameSession session, WorldMap world) throws IOException {
+        List<StationTile> stations = world.getAllStations();
+        int count = in.getShort();
+        if (count != stations.size()) {
+            throw new IOException("Checkpoint has " + count + " stations, layout has " + stations.size());
+        }
+        for (StationTile tile : stations) {
+            Station st = tile.getStation();
+            StationType type = STATION_TYPES[in.get()];
+            if (type != st.getType()) throw new IOException("Station mismatch at " + tile.getPos().x + "," + tile.getPos().y + ": " + type);
+
+            if (st instanceof LuckyStation lucky) {
+                int cooldown = in.getInt();
+                long ticksLeft = in.getInt();
+                lucky.restoreCooldown(cooldown, ticksLeft);
+            } else if (st instanceof PlateStorage storage) {
+                int n = in.getShort();
+                List<Item> plates = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) plates.add(getItem(in, session));
+                storage.restorePlates(plates);
+            } else if (st instanceof BaseStation base) {
+                base.setStoredItem(getItem(in, session));
+            }
+        }
+
+        // forEach berjalan dari item terbaru; ditambahkan terbalik agar urutan index sama seperti aslinya
+        FloorItemIndex floor = world.getFloorItems();
+        int n = in.getShort();
+        double[] xs = new double[n], ys = new double[n];
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = in.getDouble();
+            ys[i] = in.getDouble();
+            items[i] = getItem(in, session);
+        }
+        for (int i = n - 1; i >= 0; i--) floor.add(items[i], xs[i], ys[i]);
+    }
+
+    private static void readChefs(ByteBuffer in, GameSession session, GameEngine engine, WorldMap world)
+            throws IOException {
+        int n = in.get();
+        for (int i = 0; i < n; i++) {
+            String id = getString(in);
+            String name = getString(in);
+            double x = in.getDouble();
+            double y = in.getDouble();
+            Direction facing = getDirection(in);
+            Direction moveInput = getDirection(in);
+            ChefAction action = ACTIONS[in.get()];
+
+            Chef chef = new Chef(id, name, (int) Math.floor(x + 0.5), (int) Math.floor(y + 0.5));
+            chef.restoreMovement(x, y, facing != null ? facing : Direction.DOWN, moveInput);
+            chef.setHeldItem(getItem(in, session));
+
+            byte code = in.get();
+            switch (code) {
+                case Checkpoint.STATE_CUTTING, Checkpoint.STATE_WASHING -> {
+                    Station station = stationAt(world, in.getShort());
+                    int progress = in.get();
+                    long ticksLeft = in.getInt();
+                    if (code == Checkpoint.STATE_CUTTING) {
+                        BusyCuttingState state = new BusyCuttingState(station, progress);
+                        chef.restoreState(state, action);
+                        if (ticksLeft > 0) state.resume(chef, ticksLeft);
+                    } else {
+                        BusyWashingState state = new BusyWashingState(station, progress);
+                        chef.restoreState(state, action);
+                        if (ticksLeft > 0) state.resume(chef, ticksLeft);
+                    }
+                }
+                case Checkpoint.STATE_MOVING -> chef.restoreState(new MovingState(simpleState(in.get())), action);
+                default -> chef.restoreState(simpleState(code), action);
+            }
+
+            long lastDash = in.getLong();
+            boolean dashing = in.get() != 0;
+            Direction dashDir = getDirection(in);
+            double dashLeft = in.getDouble();
+            chef.restoreDash(lastDash, dashing, dashDir, dashLeft);
+
+            engine.addChef(chef);
+        }
+    }
+
+    private static void readProjectiles(ByteBuffer in, GameSession session, GameEngine engine) {
+        List<Chef> chefs = engine.chefsView();
+        int n = in.getShort();
+        for (int i = 0; i < n; i++) {
+            int id = in.getInt();
+            int thrower = in.get();
+            Item item = getItem(in, session);
+            GameEngine.Projectile p = engine.new Projectile(id, thrower >= 0 ? chefs.get(thrower) : null, item);
+            p.state = in.get() != 0 ? GameEngine.Projectile.State.FLYING : GameEngine.Projectile.State.BOUNCING;
+            p.startX = in.getDouble();
+            p.startY = in.getDouble();
+            p.targetX = in.getDouble();
+            p.targetY = in.getDouble();
+            p.currentX = in.getDouble();
+            p.currentY = in.getDouble();
+            p.startTime = in.getDouble();
+            p.duration = in.getDouble();
+            p.progress = in.getDouble();
+            p.bounceStartX = in.getDouble();
+            p.bounceStartY = in.getDouble();
+            p.bounceTargetX = in.getDouble();
+            p.bounceTargetY = in.getDouble();
+            p.bounceStartTime = in.getDouble();
+            engine.getProjectiles().add(p);
+        }
+    }
+
+    private static void readOrders(ByteBuffer in, GameSession session) {
+        int score = in.getInt();
+        int completed = in.getInt();
+        int failed = in.getInt();
+        int spawnTimer = in.getInt();
+        int nextOrderId = in.getInt();
+
+        int n = in.getShort();
+        List<Order> orders = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int id = in.getInt();
+            DishType type = DISH_TYPES[in.get()];
+            int timeLeft = in.getInt();
+            orders.add(new Order(id, RecipeBook.getRecipe(type), timeLeft));
+        }
+        session.getOrders().restore(orders, score, completed, failed, spawnTimer, nextOrderId);
+    }
+
+    private static void readEffects(ByteBuffer in, GameEngine engine, boolean finished, boolean win,
+            int nextProjectileId) {
+        int pending = in.get();
+        long endTime = in.getLong();
+        long[] endTicks = new long[EFFECTS.length];
+        for (int i = 0; i < EFFECTS.length; i++) endTicks[i] = in.getInt();
+        engine.getEffects().restore(engine, pending >= 0 ? EFFECTS[pending] : null, endTime, endTicks);
+
+        int n = in.getShort();
+        long[] returns = new long[n];
+        for (int i = 0; i < n; i++) returns[i] = in.getInt();
+        engine.restoreStatus(finished, win, nextProjectileId, returns);
+    }
+
+    private static Item getItem(ByteBuffer in, GameSession session) {
+        byte kind = in.get();
+        if (kind == Checkpoint.ITEM_NONE) return null;
+        ItemState state = ITEM_STATES[in.get()];
+
+        Item item;
+        if (kind == Checkpoint.ITEM_DISH) {
+            DishBase dish = newDish(DISH_TYPES[in.get()]);
+            for (Preparable p : getContents(in, session)) dish.addIngredient(p);
+            item = dish;
+        } else {
+            item = session.getItems().create(Checkpoint.ITEM_IDS[kind]);
+            if (item instanceof Plate plate) {
+                if (in.get() == 0) plate.makeDirty();
+                for (Preparable p : getContents(in, session)) plate.addIngredient(p);
+            } else if (item instanceof CookingDevice device) {
+                boolean cooking = in.get() != 0;
+                long cookTicks = in.getInt();
+                long burnTicks = in.getInt();
+                device.restoreCooking(getContents(in, session), cooking, cookTicks, burnTicks);
+            }
+        }
+        item.setState(state);
+        return item;
+    }
+
+    private static List<Preparable> getContents(ByteBuffer in, GameSession session) {
+        int n = in.get();
+        List<Preparable> contents = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) contents.add((Preparable) getItem(in, session));
+        return contents;
+    }
+
+    private static DishBase newDish(DishType type) {
+        return switch (type) {
+            case PASTA_MARINARA -> new PastaMarinara();
+            case PASTA_BOLOGNESE -> new PastaBolognese();
+            case PASTA_FRUTTI_DI_MARE -> new PastaFruttiDiMare();
+        };
+    }
+
+    private static ChefState simpleState(int code) {
+        return switch (code) {
+            case Checkpoint.STATE_CARRYING -> new CarryingState();
+            case Checkpoint.STATE_INTERACTING -> new InteractingState();
+            default -> new IdleState();
+        };
+    }
+
+    private static Station stationAt(WorldMap world, int index) throws IOException {
+        List<StationTile> stations = world.getAllStations();
+        if (index < 0 || index >= stations.size()) throw new IOException("Bad station index: " + index);
+        return stations.get(index).getStation();
+    }
+
+    private static Direction getDirection(ByteBuffer in) {
+        int d = in.get();
+        return d >= 0 ? DIRECTIONS[d] : null;
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,318 @@
+package model.engine;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.Preparable;
+import items.dish.DishBase;
+import items.ingredients.Fish;
+import items.ingredients.Meat;
+import items.ingredients.Pasta;
+import items.ingredients.Shrimp;
+import items.ingredients.Tomato;
+import items.utensils.BoilingPot;
+import items.utensils.DirtyPlate;
+import items.utensils.FryingPan;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.chef.ChefState;
+import model.chef.states.BusyCuttingState;
+import model.chef.states.BusyWashingState;
+import model.chef.states.CarryingState;
+import model.chef.states.InteractingState;
+import model.chef.states.MovingState;
+import model.orders.Order;
+import model.orders.OrderManager;
+import model.world.FloorItemIndex;
+import model.world.WorldMap;
+import model.world.tiles.StationTile;
+import stations.BaseStation;
+import stations.IngredientStorage;
+import stations.LuckyStation;
+import stations.PlateStorage;
+import stations.Station;
+import utils.Direction;
+
+// Menulis seluruh state sesi ke checkpoint biner (format di Checkpoint). Beberapa KB per sesi dan
+// tanpa refleksi/serialisasi Java, jadi cukup cepat untuk autosave setiap detik simulasi.
+// Harus dipanggil di thread engine (mis. lewat engine.submit) atau saat engine tidak berjalan.
+public final class CheckpointWriter {
+    private static final int INITIAL_SIZE = 16 * 1024;
+
+    private CheckpointWriter() {}
+
+    // BufferOverflowException jika out terlalu kecil; posisi out maju sebanyak byte yang ditulis
+    public static void write(GameSession session, ByteBuffer out) {
+        GameEngine engine = session.getEngine();
+        GameConfig config = engine.getConfig();
+        WorldMap world = session.getWorld();
+        out.order(ByteOrder.BIG_ENDIAN);
+
+        out.putInt(Checkpoint.MAGIC);
+        out.putShort((short) Checkpoint.VERSION);
+
+        out.putInt(config.fps);
+        out.putInt(config.stageTimeSeconds);
+        out.putInt(config.maxFailedStreak);
+        out.putInt(config.targetOrders);
+        out.putInt(config.minScore);
+        out.put((byte) (config.isSurvival ? 1 : 0));
+        putString(out, config.stageName);
+        out.putInt(config.maxActiveOrders);
+        out.putInt(config.orderSpawnInterval);
+        out.putInt(config.orderTimeLimit);
+
+        out.putLong(session.getSeed());
+        out.putLong(session.orderRng().getState());
+        out.putLong(session.effectRng().getState());
+        out.putLong(session.botRng().getState());
+        out.putLong(engine.getSimClock().getTick());
+        out.putInt(engine.getClock().getTimeRemaining());
+        out.put((byte) (engine.isFinished() ? 1 : 0));
+        out.put((byte) (engine.isWin() ? 1 : 0));
+        out.putInt(engine.getNextProjectileId());
+
+        writeWorld(out, world);
+        writeChefs(out, engine.chefsView(), world);
+        writeProjectiles(out, engine);
+        writeOrders(out, session.getOrders());
+        writeEffects(out, engine);
+    }
+
+    public static byte[] toBytes(GameSession session) {
+        int size = INITIAL_SIZE;
+        while (true) {
+            ByteBuffer buf = ByteBuffer.allocate(size);
+            try {
+                write(session, buf);
+            } catch (BufferOverflowException e) {
+                size <<= 1;
+                continue;
+            }
+            byte[] bytes = new byte[buf.position()];
+            buf.flip().get(bytes);
+            return bytes;
+        }
+    }
+
+    // Ditulis ke file sementara lalu di-rename, sehingga crash di tengah penulisan tidak merusak checkpoint lama
+    public static void save(GameSession session, Path path) throws IOException {
+        byte[] bytes = toBytes(session);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeWorld(ByteBuffer out, WorldMap world) {
+        out.putShort((short) world.getWidth());
+        out.putShort((short) world.getHeight());
+        out.put(world.getLayoutCodes());
+
+        List<StationTile> stations = world.getAllStations();
+        int ingredients = 0;
+        for (StationTile st : stations) if (st.getStation() instanceof IngredientStorage) ingredients++;
+        out.putShort((short) ingredients);
+        for (StationTile st : stations) {
+            if (st.getStation() instanceof IngredientStorage is) putString(out, is.getIngredientType());
+        }
+
+        out.putShort((short) stations.size());
+        for (StationTile tile : stations) {
+            Station st = tile.getStation();
+            out.put((byte) st.getType().ordinal());
+            if (st instanceof LuckyStation lucky) {
+                out.putInt(lucky.getCooldownTime());
+                out.putInt((int) lucky.getCooldownTicksLeft());
+            } else if (st instanceof PlateStorage storage) {
+                List<Item> plates = storage.getPlates();
+                out.putShort((short) plates.size());
+                for (int i = 0; i < plates.size(); i++) putItem(out, plates.get(i));
+            } else if (st instanceof BaseStation base) {
+                putItem(out, base.getStoredItem());
+            }
+        }
+
+        FloorItemIndex floor = world.getFloorItems();
+        out.putShort((short) floor.size());
+        floor.forEach(di -> {
+            out.putDouble(di.getX());
+            out.putDouble(di.getY());
+            putItem(out, di.getItem());
+        });
+    }
+
+    private static void writeChefs(ByteBuffer out, List<Chef> chefs, WorldMap world) {
+        out.put((byte) chefs.size());
+        for (int i = 0; i < chefs.size(); i++) {
+            Chef c = chefs.get(i);
+            putString(out, c.getId());
+            putString(out, c.getName());
+            out.putDouble(c.getExactX());
+            out.putDouble(c.getExactY());
+            putDirection(out, c.getDirection());
+            putDirection(out, c.getMoveInput());
+            out.put((byte) c.getCurrentAction().ordinal());
+            putItem(out, c.getHeldItem());
+
+            ChefState state = c.getState();
+            if (state instanceof BusyCuttingState cutting) {
+                out.put(Checkpoint.STATE_CUTTING);
+                out.putShort((short) stationIndex(world, cutting.getStation()));
+                out.put((byte) cutting.getProgress());
+                out.putInt((int) cutting.getTicksToNextStep());
+            } else if (state instanceof BusyWashingState washing) {
+                out.put(Checkpoint.STATE_WASHING);
+                out.putShort((short) stationIndex(world, washing.getStation()));
+                out.put((byte) washing.getProgress());
+                out.putInt((int) washing.getTicksToNextStep());
+            } else if (state instanceof MovingState moving) {
+                out.put(Checkpoint.STATE_MOVING);
+                out.put(simpleState(moving.getReturnState()));
+            } else {
+                out.put(simpleState(state));
+            }
+
+            out.putLong(c.getLastDashTime());
+            out.put((byte) (c.isDashing() ? 1 : 0));
+            putDirection(out, c.getDashDirection());
+            out.putDouble(c.getDashDistanceRemaining());
+        }
+    }
+
+    private static void writeProjectiles(ByteBuffer out, GameEngine engine) {
+        List<GameEngine.Projectile> projectiles = engine.getProjectiles();
+        List<Chef> chefs = engine.chefsView();
+        out.putShort((short) projectiles.size());
+        for (GameEngine.Projectile p : projectiles) {
+            out.putInt(p.id);
+            out.put((byte) chefs.indexOf(p.thrower));
+            putItem(out, p.item);
+            out.put((byte) (p.state == GameEngine.Projectile.State.FLYING ? 1 : 0));
+            out.putDouble(p.startX);
+            out.putDouble(p.startY);
+            out.putDouble(p.targetX);
+            out.putDouble(p.targetY);
+            out.putDouble(p.currentX);
+            out.putDouble(p.currentY);
+            out.putDouble(p.startTime);
+            out.putDouble(p.duration);
+            out.putDouble(p.progress);
+            out.putDouble(p.bounceStartX);
+            out.putDouble(p.bounceStartY);
+            out.putDouble(p.bounceTargetX);
+            out.putDouble(p.bounceTargetY);
+            out.putDouble(p.bounceStartTime);
+        }
+    }
+
+    private static void writeOrders(ByteBuffer out, OrderManager orders) {
+        out.putInt(orders.getScore());
+        out.putInt(orders.getCompletedCount());
+        out.putInt(orders.getFailedCount());
+        out.putInt(orders.getSpawnTimer());
+        out.putInt(orders.getNextOrderId());
+
+        List<Order> active = orders.getActiveOrders();
+        out.putShort((short) active.size());
+        for (Order o : active) {
+            out.putInt(o.getOrderId());
+            out.put((byte) o.getRecipe().getType().ordinal());
+            out.putInt(o.getTimeLeft());
+        }
+    }
+
+    private static void writeEffects(ByteBuffer out, GameEngine engine) {
+        EffectManager effects = engine.getEffects();
+        EffectManager.EffectType pending = effects.getPendingEffect();
+        out.put((byte) (pending != null ? pending.ordinal() : -1));
+        out.putLong(effects.getEffectEndTime());
+        for (EffectManager.EffectType type : EffectManager.EffectType.values()) {
+            out.putInt(effects.isActive(type) ? (int) effects.getEndTicksLeft(type) : 0);
+        }
+
+        long[] returns = engine.plateReturnTicks();
+        out.putShort((short) returns.length);
+        for (long ticks : returns) out.putInt((int) ticks);
+    }
+
+    private static void putItem(ByteBuffer out, Item item) {
+        byte kind = kindOf(item);
+        out.put(kind);
+        if (kind == Checkpoint.ITEM_NONE) return;
+        out.put((byte) item.getState().ordinal());
+
+        if (item instanceof Plate plate) {
+            out.put((byte) (plate.isClean() ? 1 : 0));
+            putContents(out, plate.getContents());
+        } else if (item instanceof DishBase dish) {
+            out.put((byte) dish.getRecipe().getType().ordinal());
+            putContents(out, dish.getIngredients());
+        } else if (item instanceof CookingDevice device) {
+            out.put((byte) (device.isCooking() ? 1 : 0));
+            out.putInt((int) device.getCookTicksLeft());
+            out.putInt((int) device.getBurnTicksLeft());
+            putContents(out, device.getContents());
+        }
+    }
+
+    private static void putContents(ByteBuffer out, List<Preparable> contents) {
+        out.put((byte) contents.size());
+        for (int i = 0; i < contents.size(); i++) putItem(out, (Item) contents.get(i));
+    }
+
+    private static byte kindOf(Item item) {
+        if (item == null) return Checkpoint.ITEM_NONE;
+        if (item instanceof Tomato) return Checkpoint.ITEM_TOMATO;
+        if (item instanceof Meat) return Checkpoint.ITEM_MEAT;
+        if (item instanceof Pasta) return Checkpoint.ITEM_PASTA;
+        if (item instanceof Shrimp) return Checkpoint.ITEM_SHRIMP;
+        if (item instanceof Fish) return Checkpoint.ITEM_FISH;
+        if (item instanceof Plate) return Checkpoint.ITEM_PLATE;
+        if (item instanceof DirtyPlate) return Checkpoint.ITEM_DIRTY_PLATE;
+        if (item instanceof BoilingPot) return Checkpoint.ITEM_BOILING_POT;
+        if (item instanceof FryingPan) return Checkpoint.ITEM_FRYING_PAN;
+        if (item instanceof DishBase) return Checkpoint.ITEM_DISH;
+        throw new IllegalArgumentException("Item type not supported by checkpoint: " + item.getClass().getName());
+    }
+
+    private static byte simpleState(ChefState state) {
+        if (state instanceof CarryingState) return Checkpoint.STATE_CARRYING;
+        if (state instanceof InteractingState) return Checkpoint.STATE_INTERACTING;
+        return Checkpoint.STATE_IDLE;
+    }
+
+    private static int stationIndex(WorldMap world, Station station) {
+        List<StationTile> stations = world.getAllStations();
+        for (int i = 0; i < stations.size(); i++) {
+            if (stations.get(i).getStation() == station) return i;
+        }
+        return -1;
+    }
+
+    private static void putDirection(ByteBuffer out, Direction dir) {
+        out.put((byte) (dir != null ? dir.ordinal() : -1));
+    }
+
+    private static void putString(ByteBuffer out, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+}
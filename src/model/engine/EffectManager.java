@@ -1,5 +1,9 @@
 package model.engine;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import items.core.CookingDevice;
@@ -7,16 +11,17 @@ import items.core.Item;
 import items.utensils.DirtyPlate;
 import items.utensils.Plate;
 import model.chef.Chef;
-import model.world.Tile;
+import model.world.FloorItemIndex;
+import model.world.FloorItemIndex.DroppedItem;
 import model.world.WorldMap;
 import model.world.tiles.StationTile;
-import model.world.tiles.WalkableTile;
+import stations.CookingStation;
 import stations.Station;
-import utils.TimerUtils;
+import stations.StationType;
+import utils.TimingWheel.Timeout;
 
+// Per GameSession (lihat GameSession.getEffects()), bukan singleton
 public class EffectManager {
-    private static EffectManager instance;
-
     public enum EffectType {
         FLASH, DRUNK, DOUBLE_MONEY, HELLS_KITCHEN, MAGIC_SPONGE
     }
@@ -26,17 +31,22 @@ public class EffectManager {
     private boolean isDoubleMoneyActive = false;
 
     private long effectEndTime = 0;
+    private SimClock clock;
 
     private int sessionToken = 0;
 
     private Runnable onSpinStart;
     private EffectType pendingEffect;
 
-    private EffectManager() {}
+    // Timer akhir efek berdurasi yang sedang aktif (untuk checkpoint)
+    private final Map<EffectType, Timeout> endTimers = new EnumMap<>(EffectType.class);
+
+    private static final StationType[] PLATE_HOLDERS = { StationType.WASHING, StationType.PLATE_STORAGE };
+
+    private final Random random;
 
-    public static EffectManager getInstance() {
-        if (instance == null) instance = new EffectManager();
-        return instance;
+    public EffectManager(Random random) {
+        this.random = random;
     }
 
     public void setOnSpinStart(Runnable onSpinStart) {
@@ -45,7 +55,7 @@ public class EffectManager {
 
     // --- LOGIKA SPIN ---
     public void startSpin() {
-        int rng = new Random().nextInt(EffectType.values().length);
+        int rng = random.nextInt(EffectType.values().length);
         pendingEffect = EffectType.values()[rng];
 
         System.out.println("🎰 Gacha Result Determined: " + pendingEffect);
@@ -62,11 +72,12 @@ public class EffectManager {
         if (pendingEffect == null) return;
 
         int currentToken = sessionToken;
+        clock = engine.getSimClock();
 
         switch (pendingEffect) {
-            case FLASH -> activateFlash(currentToken);
-            case DRUNK -> activateDrunk(currentToken);
-            case DOUBLE_MONEY -> activateDoubleMoney(currentToken);
+            case FLASH -> activateFlash(engine, currentToken);
+            case DRUNK -> activateDrunk(engine, currentToken);
+            case DOUBLE_MONEY -> activateDoubleMoney(engine, currentToken);
             case HELLS_KITCHEN -> triggerHellsKitchen(engine);
             case MAGIC_SPONGE -> triggerMagicSponge(engine);
         }
@@ -83,6 +94,7 @@ public class EffectManager {
         isDoubleMoneyActive = false;
         effectEndTime = 0;
         pendingEffect = null;
+        endTimers.clear();
         sessionToken++;
         System.out.println("✨ Effect Manager Reset! (Session: " + sessionToken + ")");
     }
@@ -91,60 +103,48 @@ public class EffectManager {
     // LOGIKA EFEK
     // ==========================================
 
-    private void activateFlash(int token) {
+    private void activateFlash(GameEngine engine, int token) {
         if (isFlashActive) return;
         isFlashActive = true;
-        effectEndTime = System.currentTimeMillis() + 15000;
-
-        TimerUtils.schedule(() -> {
-            if (sessionToken != token) return;
-            isFlashActive = false;
-            System.out.println("⚡ Effect Ended: The Flash");
-        }, 15000);
+        effectEndTime = clock.nowMillis() + 15000;
+        scheduleEnd(engine, EffectType.FLASH, token, engine.getSimClock().ticksFor(15000));
     }
 
-    private void activateDrunk(int token) {
+    private void activateDrunk(GameEngine engine, int token) {
         if (isDrunkActive) return;
         isDrunkActive = true;
-        effectEndTime = System.currentTimeMillis() + 10000;
-
-        TimerUtils.schedule(() -> {
-            if (sessionToken != token) return;
-            isDrunkActive = false;
-            System.out.println("🥴 Effect Ended: Drunk Chef");
-        }, 10000);
+        effectEndTime = clock.nowMillis() + 10000;
+        scheduleEnd(engine, EffectType.DRUNK, token, engine.getSimClock().ticksFor(10000));
     }
 
-    private void activateDoubleMoney(int token) {
+    private void activateDoubleMoney(GameEngine engine, int token) {
         if (isDoubleMoneyActive) return;
         isDoubleMoneyActive = true;
-        effectEndTime = System.currentTimeMillis() + 20000;
+        effectEndTime = clock.nowMillis() + 20000;
+        scheduleEnd(engine, EffectType.DOUBLE_MONEY, token, engine.getSimClock().ticksFor(20000));
+    }
 
-        TimerUtils.schedule(() -> {
+    private void scheduleEnd(GameEngine engine, EffectType type, int token, long ticks) {
+        endTimers.put(type, engine.scheduleTicks(() -> {
             if (sessionToken != token) return;
-            isDoubleMoneyActive = false;
-            System.out.println("💰 Effect Ended: Double Money");
-        }, 20000);
+            endTimers.remove(type);
+            switch (type) {
+                case FLASH -> { isFlashActive = false; System.out.println("⚡ Effect Ended: The Flash"); }
+                case DRUNK -> { isDrunkActive = false; System.out.println("🥴 Effect Ended: Drunk Chef"); }
+                case DOUBLE_MONEY -> { isDoubleMoneyActive = false; System.out.println("💰 Effect Ended: Double Money"); }
+                default -> { }
+            }
+        }, ticks));
     }
 
     private void triggerHellsKitchen(GameEngine engine) {
         System.out.println("🔥 EFFECT: HELL'S KITCHEN!");
-        WorldMap map = engine.getWorld();
-        boolean burned = false;
-
-        for (int y = 0; y < map.getHeight(); y++) {
-            for (int x = 0; x < map.getWidth(); x++) {
-                Tile t = map.getTile(new utils.Position(x, y));
-                if (t instanceof StationTile st) {
-                    Item item = st.getStation().peek();
-                    if (item instanceof CookingDevice dev && dev.isCooking()) {
-                        dev.forceBurn();
-                        burned = true;
-                        break;
-                    }
-                }
+        for (CookingStation cs : engine.getWorld().getCookingStations()) {
+            Item item = cs.peek();
+            if (item instanceof CookingDevice dev && dev.isCooking()) {
+                dev.forceBurn();
+                break;
             }
-            if (burned) break;
         }
     }
 
@@ -152,25 +152,26 @@ public class EffectManager {
         System.out.println("✨ EFFECT: MAGIC SPONGE!");
         WorldMap map = engine.getWorld();
 
-        for (int y = 0; y < map.getHeight(); y++) {
-            for (int x = 0; x < map.getWidth(); x++) {
-                Tile t = map.getTile(new utils.Position(x, y));
-
-                if (t instanceof StationTile st) {
-                    Station station = st.getStation();
-                    if (station.peek() instanceof DirtyPlate) {
-                        station.pick();
-                        station.place(new Plate());
-                    }
-                }
-
-                if (t instanceof WalkableTile wt && wt.getItem() instanceof DirtyPlate) {
-                    wt.pick();
-                    wt.setItem(new Plate());
+        // Hanya station yang bisa menampung DirtyPlate
+        for (StationType type : PLATE_HOLDERS) {
+            for (StationTile st : map.getStations(type)) {
+                Station station = st.getStation();
+                if (station.peek() instanceof DirtyPlate) {
+                    station.pick();
+                    station.place(new Plate());
                 }
             }
         }
 
+        FloorItemIndex floor = map.getFloorItems();
+        List<DroppedItem> dirty = new ArrayList<>();
+        floor.forEach(di -> { if (di.getItem() instanceof DirtyPlate) dirty.add(di); });
+        for (DroppedItem di : dirty) {
+            double x = di.getX(), y = di.getY();
+            floor.remove(di);
+            floor.add(new Plate(), x, y);
+        }
+
         for (Chef c : engine.getChefs()) {
             if (c.getHeldItem() instanceof DirtyPlate) {
                 c.setHeldItem(new Plate());
@@ -182,7 +183,45 @@ public class EffectManager {
     public boolean isDrunk() { return isDrunkActive; }
     public boolean isDoubleMoney() { return isDoubleMoneyActive; }
 
+    // --- CHECKPOINT ---
+    public boolean isActive(EffectType type) {
+        return switch (type) {
+            case FLASH -> isFlashActive;
+            case DRUNK -> isDrunkActive;
+            case DOUBLE_MONEY -> isDoubleMoneyActive;
+            default -> false;
+        };
+    }
+
+    public long getEndTicksLeft(EffectType type) {
+        Timeout t = endTimers.get(type);
+        return t != null ? t.remainingTicks() : 0;
+    }
+
+    long getEffectEndTime() { return effectEndTime; }
+
+    // Efek berdurasi dipulihkan dengan sisa tick-nya; efek instan (HELLS_KITCHEN, MAGIC_SPONGE) tidak punya state
+    void restore(GameEngine engine, EffectType pending, long endTime, long[] endTicks) {
+        clock = engine.getSimClock();
+        pendingEffect = pending;
+        effectEndTime = endTime;
+        sessionToken++;     // timer lama (jika ada) tidak berlaku lagi
+        endTimers.clear();
+        for (EffectType type : EffectType.values()) {
+            long ticks = endTicks[type.ordinal()];
+            boolean active = ticks > 0;
+            switch (type) {
+                case FLASH -> isFlashActive = active;
+                case DRUNK -> isDrunkActive = active;
+                case DOUBLE_MONEY -> isDoubleMoneyActive = active;
+                default -> { continue; }
+            }
+            if (active) scheduleEnd(engine, type, sessionToken, ticks);
+        }
+    }
+
     public long getTimeRemaining() {
-        return Math.max(0, effectEndTime - System.currentTimeMillis());
+        if (clock == null) return 0;
+        return Math.max(0, effectEndTime - clock.nowMillis());
     }
 }
\ No newline at end of file
@@ -0,0 +1,269 @@
+package model.engine;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.ItemState;
+import items.core.Preparable;
+import items.utensils.BoilingPot;
+import items.utensils.FryingPan;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.orders.Order;
+import model.recipes.DishType;
+import model.world.FloorItemIndex;
+import model.world.tiles.StationTile;
+import utils.Direction;
+
+// State yang dibutuhkan renderer untuk satu tick, disalin dari thread engine.
+// Setelah di-publish lewat TripleBuffer isinya tidak berubah sampai dikembalikan ke writer;
+// array dan ItemView di-reuse antar tick sehingga capture tidak membuat garbage di steady state.
+public final class FrameSnapshot {
+    public enum ItemKind { ITEM, PLATE, POT, PAN }
+
+    public static final class ItemView {
+        private String name;
+        private ItemState state;
+        private ItemKind kind;
+        private boolean clean;
+        private boolean cooking;
+        private ItemView[] contents = new ItemView[4];
+        private int contentCount;
+
+        public String getName() { return name; }
+        public ItemState getState() { return state; }
+        public ItemKind getKind() { return kind; }
+        public boolean isClean() { return clean; }
+        public boolean isCooking() { return cooking; }
+        public int getContentCount() { return contentCount; }
+        public ItemView getContent(int i) { return contents[i]; }
+    }
+
+    private boolean valid = false;
+    private long tick;
+    private long publishNanos;
+    private long tickNanos;
+
+    // HUD
+    private int timeRemaining;
+    private int score;
+    private boolean flash, drunk, doubleMoney;
+    private long effectRemainingMs;
+    private int orderCount;
+    private DishType[] orderDish = new DishType[4];
+    private int[] orderTimeLeft = new int[4];
+
+    // Chef (index sama dengan GameEngine.getChefs())
+    private int chefCount;
+    private double[] chefX = new double[4], chefY = new double[4];
+    private double[] chefPrevX = new double[4], chefPrevY = new double[4];
+    private Direction[] chefDir = new Direction[4];
+    private float[] chefProgress = new float[4];
+    private ItemView[] chefHeld = new ItemView[4];
+
+    // Projectile (prev = posisi tick sebelumnya untuk projectile yang sama)
+    private int projectileCount;
+    private int[] projectileId = new int[8];
+    private double[] projectileX = new double[8], projectileY = new double[8];
+    private double[] projectilePrevX = new double[8], projectilePrevY = new double[8];
+    private ItemView[] projectileItem = new ItemView[8];
+
+    // Item di lantai dan di atas station (index sama dengan WorldMap.getAllStations())
+    private int floorCount;
+    private double[] floorX = new double[16], floorY = new double[16];
+    private ItemView[] floorItem = new ItemView[16];
+    private int stationCount;
+    private ItemView[] stationItem = new ItemView[0];
+
+    private ItemView[] pool = new ItemView[32];
+    private int poolUsed;
+    private final Consumer<FloorItemIndex.DroppedItem> floorSink = this::addFloorItem;
+
+    public boolean isValid() { return valid; }
+    public long getTick() { return tick; }
+    public long getPublishNanos() { return publishNanos; }
+    public long getTickNanos() { return tickNanos; }
+
+    public int getTimeRemaining() { return timeRemaining; }
+    public int getScore() { return score; }
+    public boolean isFlash() { return flash; }
+    public boolean isDrunk() { return drunk; }
+    public boolean isDoubleMoney() { return doubleMoney; }
+    public long getEffectRemainingMs() { return effectRemainingMs; }
+    public int getOrderCount() { return orderCount; }
+    public DishType getOrderDish(int i) { return orderDish[i]; }
+    public int getOrderTimeLeft(int i) { return orderTimeLeft[i]; }
+
+    public int getChefCount() { return chefCount; }
+    public double getChefX(int i) { return chefX[i]; }
+    public double getChefY(int i) { return chefY[i]; }
+    public double getChefPrevX(int i) { return chefPrevX[i]; }
+    public double getChefPrevY(int i) { return chefPrevY[i]; }
+    public Direction getChefDirection(int i) { return chefDir[i]; }
+    public float getChefProgress(int i) { return chefProgress[i]; }
+    public ItemView getChefHeld(int i) { return chefHeld[i]; }
+
+    public int getProjectileCount() { return projectileCount; }
+    public int getProjectileId(int i) { return projectileId[i]; }
+    public double getProjectileX(int i) { return projectileX[i]; }
+    public double getProjectileY(int i) { return projectileY[i]; }
+    public double getProjectilePrevX(int i) { return projectilePrevX[i]; }
+    public double getProjectilePrevY(int i) { return projectilePrevY[i]; }
+    public ItemView getProjectileItem(int i) { return projectileItem[i]; }
+
+    public int getFloorCount() { return floorCount; }
+    public double getFloorX(int i) { return floorX[i]; }
+    public double getFloorY(int i) { return floorY[i]; }
+    public ItemView getFloorItem(int i) { return floorItem[i]; }
+
+    public int getStationCount() { return stationCount; }
+    public ItemView getStationItem(int i) { return stationItem[i]; }
+
+    // --- CAPTURE (hanya thread engine, lewat SnapshotPublisher) ---
+
+    void capture(GameEngine engine, SnapshotPublisher history) {
+        poolUsed = 0;
+        SimClock clock = engine.getSimClock();
+        tick = clock.getTick();
+        tickNanos = 1_000_000_000L / clock.getTicksPerSecond();
+
+        timeRemaining = engine.getClock().getTimeRemaining();
+        score = engine.getOrders().getScore();
+        EffectManager effects = engine.getEffects();
+        flash = effects.isFlash();
+        drunk = effects.isDrunk();
+        doubleMoney = effects.isDoubleMoney();
+        effectRemainingMs = effects.getTimeRemaining();
+
+        List<Order> orders = engine.getOrders().getActiveOrders();
+        orderCount = orders.size();
+        if (orderDish.length < orderCount) {
+            orderDish = new DishType[orderCount * 2];
+            orderTimeLeft = new int[orderCount * 2];
+        }
+        for (int i = 0; i < orderCount; i++) {
+            orderDish[i] = orders.get(i).getRecipe().getType();
+            orderTimeLeft[i] = orders.get(i).getTimeLeft();
+        }
+
+        captureChefs(engine.chefsView(), history);
+        captureProjectiles(engine.getProjectiles(), history);
+        captureFloor(engine.getWorld().getFloorItems());
+        captureStations(engine.getWorld().getAllStations());
+
+        valid = true;
+        publishNanos = System.nanoTime();
+    }
+
+    private void captureChefs(List<Chef> chefs, SnapshotPublisher history) {
+        chefCount = chefs.size();
+        if (chefX.length < chefCount) {
+            int n = chefCount * 2;
+            chefX = new double[n]; chefY = new double[n];
+            chefPrevX = new double[n]; chefPrevY = new double[n];
+            chefDir = new Direction[n]; chefProgress = new float[n]; chefHeld = new ItemView[n];
+        }
+        for (int i = 0; i < chefCount; i++) {
+            Chef c = chefs.get(i);
+            chefX[i] = c.getExactX();
+            chefY[i] = c.getExactY();
+            chefPrevX[i] = history.prevChefX(i, chefX[i]);
+            chefPrevY[i] = history.prevChefY(i, chefY[i]);
+            chefDir[i] = c.getDirection();
+            chefProgress[i] = c.getActionProgress();
+            chefHeld[i] = view(c.getHeldItem());
+        }
+    }
+
+    private void captureProjectiles(List<GameEngine.Projectile> projectiles, SnapshotPublisher history) {
+        projectileCount = projectiles.size();
+        if (projectileX.length < projectileCount) {
+            int n = projectileCount * 2;
+            projectileId = new int[n];
+            projectileX = new double[n]; projectileY = new double[n];
+            projectilePrevX = new double[n]; projectilePrevY = new double[n];
+            projectileItem = new ItemView[n];
+        }
+        for (int i = 0; i < projectileCount; i++) {
+            GameEngine.Projectile p = projectiles.get(i);
+            projectileId[i] = p.getId();
+            projectileX[i] = p.getX();
+            projectileY[i] = p.getY();
+            int prev = history.findProjectile(p.getId());
+            projectilePrevX[i] = (prev >= 0) ? history.prevProjectileX(prev) : projectileX[i];
+            projectilePrevY[i] = (prev >= 0) ? history.prevProjectileY(prev) : projectileY[i];
+            projectileItem[i] = view(p.getItem());
+        }
+    }
+
+    private void captureFloor(FloorItemIndex floor) {
+        int n = floor.size();
+        if (floorX.length < n) {
+            floorX = new double[n * 2]; floorY = new double[n * 2];
+            floorItem = new ItemView[n * 2];
+        }
+        floorCount = 0;
+        floor.forEach(floorSink);
+    }
+
+    private void addFloorItem(FloorItemIndex.DroppedItem di) {
+        if (floorCount == floorX.length) return;
+        floorX[floorCount] = di.getX();
+        floorY[floorCount] = di.getY();
+        floorItem[floorCount] = view(di.getItem());
+        floorCount++;
+    }
+
+    private void captureStations(List<StationTile> stations) {
+        stationCount = stations.size();
+        if (stationItem.length < stationCount) stationItem = new ItemView[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            stationItem[i] = view(stations.get(i).getStation().peek());
+        }
+    }
+
+    private ItemView view(Item item) {
+        if (item == null) return null;
+        ItemView v = obtain();
+        v.name = item.getName();
+        v.state = item.getState();
+        v.contentCount = 0;
+        v.clean = true;
+        v.cooking = false;
+
+        List<Preparable> contents = null;
+        if (item instanceof Plate plate) {
+            v.kind = ItemKind.PLATE;
+            v.clean = plate.isClean();
+            contents = plate.getContents();
+        } else if (item instanceof CookingDevice dev) {
+            v.kind = (dev instanceof BoilingPot) ? ItemKind.POT : (dev instanceof FryingPan) ? ItemKind.PAN : ItemKind.ITEM;
+            v.cooking = dev.isCooking();
+            contents = dev.getContents();
+        } else {
+            v.kind = ItemKind.ITEM;
+        }
+
+        if (contents != null) {
+            if (v.contents.length < contents.size()) v.contents = new ItemView[contents.size() * 2];
+            for (int i = 0; i < contents.size(); i++) {
+                if (contents.get(i) instanceof Item ing) v.contents[v.contentCount++] = view(ing);
+            }
+        }
+        return v;
+    }
+
+    private ItemView obtain() {
+        if (poolUsed == pool.length) {
+            ItemView[] bigger = new ItemView[pool.length * 2];
+            System.arraycopy(pool, 0, bigger, 0, pool.length);
+            pool = bigger;
+        }
+        ItemView v = pool[poolUsed];
+        if (v == null) v = pool[poolUsed] = new ItemView();
+        poolUsed++;
+        return v;
+    }
+}
@@ -11,6 +11,10 @@ public class GameClock {
         if (timeRemaining > 0) timeRemaining--;
     }
 
+    void restore(int seconds) {
+        this.timeRemaining = seconds;
+    }
+
     public int getTimeRemaining() {
         return timeRemaining;
     }
@@ -1,5 +1,7 @@
 package model.engine;
 
+import model.world.WorldMap;
+
 public class GameConfig {
     public int stageTimeSeconds = 180;
     public int maxFailedStreak = 5;
@@ -11,6 +13,34 @@ public class GameConfig {
     public boolean isSurvival = false;
     public String stageName = "Custom Stage";
 
+    // Ukuran map dalam tile (minimal 14x10, maksimal WorldMap.MAX_SIZE per sisi). Map yang lebih besar dari
+    // viewport 14x10 digambar per chunk dengan kamera yang mengikuti chef
+    public int mapWidth = Integer.getInteger("cook.mapWidth", WorldMap.DEFAULT_WIDTH);
+    public int mapHeight = Integer.getInteger("cook.mapHeight", WorldMap.DEFAULT_HEIGHT);
+
+    // Order: batas order aktif bersamaan, jeda spawn dan batas waktu per order (detik).
+    // Stage rush-hour: maxOrders ratusan dengan jeda 1 detik dan batas waktu panjang
+    public int maxActiveOrders = Integer.getInteger("cook.maxOrders", 3);
+    public int orderSpawnInterval = Integer.getInteger("cook.orderInterval", 10);
+    public int orderTimeLimit = Integer.getInteger("cook.orderTimeLimit", 90);
+
+    // Rendering: false = Swing repaint (default), true = Canvas + BufferStrategy di thread render sendiri
+    public boolean activeRendering = Boolean.getBoolean("cook.activeRendering");
+    public int renderBuffers = 3;       // 2 = double buffering, 3 = triple buffering
+    public int targetFrameRate = 60;    // pacing thread render (hanya mode aktif)
+
+    // Folder rekaman input (.cbr) untuk replay; null = tidak merekam
+    public String replayDir = System.getProperty("cook.replayDir", "replays");
+
+    // Server jaringan (model.net.GameServer): port default dan snapshot per detik ke tiap client
+    public int netPort = Integer.getInteger("cook.netPort", 7777);
+    public int netSendRate = Integer.getInteger("cook.netSendRate", 20);
+
+    // Autopilot (model.bot.Autopilot): chef yang tidak dipegang pemain dijalankan bot di single-player.
+    // botBudget = jumlah evaluasi (job x bot) maksimum per tick untuk assignment
+    public boolean autopilot = !Boolean.getBoolean("cook.noAutopilot");
+    public int botBudget = Integer.getInteger("cook.botBudget", 64);
+
     public GameConfig() {}
 
     public GameConfig(String name, int time, int maxFail, int targetOrders, int minScore, boolean isSurvival) {
@@ -1,9 +1,11 @@
 package model.engine;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
 
 import items.core.Item;
 import items.core.ItemState;
@@ -11,38 +13,52 @@ import items.core.Preparable;
 import items.utensils.DirtyPlate;
 import model.chef.Chef;
 import model.orders.OrderManager;
+import model.world.FloorItemIndex;
+import model.world.FloorItemIndex.DroppedItem;
 import model.world.Tile;
 import model.world.WorldMap;
+import model.world.tiles.StationTile;
 import model.world.tiles.WalkableTile;
-import model.world.tiles.WalkableTile.DroppedItem;
 import stations.Station;
+import stations.StationType;
 import utils.Direction;
 import utils.Position;
+import utils.TimingWheel;
+import utils.TimingWheel.Timeout;
 import view.Observer;
-import view.gui.AssetManager;
 
 public class GameEngine {
-    private static GameEngine instance;
+    private final GameSession session;
+    private final EffectManager effects;
     private final WorldMap world;
     private final OrderManager orders;
     private final GameClock clock;
+    private final SimClock simClock;
     private final List<Chef> chefs;
     private final List<Observer> observers = new ArrayList<>();
 
     private final GameConfig config;
-    private final List<Projectile> projectiles = new CopyOnWriteArrayList<>();
+    // Hanya disentuh thread engine; renderer/jaringan membaca salinan di FrameSnapshot/NetState
+    private final List<Projectile> projectiles = new ArrayList<>();
     
-    private final List<DelayedTask> delayedTasks = new CopyOnWriteArrayList<>();
-    private record DelayedTask(long executeTime, Runnable action) {}
-
+    private final TimingWheel timers;
+    private final Queue<Runnable> pendingActions = new ConcurrentLinkedQueue<>();
+    // DirtyPlate yang akan kembali ke storage; delay sama sehingga urutan jatuh tempo = urutan antrian
+    private final ArrayDeque<Timeout> plateReturns = new ArrayDeque<>();
+
+    private AudioSink audio = AudioSink.SILENT;
+    private InputRecorder recorder;
+    private volatile SnapshotPublisher snapshots;
+    private int nextProjectileId = 1;
     private Runnable onGameEnd;
     private boolean isRunning = false;
     private boolean finished = false;
     private boolean isWin = false;
 
+    private static final Direction[] DIRECTIONS = Direction.values();
     private static final double MOVEMENT_SPEED = 3.0;
     private static final double DASH_SPEED = 10.0;
-    private static final double DASH_TOTAL_DIST = 120.0;
+    private static final double DASH_TOTAL_DIST = 2.0;
 
     private static final double CHEF_SIZE = 0.6;
     private static final double ITEM_SIZE = 0.4;
@@ -52,19 +68,31 @@ public class GameEngine {
     private static final double BOUNCE_DURATION = 0.3;
     private static final double BOUNCE_DISTANCE = 0.5;
 
-    public GameEngine(WorldMap world, OrderManager orders, GameConfig config) {
+    // Dibuat oleh GameSession, yang memiliki world/order/efek untuk engine ini
+    GameEngine(GameSession session, WorldMap world, OrderManager orders, GameConfig config, SimClock simClock) {
+        this.session = session;
+        this.effects = session.getEffects();
         this.world = world;
         this.orders = orders;
         this.config = config;
         this.clock = new GameClock(config.stageTimeSeconds);
+        this.simClock = simClock;
+        this.timers = new TimingWheel(simClock.getTick());
         this.chefs = new ArrayList<>();
-        instance = this;
     }
 
-    public static GameEngine getInstance() { return instance; }
+    // Akses suara untuk item/station/state dari sesi yang sedang di-step; diam jika tidak ada sesi
+    public static AudioSink audio() {
+        GameSession s = GameSession.currentOrNull();
+        return (s != null) ? s.getEngine().audio : AudioSink.SILENT;
+    }
+
+    public void setAudioSink(AudioSink audio) { this.audio = (audio != null) ? audio : AudioSink.SILENT; }
+    public AudioSink getAudioSink() { return audio; }
 
     public void addChef(Chef chef) { chefs.add(chef); }
     public List<Chef> getChefs() { return new ArrayList<>(chefs); }
+    List<Chef> chefsView() { return chefs; }
     public List<Projectile> getProjectiles() { return projectiles; }
     public void setOnGameEnd(Runnable onGameEnd) { this.onGameEnd = onGameEnd; }
     public boolean isWin() { return isWin; }
@@ -73,27 +101,81 @@ public class GameEngine {
     public void start() {
         isRunning = true;
         long lastTime = System.nanoTime();
-        double amountOfTicks = config.fps;
-        double ns = 1000000000 / amountOfTicks;
+        double ns = 1000000000.0 / simClock.getTicksPerSecond();
         double delta = 0;
-        long lastTimerCheck = System.currentTimeMillis();
 
         while (isRunning) {
             long now = System.nanoTime();
             delta += (now - lastTime) / ns;
             lastTime = now;
 
-            while (delta >= 1) {
-                updatePhysics();
-                notifyObservers();
+            while (delta >= 1 && isRunning) {
+                step();
                 delta--;
             }
+            try { Thread.sleep(2); } catch (InterruptedException e) {}
+        }
+    }
+
+    // Aksi dari thread lain (input EDT, overlay) dijalankan di thread engine pada awal tick berikutnya
+    public void submit(Runnable action) {
+        pendingActions.add(action);
+    }
+
+    // --- PLAYER INPUT ---
+    // Semua input pemain lewat sini supaya dieksekusi di tick yang pasti (deterministik untuk replay)
+    public void submitInput(InputOp op, Chef chef, int arg) {
+        submit(() -> applyInput(op, chef != null ? chefs.indexOf(chef) : -1, arg));
+    }
+
+    public void submitInput(InputOp op, int chefIndex, int arg) {
+        submit(() -> applyInput(op, chefIndex, arg));
+    }
+
+    // Input bersyarat (bot): guard dicek saat input dijalankan, jadi input yang masih antre ketika chef
+    // diambil alih pemain dibuang meski pelepasannya di-submit belakangan di tick yang sama
+    public void submitInput(InputOp op, Chef chef, int arg, BooleanSupplier guard) {
+        submit(() -> {
+            if (guard.getAsBoolean()) applyInput(op, chef != null ? chefs.indexOf(chef) : -1, arg);
+        });
+    }
 
-            if (System.currentTimeMillis() - lastTimerCheck >= 1000) {
-                lastTimerCheck += 1000;
-                tick();
+    public void setInputRecorder(InputRecorder recorder) { this.recorder = recorder; }
+
+    private void applyInput(InputOp op, int chefIndex, int arg) {
+        Chef chef = (chefIndex >= 0 && chefIndex < chefs.size()) ? chefs.get(chefIndex) : null;
+        if (chef == null && op != InputOp.APPLY_EFFECT) return;
+        if (recorder != null) recorder.record(simClock.getTick(), op, chefIndex, arg);
+
+        switch (op) {
+            case MOVE -> chef.setMoveInput(arg == 0 ? null : DIRECTIONS[arg - 1]);
+            case INTERACT -> interactAt(chef, chef.getFacingPosition());
+            case PICK_OR_PLACE -> {
+                if (chef.getHeldItem() == null) pickAt(chef, chef.getFacingPosition());
+                else placeAt(chef, chef.getFacingPosition());
             }
-            try { Thread.sleep(2); } catch (InterruptedException e) {}
+            case PICK -> pickAt(chef, chef.getFacingPosition());
+            case PLACE -> placeAt(chef, chef.getFacingPosition());
+            case THROW -> throwItem(chef);
+            case DASH -> dashChef(chef);
+            case APPLY_EFFECT -> effects.applyPendingEffect(this);
+        }
+    }
+
+    // Satu langkah simulasi: aksi tertunda, fisika, observer, lalu tick per detik saat jam simulasi melewati batas detik
+    // Sesi di-bind ke thread selama step agar station/item/state bisa memakai GameSession.current()
+    public void step() {
+        GameSession previous = GameSession.bind(session);
+        try {
+            Runnable action;
+            while ((action = pendingActions.poll()) != null) action.run();
+
+            updatePhysics();
+            notifyObservers();
+            if (simClock.isSecondBoundary()) tick();
+            if (snapshots != null) snapshots.publish(this);
+        } finally {
+            GameSession.restore(previous);
         }
     }
 
@@ -120,36 +202,50 @@ public class GameEngine {
         if (onGameEnd != null) onGameEnd.run();
     }
 
-    private void updatePhysics() {
-        Iterator<Projectile> it = projectiles.iterator();
-        while (it.hasNext()) {
-            Projectile p = it.next();
-            if (p.update()) projectiles.remove(p);
-        }
-        
-        for (Chef chef : chefs) updateChefPosition(chef);
-        
-        long now = System.currentTimeMillis();
-        Iterator<DelayedTask> taskIt = delayedTasks.iterator();
-        while (taskIt.hasNext()) {
-            DelayedTask task = taskIt.next();
-            if (now >= task.executeTime) {
-                task.action.run();
-                delayedTasks.remove(task);
+    void updatePhysics() {
+        simClock.advance();
+
+        // Loop berindeks mundur + swap-remove: tanpa iterator dan tanpa geser/copy array per tick.
+        // Elemen terakhir yang dipindah ke i sudah di-update di iterasi sebelumnya
+        for (int i = projectiles.size() - 1; i >= 0; i--) {
+            if (projectiles.get(i).update()) {
+                int last = projectiles.size() - 1;
+                projectiles.set(i, projectiles.get(last));
+                projectiles.remove(last);
             }
         }
+
+        for (int i = 0; i < chefs.size(); i++) updateChefPosition(chefs.get(i));
+        
+        timers.advanceTo(simClock.getTick());
     }
 
+    // --- SIMULATED TIMERS ---
+    // Satu-satunya mekanisme timer gameplay; hanya boleh dipanggil dari thread engine
+    public Timeout schedule(Runnable action, long delayMs) {
+        return timers.schedule(action, simClock.ticksFor(delayMs));
+    }
+
+    // Dalam tick, untuk memulihkan timer dari checkpoint tanpa pembulatan ulang
+    public Timeout scheduleTicks(Runnable action, long delayTicks) {
+        return timers.schedule(action, delayTicks);
+    }
+
+    public TimingWheel getTimers() { return timers; }
+
+    // --- RENDER SNAPSHOTS ---
+    // Renderer membaca snapshot immutable per tick, bukan objek model yang sedang dimutasi thread engine.
+    // Opt-in: mode headless tidak membayar biaya capture.
+    public synchronized SnapshotPublisher enableSnapshots() {
+        if (snapshots == null) snapshots = new SnapshotPublisher();
+        return snapshots;
+    }
+
+    public SnapshotPublisher getSnapshots() { return snapshots; }
+
     // --- SHARED HELPER ---
     private boolean isSpaceFree(double cx, double cy, double radius) {
-        Position p = new Position((int)cx, (int)cy);
-        Tile t = world.getTile(p);
-        if (t instanceof WalkableTile wt) {
-            for (DroppedItem di : wt.getItems()) {
-                if (dist(di.x, di.y, cx, cy) < (di.item.getSize() + radius) * 0.8) return false;
-            }
-        }
-        return true;
+        return !world.getFloorItems().anyOverlapping(cx, cy, radius, 0.8);
     }
 
     private double dist(double x1, double y1, double x2, double y2) {
@@ -170,12 +266,12 @@ public class GameEngine {
         if (chef.isDashing()) {
             speed = DASH_SPEED;
             moveDir = chef.getDashDirection();
-            chef.updateDash(speed);
+            chef.updateDash(speed * simClock.getTickSeconds());
         } else {
             moveDir = chef.getMoveInput();
             if (moveDir != null) {
                 speed = MOVEMENT_SPEED;
-                if (EffectManager.getInstance().isFlash()) speed *= 1.5;
+                if (effects.isFlash()) speed *= 1.5;
                 chef.setDirection(moveDir);
             }
         }
@@ -200,7 +296,7 @@ public class GameEngine {
             case DOWN_RIGHT -> { dx = speed * diagonalFactor; dy = speed * diagonalFactor; }
         }
 
-        double speedPerTick = 1.0 / 60.0;
+        double speedPerTick = simClock.getTickSeconds();
 
         double nextExactX = chef.getExactX() + dx * speedPerTick;
         if (!checkAABBCollision(nextExactX, chef.getExactY(), CHEF_SIZE)) {
@@ -217,35 +313,22 @@ public class GameEngine {
         }
     }
 
-    private boolean checkAABBCollision(double tlx, double tly, double size) {
-        
+    boolean checkAABBCollision(double tlx, double tly, double size) {
         double minX = tlx + (1.0 - size) / 2.0;
         double maxX = minX + size;
-        
-        double maxY = tly + 1.0; 
-        double minY = maxY - size;
 
-        int startTileX = (int) Math.floor(minX);
-        int endTileX = (int) Math.floor(maxX - 0.001);
-        int startTileY = (int) Math.floor(minY);
-        int endTileY = (int) Math.floor(maxY - 0.001);
+        double maxY = tly + 1.0;
+        double minY = maxY - size;
 
-        for (int y = startTileY; y <= endTileY; y++) {
-            for (int x = startTileX; x <= endTileX; x++) {
-                Position p = new Position(x, y);
-                if (!world.inBounds(p)) return true;
-                if (!world.getTile(p).isWalkable()) return true;
-            }
-        }
-        return false;
+        return world.isAreaBlocked(minX, minY, maxX, maxY);
     }
 
     public void dashChef(Chef chef) {
-        if (chef.isBusy() || !chef.canDash()) return;
+        if (chef.isBusy() || !chef.canDash(simClock.nowMillis(), effects.isFlash())) return;
         Direction dashDir = chef.getMoveInput();
         if (dashDir == null) dashDir = chef.getDirection();
-        AssetManager.getInstance().playSound("dash");
-        chef.startDash(dashDir, DASH_TOTAL_DIST);
+        audio.playSound("dash");
+        chef.startDash(dashDir, DASH_TOTAL_DIST, simClock.nowMillis());
     }
 
     // --- THROWING LOGIC ---
@@ -258,7 +341,7 @@ public class GameEngine {
             return;
         }
 
-        AssetManager.getInstance().playSound("throw");
+        audio.playSound("throw");
 
         double startX = chef.getExactX() + 0.5;
         double startY = chef.getExactY() + 0.5;
@@ -277,6 +360,7 @@ public class GameEngine {
 
     // --- PROJECTILE CLASS ---
     public class Projectile {
+        final int id;
         Chef thrower;
         Item item;
         enum State { FLYING, BOUNCING }
@@ -285,13 +369,15 @@ public class GameEngine {
         double startX, startY, targetX, targetY;
         double currentX, currentY;
 
-        long startTime;
+        double startTime;
         double duration;
+        double progress = 0;
 
         double bounceStartX, bounceStartY, bounceTargetX, bounceTargetY;
-        long bounceStartTime;
+        double bounceStartTime;
 
         public Projectile(Chef thrower, Item item, double sx, double sy, double tx, double ty) {
+            this.id = nextProjectileId++;
             this.thrower = thrower;
             this.item = item;
             this.startX = sx; this.startY = sy;
@@ -302,7 +388,14 @@ public class GameEngine {
             this.duration = dist / THROW_SPEED_PPS;
             if (this.duration < 0.1) this.duration = 0.1;
 
-            this.startTime = System.nanoTime();
+            this.startTime = simClock.nowSeconds();
+        }
+
+        // Dari checkpoint: semua field lintasan diisi oleh CheckpointReader
+        Projectile(int id, Chef thrower, Item item) {
+            this.id = id;
+            this.thrower = thrower;
+            this.item = item;
         }
 
         public boolean update() {
@@ -312,9 +405,9 @@ public class GameEngine {
         }
 
         private boolean updateFlying() {
-            long now = System.nanoTime();
-            double elapsed = (now - startTime) / 1_000_000_000.0;
+            double elapsed = simClock.nowSeconds() - startTime;
             double t = Math.min(1.0, elapsed / duration);
+            progress = t;
 
             double nextX = startX + (targetX - startX) * t;
             double nextY = startY + (targetY - startY) * t;
@@ -323,11 +416,12 @@ public class GameEngine {
             double centerY = nextY + 0.5;
 
             // 1. Catching
-            for (Chef c : chefs) {
+            for (int i = 0; i < chefs.size(); i++) {
+                Chef c = chefs.get(i);
                 if (c != thrower && !c.hasItem() && !c.isDashing()) {
                     if (dist(c.getExactX() + 0.5, c.getExactY() + 0.5, centerX, centerY) < 0.6) {
                         c.setHeldItem(item);
-                        AssetManager.getInstance().playSound("pickup");
+                        audio.playSound("pickup");
                         return true;
                     }
                 }
@@ -369,7 +463,8 @@ public class GameEngine {
 
         private void startBounce(double currX, double currY, double hitX, double hitY) {
             this.state = State.BOUNCING;
-            this.bounceStartTime = System.nanoTime();
+            this.bounceStartTime = simClock.nowSeconds();
+            this.progress = 0;
             this.bounceStartX = currX;
             this.bounceStartY = currY;
 
@@ -389,13 +484,13 @@ public class GameEngine {
                 this.bounceTargetY = currY;
             }
 
-            AssetManager.getInstance().playSound("bump");
+            audio.playSound("bump");
         }
 
         private boolean updateBouncing() {
-            long now = System.nanoTime();
-            double elapsed = (now - bounceStartTime) / 1_000_000_000.0;
+            double elapsed = simClock.nowSeconds() - bounceStartTime;
             double t = Math.min(1.0, elapsed / BOUNCE_DURATION);
+            progress = t;
 
             currentX = bounceStartX + (bounceTargetX - bounceStartX) * t;
             currentY = bounceStartY + (bounceTargetY - bounceStartY) * t;
@@ -423,7 +518,7 @@ public class GameEngine {
             if (st != null) {
                 if (st.peek() == null) {
                     st.place(item);
-                    AssetManager.getInstance().playSound("place");
+                    audio.playSound("place");
                 } else {
                     scatterItem(cx, cy);
                 }
@@ -431,9 +526,9 @@ public class GameEngine {
             }
 
             Tile t = world.getTile(gridPos);
-            if (t instanceof WalkableTile wt) {
+            if (t instanceof WalkableTile) {
                 if (isSpaceFree(cx, cy, item.getSize())) {
-                    wt.addItem(item, cx, cy);
+                    world.getFloorItems().add(item, cx, cy);
                 } else {
                     scatterItem(cx, cy);
                 }
@@ -445,9 +540,8 @@ public class GameEngine {
             int ty = (int)cy;
             for(int y=ty-1; y<=ty+1; y++) {
                 for(int x=tx-1; x<=tx+1; x++) {
-                    Position p = new Position(x, y);
-                    if(world.inBounds(p) && world.getTile(p).isWalkable()) {
-                        return p;
+                    if(world.isWalkable(x, y)) {
+                        return new Position(x, y);
                     }
                 }
             }
@@ -464,26 +558,23 @@ public class GameEngine {
                 if (!checkAABBCollision(nx - 0.5, ny - 0.5, ITEM_SIZE) && isSpaceFree(nx, ny, item.getSize())) {
                     Position np = new Position((int)nx, (int)ny);
                     Tile nt = world.getTile(np);
-                    if (nt instanceof WalkableTile wt) {
-                        wt.addItem(item, nx, ny);
+                    if (nt instanceof WalkableTile) {
+                        world.getFloorItems().add(item, nx, ny);
                         return;
                     }
                 }
             }
         }
 
+        public int getId() { return id; }
         public double getX() { return currentX; }
         public double getY() {
+            // Busur dihitung dari progres tick terakhir, bukan jam dinding
             if (state == State.BOUNCING) {
-                long now = System.nanoTime();
-                double t = Math.min(1.0, (now - bounceStartTime) / 1_000_000_000.0 / BOUNCE_DURATION);
-                double arc = Math.sin(t * Math.PI) * (THROW_ARC_HEIGHT * 0.4);
+                double arc = Math.sin(progress * Math.PI) * (THROW_ARC_HEIGHT * 0.4);
                 return currentY - arc;
             }
-            long now = System.nanoTime();
-            double elapsed = (now - startTime) / 1_000_000_000.0;
-            double t = Math.min(1.0, elapsed / duration);
-            double arc = Math.sin(t * Math.PI) * THROW_ARC_HEIGHT;
+            double arc = Math.sin(progress * Math.PI) * THROW_ARC_HEIGHT;
             return currentY - arc;
         }
         public Item getItem() { return item; }
@@ -519,30 +610,19 @@ public class GameEngine {
         Station st = world.getStationAt(p);
         if (st != null) { chef.tryPickFrom(st); return; }
 
-        // 1. Cek Depan
-        Tile t = world.getTile(p);
-        if (t instanceof WalkableTile wt) {
-            DroppedItem target = wt.pickNearest(pickX, pickY, 0.7);
-
-            // 2. Jika depan kosong, Cek Kaki (radius 0.5)
-            if (target == null) {
-                Position pCenter = new Position(chef.getX(), chef.getY());
-                Tile tCenter = world.getTile(pCenter);
-                if (tCenter instanceof WalkableTile wtCenter) {
-                    target = wtCenter.pickNearest(chef.getExactX() + 0.5, chef.getExactY() + 0.5, 0.5);
-                }
-            }
+        // 1. Cek Depan (boleh lintas tile)
+        FloorItemIndex floor = world.getFloorItems();
+        DroppedItem target = floor.nearest(pickX, pickY, 0.7);
 
-            if (target != null && chef.getHeldItem() == null) {
-                Position itemPos = new Position((int)target.x, (int)target.y);
-                Tile itemTile = world.getTile(itemPos);
-                if (itemTile instanceof WalkableTile wtOrigin) {
-                    wtOrigin.removeItem(target);
-                    chef.setHeldItem(target.item);
-                    chef.changeState(new model.chef.states.CarryingState());
-                    AssetManager.getInstance().playSound("pickup");
-                }
-            }
+        // 2. Jika depan kosong, Cek Kaki (radius 0.5)
+        if (target == null) {
+            target = floor.nearest(chef.getExactX() + 0.5, chef.getExactY() + 0.5, 0.5);
+        }
+
+        if (target != null && chef.getHeldItem() == null) {
+            chef.setHeldItem(floor.remove(target));
+            chef.changeState(new model.chef.states.CarryingState());
+            audio.playSound("pickup");
         }
     }
 
@@ -563,32 +643,60 @@ public class GameEngine {
             chef.changeState(new model.chef.states.IdleState());
             
             if (success) {
-                AssetManager.getInstance().playSound("serve");
+                audio.playSound("serve");
                 
-                long targetTime = System.currentTimeMillis() + 10000;
-                delayedTasks.add(new DelayedTask(targetTime, () -> {
-                    for (int y = 0; y < world.getHeight(); y++) {
-                        for (int x = 0; x < world.getWidth(); x++) {
-                            Station st = world.getStationAt(new Position(x, y));
-                            if (st instanceof stations.PlateStorage ps) {
-                                ps.place(new DirtyPlate());
-                                System.out.println("⚠️ Dirty plate reappeared at storage!");
-                                return; 
-                            }
-                        }
-                    }
-                }));
+                schedulePlateReturn(simClock.ticksFor(10000));
                 
             } else {
-                AssetManager.getInstance().playSound("trash");
+                audio.playSound("trash");
             }
         }
     }
 
+    private void schedulePlateReturn(long ticks) {
+        plateReturns.add(timers.schedule(() -> {
+            plateReturns.poll();
+            List<StationTile> storages = world.getStations(StationType.PLATE_STORAGE);
+            if (!storages.isEmpty()) {
+                storages.get(0).getStation().place(new DirtyPlate());
+                System.out.println("⚠️ Dirty plate reappeared at storage!");
+            }
+        }, ticks));
+    }
+
+    // --- CHECKPOINT ---
+    // Dipakai CheckpointWriter/Reader; restore hanya untuk sesi baru sebelum step pertama
+    int getNextProjectileId() { return nextProjectileId; }
+
+    long[] plateReturnTicks() {
+        long[] ticks = new long[plateReturns.size()];
+        int i = 0;
+        for (Timeout t : plateReturns) ticks[i++] = t.remainingTicks();
+        return ticks;
+    }
+
+    void restoreClock(long tick, int secondsRemaining) {
+        simClock.restoreTick(tick);
+        timers.resetTo(tick);
+        clock.restore(secondsRemaining);
+    }
+
+    void restoreStatus(boolean finished, boolean win, int nextProjectileId, long[] plateReturnTicks) {
+        this.finished = finished;
+        this.isWin = win;
+        this.nextProjectileId = nextProjectileId;
+        for (long ticks : plateReturnTicks) schedulePlateReturn(ticks);
+    }
+
     public void addObserver(Observer o) { observers.add(o); }
-    private void notifyObservers() { for (Observer o : observers) o.update(); }
+    private void notifyObservers() {
+        for (int i = 0; i < observers.size(); i++) observers.get(i).update();
+    }
+    public GameSession getSession() { return session; }
+    public EffectManager getEffects() { return effects; }
     public WorldMap getWorld() { return world; }
     public GameClock getClock() { return clock; }
+    public SimClock getSimClock() { return simClock; }
     public OrderManager getOrders() { return orders; }
     public boolean isFinished() { return finished; }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package model.engine;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import factory.ItemFactory;
+import factory.ItemRegistryInit;
+import model.orders.OrderManager;
+import model.world.WorldMap;
+import utils.SeededRandom;
+
+// Satu permainan independen: engine (+ timer & clock), efek, order, stream RNG, dan item factory.
+// Tidak ada state global, jadi banyak sesi bisa berjalan paralel (lihat SessionHost).
+// Objek model yang tidak memegang referensi engine (station, item, state chef) memakai current(),
+// yang di-bind ke thread selama GameEngine.step() berjalan.
+public class GameSession {
+    private static final ThreadLocal<GameSession> CURRENT = new ThreadLocal<>();
+
+    private final long seed;
+    // Stream RNG per subsistem, diturunkan dari seed sesi dengan urutan tetap (map, order, efek, bot):
+    // acakan satu subsistem tidak menggeser urutan angka subsistem lain
+    private final SeededRandom mapRandom;
+    private final SeededRandom orderRandom;
+    private final SeededRandom effectRandom;
+    private final SeededRandom botRandom;
+    private final ItemFactory items;
+    private final EffectManager effects;
+    private final WorldMap world;
+    private final OrderManager orders;
+    private final GameEngine engine;
+
+    public GameSession(GameConfig config, int mapType) {
+        this(config, mapType, System.nanoTime());
+    }
+
+    public GameSession(GameConfig config, int mapType, long seed) {
+        this(config, seed, rng -> new WorldMap(mapType, config.mapWidth, config.mapHeight, rng));
+    }
+
+    // Untuk CheckpointReader: map dibangun dari layout tersimpan, bukan di-generate ulang
+    GameSession(GameConfig config, long seed, Function<Random, WorldMap> worldFactory) {
+        this.seed = seed;
+        SeededRandom root = new SeededRandom(seed);
+        this.mapRandom = root.split();
+        this.orderRandom = root.split();
+        this.effectRandom = root.split();
+        this.botRandom = root.split();
+        this.items = ItemRegistryInit.createFactory();
+        this.effects = new EffectManager(effectRandom);
+        this.world = worldFactory.apply(mapRandom);
+        this.orders = new OrderManager(orderRandom, effects, config.maxActiveOrders, config.orderSpawnInterval, config.orderTimeLimit);
+        this.engine = new GameEngine(this, world, orders, config, new SimClock(config.fps));
+    }
+
+    public static GameSession current() {
+        GameSession session = CURRENT.get();
+        if (session == null) throw new IllegalStateException("No game session bound to this thread");
+        return session;
+    }
+
+    public static GameSession currentOrNull() { return CURRENT.get(); }
+
+    // Mengembalikan sesi sebelumnya agar pemanggil bisa memulihkannya (step bisa bersarang)
+    static GameSession bind(GameSession session) {
+        GameSession previous = CURRENT.get();
+        CURRENT.set(session);
+        return previous;
+    }
+
+    static void restore(GameSession previous) {
+        if (previous == null) CURRENT.remove();
+        else CURRENT.set(previous);
+    }
+
+    // Untuk kode di luar step() yang perlu konteks sesi (setup, tool)
+    public void runBound(Runnable action) {
+        GameSession previous = bind(this);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public long getSeed() { return seed; }
+    // Untuk logika bot (hanya dari thread engine)
+    public Random getBotRandom() { return botRandom; }
+    // Stream yang masih dipakai setelah setup (map hanya dipakai saat membangun WorldMap), untuk checkpoint
+    SeededRandom orderRng() { return orderRandom; }
+    SeededRandom effectRng() { return effectRandom; }
+    SeededRandom botRng() { return botRandom; }
+    // Untuk hash state replay: stream yang dipakai engine. Stream bot tidak ikut (replay tidak menjalankan bot)
+    public long orderRngState() { return orderRandom.getState(); }
+    public long effectRngState() { return effectRandom.getState(); }
+    public ItemFactory getItems() { return items; }
+    public EffectManager getEffects() { return effects; }
+    public WorldMap getWorld() { return world; }
+    public OrderManager getOrders() { return orders; }
+    public GameEngine getEngine() { return engine; }
+}
@@ -0,0 +1,64 @@
+package model.engine;
+
+import java.util.List;
+
+import model.chef.Chef;
+import model.orders.OrderManager;
+import model.world.WorldMap;
+import utils.Position;
+
+// Menjalankan stage tanpa Swing/audio secepat CPU mampu (untuk balancing & evaluasi bot)
+public class HeadlessRunner {
+    public record Result(int score, int completed, int failed, boolean win, long ticks) {}
+
+    private final GameConfig config;
+    private final int mapType;
+
+    public HeadlessRunner(GameConfig config, int mapType) {
+        this.config = config;
+        this.mapType = mapType;
+    }
+
+    public GameSession createSession(long seed) {
+        return createSession(seed, 2);
+    }
+
+    // chefCount > 2: chef tambahan (untuk autopilot) bergantian di titik spawn yang ada
+    public GameSession createSession(long seed, int chefCount) {
+        GameSession session = new GameSession(config, mapType, seed);
+        session.getEngine().setAudioSink(AudioSink.SILENT);
+        spawnChefs(session.getEngine(), session.getWorld(), chefCount);
+        return session;
+    }
+
+    public Result runStage(long seed) {
+        GameSession session = createSession(seed);
+        GameEngine engine = session.getEngine();
+        while (!engine.isFinished()) {
+            engine.step();
+        }
+        return resultOf(session);
+    }
+
+    public static Result resultOf(GameSession session) {
+        OrderManager orders = session.getOrders();
+        GameEngine engine = session.getEngine();
+        return new Result(orders.getScore(), orders.getCompletedCount(), orders.getFailedCount(),
+                engine.isWin(), engine.getSimClock().getTick());
+    }
+
+    private void spawnChefs(GameEngine engine, WorldMap world, int chefCount) {
+        List<Position> spawns = world.getSpawnPoints();
+        int x1 = 2, y1 = 3;
+        int x2 = 11, y2 = 6;
+        if (spawns.size() >= 1) { x1 = spawns.get(0).x; y1 = spawns.get(0).y; }
+        if (spawns.size() >= 2) { x2 = spawns.get(1).x; y2 = spawns.get(1).y; }
+
+        engine.addChef(new Chef("c1", "Gordon", x1, y1));
+        engine.addChef(new Chef("c2", "Ramsay", x2, y2));
+        for (int i = 2; i < chefCount; i++) {
+            int x = (i % 2 == 0) ? x1 : x2, y = (i % 2 == 0) ? y1 : y2;
+            engine.addChef(new Chef("c" + (i + 1), "Bot " + (i + 1), x, y));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package model.engine;
+
+// Input pemain yang dieksekusi engine di awal tick (dan bisa direkam/diputar ulang).
+// Ordinal dipakai sebagai kode di log biner: jangan ubah urutan, hanya tambah di akhir.
+public enum InputOp {
+    MOVE,           // arg: ordinal Direction + 1, 0 = berhenti
+    INTERACT,
+    PICK_OR_PLACE,
+    PICK,
+    PLACE,
+    THROW,
+    DASH,
+    APPLY_EFFECT;   // hasil spin Lucky Station diterapkan (tanpa chef)
+
+    private static final InputOp[] VALUES = values();
+
+    public static InputOp of(int code) {
+        if (code < 0 || code >= VALUES.length) throw new IllegalArgumentException("Unknown input op: " + code);
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,7 @@
+package model.engine;
+
+// Menerima setiap input tepat saat dieksekusi di thread engine, dicap dengan tick simulasi
+@FunctionalInterface
+public interface InputRecorder {
+    void record(long tick, InputOp op, int chefIndex, int arg);
+}
@@ -0,0 +1,68 @@
+package model.engine;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Menjalankan banyak GameSession sekaligus di fixed thread pool (Java 17, belum ada virtual thread).
+// Satu sesi tidak pernah di-step oleh dua thread bersamaan, jadi state sesi tetap thread-confined;
+// input dari luar tetap lewat GameEngine.submit().
+public class SessionHost implements AutoCloseable {
+    private final ScheduledThreadPoolExecutor pool;
+
+    public SessionHost(int threads) {
+        AtomicInteger ids = new AtomicInteger();
+        this.pool = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread t = new Thread(r, "session-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.pool.setRemoveOnCancelPolicy(true);
+    }
+
+    public static SessionHost forAllCores() {
+        return new SessionHost(Runtime.getRuntime().availableProcessors());
+    }
+
+    // Mode headless: step secepat mungkin sampai selesai, satu thread worker per sesi selama berjalan
+    public Future<GameSession> runToCompletion(GameSession session) {
+        return pool.submit(() -> {
+            GameEngine engine = session.getEngine();
+            while (!engine.isFinished()) engine.step();
+            return session;
+        });
+    }
+
+    // Mode real-time: step dengan laju fixed-rate sesuai fps sesi; berhenti sendiri saat game selesai.
+    // Eksekusi fixed-rate tidak pernah tumpang tindih, jadi sesi tidak butuh lock.
+    public ScheduledFuture<?> host(GameSession session) {
+        GameEngine engine = session.getEngine();
+        long periodNanos = 1_000_000_000L / engine.getSimClock().getTicksPerSecond();
+        AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+        ScheduledFuture<?> future = pool.scheduleAtFixedRate(() -> {
+            if (engine.isFinished()) {
+                ScheduledFuture<?> f = self.get();
+                if (f != null) f.cancel(false);
+                return;
+            }
+            engine.step();
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+        self.set(future);
+        return future;
+    }
+
+    public int getThreadCount() { return pool.getCorePoolSize(); }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
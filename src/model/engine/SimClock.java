@@ -0,0 +1,34 @@
+package model.engine;
+
+public class SimClock {
+    private final int ticksPerSecond;
+    private final double tickSeconds;
+    private long tick = 0;
+
+    public SimClock(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+        this.ticksPerSecond = ticksPerSecond;
+        this.tickSeconds = 1.0 / ticksPerSecond;
+    }
+
+    // Dipanggil tepat sekali per langkah fisika oleh GameEngine
+    public void advance() { tick++; }
+
+    // Hanya untuk sesi baru yang dipulihkan dari checkpoint (sebelum step pertama)
+    void restoreTick(long tick) { this.tick = tick; }
+
+    public long getTick() { return tick; }
+    public int getTicksPerSecond() { return ticksPerSecond; }
+    public double getTickSeconds() { return tickSeconds; }
+
+    public double nowSeconds() { return tick * tickSeconds; }
+    public long nowMillis() { return tick * 1000 / ticksPerSecond; }
+
+    public boolean isSecondBoundary() { return tick % ticksPerSecond == 0; }
+
+    // Jumlah tick (dibulatkan ke atas) untuk durasi tertentu, minimal 1
+    public long ticksFor(long millis) {
+        long ticks = (millis * ticksPerSecond + 999) / 1000;
+        return Math.max(1, ticks);
+    }
+}
@@ -0,0 +1,63 @@
+package model.engine;
+
+import utils.TripleBuffer;
+
+// Menerbitkan FrameSnapshot setiap tick dari thread engine ke renderer.
+// Menyimpan posisi tick sebelumnya agar tiap snapshot membawa pasangan (prev, current) untuk interpolasi,
+// sehingga reader cukup memegang satu buffer.
+public final class SnapshotPublisher {
+    private final TripleBuffer<FrameSnapshot> buffer = new TripleBuffer<>(FrameSnapshot::new);
+
+    private double[] lastChefX = new double[4], lastChefY = new double[4];
+    private int lastChefCount = 0;
+    private int[] lastProjectileId = new int[8];
+    private double[] lastProjectileX = new double[8], lastProjectileY = new double[8];
+    private int lastProjectileCount = 0;
+
+    void publish(GameEngine engine) {
+        FrameSnapshot snapshot = buffer.back();
+        snapshot.capture(engine, this);
+        remember(snapshot);
+        buffer.publish();
+    }
+
+    // Reader (EDT): true jika ada snapshot baru; snapshot terbaru selalu ada di latest()
+    public boolean acquire() { return buffer.acquire(); }
+    public FrameSnapshot latest() { return buffer.front(); }
+
+    double prevChefX(int i, double fallback) { return (i < lastChefCount) ? lastChefX[i] : fallback; }
+    double prevChefY(int i, double fallback) { return (i < lastChefCount) ? lastChefY[i] : fallback; }
+
+    int findProjectile(int id) {
+        for (int i = 0; i < lastProjectileCount; i++) {
+            if (lastProjectileId[i] == id) return i;
+        }
+        return -1;
+    }
+
+    double prevProjectileX(int i) { return lastProjectileX[i]; }
+    double prevProjectileY(int i) { return lastProjectileY[i]; }
+
+    private void remember(FrameSnapshot s) {
+        int chefs = s.getChefCount();
+        if (lastChefX.length < chefs) { lastChefX = new double[chefs * 2]; lastChefY = new double[chefs * 2]; }
+        for (int i = 0; i < chefs; i++) {
+            lastChefX[i] = s.getChefX(i);
+            lastChefY[i] = s.getChefY(i);
+        }
+        lastChefCount = chefs;
+
+        int projectiles = s.getProjectileCount();
+        if (lastProjectileId.length < projectiles) {
+            lastProjectileId = new int[projectiles * 2];
+            lastProjectileX = new double[projectiles * 2];
+            lastProjectileY = new double[projectiles * 2];
+        }
+        for (int i = 0; i < projectiles; i++) {
+            lastProjectileId[i] = s.getProjectileId(i);
+            lastProjectileX[i] = s.getProjectileX(i);
+            lastProjectileY[i] = s.getProjectileY(i);
+        }
+        lastProjectileCount = projectiles;
+    }
+}
@@ -0,0 +1,121 @@
+package model.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import model.engine.InputOp;
+
+// Client jaringan non-blocking: kirim input per tick, panggil poll() dari loop sendiri (render/bot)
+// untuk membaca snapshot. Tidak ada simulasi lokal; getState() adalah state server terakhir yang diterima.
+public class GameClient implements AutoCloseable {
+    private final SocketChannel channel;
+    private final ByteBuffer in = ByteBuffer.allocate(2 * (NetProtocol.MAX_FRAME + NetProtocol.HEADER_BYTES));
+    private final ByteBuffer out = ByteBuffer.allocate(4 * 1024);
+    private final NetState state = new NetState();
+
+    private boolean welcomed, closed;
+    private int chefIndex = -1;
+    private int fps, sendEveryTicks;
+    private int width, height;
+    private byte[] layoutCodes;
+    private long bytesReceived, bytesSent, snapshots;
+
+    public GameClient(String host, int port, String name) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        int start = NetProtocol.beginFrame(out, NetProtocol.HELLO);
+        out.putShort((short) NetProtocol.VERSION);
+        NetProtocol.putString(out, name);
+        NetProtocol.endFrame(out, start);
+        flush();
+    }
+
+    public void sendInput(InputOp op, int arg) throws IOException {
+        if (out.remaining() < NetProtocol.HEADER_BYTES + 2) {
+            flush();
+            if (out.remaining() < NetProtocol.HEADER_BYTES + 2) throw new IOException("Send buffer full");
+        }
+        int start = NetProtocol.beginFrame(out, NetProtocol.INPUT);
+        out.put((byte) op.ordinal());
+        out.put((byte) arg);
+        NetProtocol.endFrame(out, start);
+        flush();
+    }
+
+    // Mengirim sisa input dan membaca semua frame yang sudah tiba; mengembalikan jumlah snapshot yang diterapkan
+    public int poll() throws IOException {
+        if (closed) return 0;
+        flush();
+
+        int applied = 0;
+        int n;
+        while ((n = channel.read(in)) > 0) {
+            bytesReceived += n;
+            in.flip();
+            int len;
+            while ((len = NetProtocol.nextFrameLength(in)) >= 0) {
+                in.getShort();
+                byte type = in.get();
+                int end = in.position() + len;
+                if (handle(type)) applied++;
+                in.position(end);
+            }
+            in.compact();
+        }
+        if (n < 0) close();
+        return applied;
+    }
+
+    private boolean handle(byte type) throws IOException {
+        switch (type) {
+            case NetProtocol.WELCOME -> {
+                chefIndex = in.get();
+                fps = in.getShort();
+                sendEveryTicks = in.getShort();
+                width = in.getShort();
+                height = in.getShort();
+                layoutCodes = new byte[width * height];
+                in.get(layoutCodes);
+                welcomed = true;
+                return false;
+            }
+            case NetProtocol.SNAPSHOT -> {
+                state.applyDelta(in);
+                snapshots++;
+                return true;
+            }
+            default -> throw new IOException("Unknown frame type: " + type);
+        }
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        bytesSent += channel.write(out);
+        out.compact();
+    }
+
+    public NetState getState() { return state; }
+    public boolean isWelcomed() { return welcomed; }
+    // -1 sebelum WELCOME atau jika server penuh
+    public int getChefIndex() { return chefIndex; }
+    public int getFps() { return fps; }
+    public int getSendEveryTicks() { return sendEveryTicks; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public byte[] getLayoutCodes() { return layoutCodes; }
+    public long getBytesReceived() { return bytesReceived; }
+    public long getBytesSent() { return bytesSent; }
+    public long getSnapshotCount() { return snapshots; }
+    public boolean isClosed() { return closed; }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+}
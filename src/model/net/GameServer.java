@@ -0,0 +1,345 @@
+package model.net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import model.engine.GameEngine;
+import model.engine.GameSession;
+import model.engine.InputOp;
+import model.world.WorldMap;
+import utils.Direction;
+
+// Server otoritatif: thread yang memanggil run() adalah thread engine. Satu loop non-blocking (Selector)
+// membaca input client, menjalankan engine.step() per tick, lalu mengirim snapshot delta tiap sendEveryTicks.
+// Setiap client mengendalikan satu chef (slot = index chef di engine); input client masuk lewat
+// engine.submitInput sehingga dieksekusi di awal tick berikutnya, sama seperti input keyboard lokal.
+public class GameServer implements AutoCloseable {
+    private static final int IN_CAPACITY = 4 * 1024;
+    // Cukup untuk beberapa snapshot; jika client tidak sanggup membaca, snapshot dilewati (bukan antre tanpa batas)
+    private static final int OUT_CAPACITY = 4 * (NetProtocol.MAX_FRAME + NetProtocol.HEADER_BYTES);
+    private static final int MOVE_ARGS = Direction.values().length;
+    private static final int MAX_CLOSED_STATS = 64;      // statistik client yang sudah putus, yang terbaru
+
+    public record ClientStats(int chefIndex, String name, boolean connected, long bytesSent, long bytesReceived,
+                              long snapshots, long droppedSnapshots, double seconds) {
+        public double sentPerSecond() { return seconds > 0 ? bytesSent / seconds : 0; }
+        public double receivedPerSecond() { return seconds > 0 ? bytesReceived / seconds : 0; }
+        public double avgSnapshotBytes() { return snapshots > 0 ? (double) bytesSent / snapshots : 0; }
+    }
+
+    private final class Connection {
+        final SocketChannel channel;
+        final SelectionKey key;
+        final ByteBuffer in = ByteBuffer.allocate(IN_CAPACITY);
+        final ByteBuffer out = ByteBuffer.allocate(OUT_CAPACITY);
+        final NetState baseline = new NetState();   // state terakhir yang sudah di-enqueue ke client ini
+        final long connectedAt = System.nanoTime();
+        long disconnectedAt;
+        int chefIndex = -1;
+        String name = "?";
+        boolean closeAfterFlush;
+        long bytesSent, bytesReceived, snapshots, dropped;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        ClientStats stats(long now) {
+            boolean connected = disconnectedAt == 0;
+            double seconds = ((connected ? now : disconnectedAt) - connectedAt) / 1_000_000_000.0;
+            return new ClientStats(chefIndex, name, connected, bytesSent, bytesReceived, snapshots, dropped, seconds);
+        }
+    }
+
+    private final GameEngine engine;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Connection[] slots;
+    private final List<Connection> connections = new ArrayList<>();
+    // Connection (dan buffer-nya) dilepas saat putus; yang disimpan hanya ringkasan kecil
+    private final ArrayDeque<ClientStats> closed = new ArrayDeque<>();
+    private long rejected;
+    private final NetState current = new NetState();
+    private final int sendEveryTicks;
+    private final long tickNanos;
+    private volatile boolean running;
+
+    // Metrik tick: waktu step + broadcast dibanding budget satu tick
+    private long tickCount, tickNanosTotal, tickNanosMax, overBudget;
+
+    private long reportEveryNanos;
+    private Consumer<GameServer> reporter;
+
+    public GameServer(GameSession session, int port) throws IOException {
+        this.engine = session.getEngine();
+        // Snapshot hanya memuat NetState.MAX_CHEFS chef pertama: chef sisanya tidak bisa dimainkan lewat jaringan
+        this.slots = new Connection[Math.min(engine.getChefs().size(), NetState.MAX_CHEFS)];
+        int fps = engine.getSimClock().getTicksPerSecond();
+        this.sendEveryTicks = Math.max(1, fps / Math.max(1, engine.getConfig().netSendRate));
+        this.tickNanos = 1_000_000_000L / fps;
+
+        // Tidak ada overlay spin di server: hasil Lucky Station langsung diterapkan di tick berikutnya
+        engine.getEffects().setOnSpinStart(() -> engine.submitInput(InputOp.APPLY_EFFECT, -1, 0));
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public int getPort() { return serverChannel.socket().getLocalPort(); }
+    public int getSendEveryTicks() { return sendEveryTicks; }
+    public GameEngine getEngine() { return engine; }
+
+    // Dipanggil di thread server setiap intervalMs (untuk log metrik berkala)
+    public void setReporter(long intervalMs, Consumer<GameServer> reporter) {
+        this.reportEveryNanos = intervalMs * 1_000_000L;
+        this.reporter = reporter;
+    }
+
+    // Loop real-time sampai stage selesai atau stop(); menunggu di selector di antara tick
+    public void run() throws IOException {
+        running = true;
+        long nextTick = System.nanoTime();
+        long nextReport = nextTick + reportEveryNanos;
+        while (running && !engine.isFinished()) {
+            long now = System.nanoTime();
+            long wait = nextTick - now;
+            if (wait > 0) {
+                pollNetwork(wait);
+                continue;
+            }
+            tickOnce();
+            nextTick += tickNanos;
+            // Tertinggal jauh (GC, host sibuk): jangan kejar dengan burst tick
+            if (now - nextTick > 5 * tickNanos) nextTick = now;
+
+            if (reporter != null && now >= nextReport) {
+                reporter.accept(this);
+                nextReport = now + reportEveryNanos;
+            }
+        }
+        pollNetwork(0);
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    // Satu tick deterministik: proses jaringan yang sudah siap, step, broadcast jika waktunya
+    public void tickOnce() throws IOException {
+        pollNetwork(0);
+
+        long start = System.nanoTime();
+        engine.step();
+        if (engine.getSimClock().getTick() % sendEveryTicks == 0 || engine.isFinished()) broadcast();
+        long elapsed = System.nanoTime() - start;
+
+        tickCount++;
+        tickNanosTotal += elapsed;
+        if (elapsed > tickNanosMax) tickNanosMax = elapsed;
+        if (elapsed > tickNanos) overBudget++;
+    }
+
+    // Menerima koneksi, membaca input dan mengirim sisa buffer; waitNanos 0 = tidak menunggu
+    public void pollNetwork(long waitNanos) throws IOException {
+        long waitMs = waitNanos / 1_000_000L;
+        if (waitMs > 0) selector.select(waitMs);
+        else selector.selectNow();
+
+        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while (it.hasNext()) {
+            SelectionKey key = it.next();
+            it.remove();
+            if (!key.isValid()) continue;
+            if (key.isAcceptable()) {
+                accept();
+                continue;
+            }
+            Connection c = (Connection) key.attachment();
+            try {
+                if (key.isReadable()) read(c);
+                if (key.isValid() && key.isWritable()) flush(c);
+            } catch (IOException | RuntimeException e) {
+                disconnect(c);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            Connection c = new Connection(channel, key);
+            key.attach(c);
+            connections.add(c);
+        }
+    }
+
+    private void read(Connection c) throws IOException {
+        int n = c.channel.read(c.in);
+        if (n < 0) {
+            disconnect(c);
+            return;
+        }
+        c.bytesReceived += n;
+
+        c.in.flip();
+        int len;
+        while ((len = NetProtocol.nextFrameLength(c.in)) >= 0) {
+            c.in.getShort();
+            byte type = c.in.get();
+            int end = c.in.position() + len;
+            handle(c, type, c.in);
+            c.in.position(end);
+        }
+        c.in.compact();
+        // Frame lebih besar dari buffer tidak akan pernah lengkap
+        if (!c.in.hasRemaining()) throw new IOException("Frame exceeds input buffer");
+    }
+
+    private void handle(Connection c, byte type, ByteBuffer in) throws IOException {
+        switch (type) {
+            case NetProtocol.HELLO -> {
+                if (c.chefIndex >= 0) throw new IOException("Duplicate HELLO");
+                if (in.getShort() != NetProtocol.VERSION) throw new IOException("Unsupported protocol version");
+                c.name = NetProtocol.getString(in);
+                welcome(c);
+            }
+            case NetProtocol.INPUT -> {
+                if (c.chefIndex < 0) throw new IOException("INPUT before WELCOME");
+                InputOp op = InputOp.of(in.get());
+                int arg = in.get();
+                if (op == InputOp.APPLY_EFFECT) throw new IOException("Client may not apply effects");
+                if (op == InputOp.MOVE && (arg < 0 || arg > MOVE_ARGS)) throw new IOException("Bad move arg: " + arg);
+                engine.submitInput(op, c.chefIndex, arg);
+            }
+            default -> throw new IOException("Unknown frame type: " + type);
+        }
+    }
+
+    private void welcome(Connection c) throws IOException {
+        int slot = -1;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == null) { slot = i; break; }
+        }
+
+        WorldMap world = engine.getWorld();
+        int start = NetProtocol.beginFrame(c.out, NetProtocol.WELCOME);
+        c.out.put((byte) slot);
+        c.out.putShort((short) engine.getSimClock().getTicksPerSecond());
+        c.out.putShort((short) sendEveryTicks);
+        c.out.putShort((short) world.getWidth());
+        c.out.putShort((short) world.getHeight());
+        c.out.put(world.getLayoutCodes());
+        NetProtocol.endFrame(c.out, start);
+
+        if (slot < 0) {
+            c.closeAfterFlush = true;
+        } else {
+            c.chefIndex = slot;
+            slots[slot] = c;
+        }
+        flush(c);
+    }
+
+    private void broadcast() {
+        current.capture(engine);
+        for (int i = connections.size() - 1; i >= 0; i--) {
+            Connection c = connections.get(i);
+            if (c.chefIndex < 0) continue;
+            // Buffer hampir penuh: lewati snapshot ini, baseline tetap sehingga delta berikutnya tetap benar
+            if (c.out.remaining() < NetProtocol.MAX_FRAME + NetProtocol.HEADER_BYTES) {
+                c.dropped++;
+                continue;
+            }
+            int start = NetProtocol.beginFrame(c.out, NetProtocol.SNAPSHOT);
+            current.writeDelta(c.baseline, c.out);
+            NetProtocol.endFrame(c.out, start);
+            c.baseline.copyFrom(current);
+            c.snapshots++;
+            try {
+                flush(c);
+            } catch (IOException e) {
+                disconnect(c);
+            }
+        }
+    }
+
+    private void flush(Connection c) throws IOException {
+        c.out.flip();
+        c.bytesSent += c.channel.write(c.out);
+        boolean pending = c.out.hasRemaining();
+        c.out.compact();
+
+        if (!pending && c.closeAfterFlush) {
+            disconnect(c);
+            return;
+        }
+        c.key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    private void disconnect(Connection c) {
+        if (!connections.remove(c)) return;
+        c.disconnectedAt = System.nanoTime();
+        if (c.chefIndex >= 0) {
+            // Chef yang ditinggalkan berhenti di tempat
+            engine.submitInput(InputOp.MOVE, c.chefIndex, 0);
+            slots[c.chefIndex] = null;
+            if (closed.size() == MAX_CLOSED_STATS) closed.poll();
+            closed.add(c.stats(c.disconnectedAt));
+        } else {
+            rejected++;         // server penuh, atau putus sebelum HELLO
+        }
+        c.key.cancel();
+        try {
+            c.channel.close();
+        } catch (IOException ignored) {}
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        for (int i = connections.size() - 1; i >= 0; i--) disconnect(connections.get(i));
+        serverChannel.close();
+        selector.close();
+    }
+
+    // --- METRIK (baca dari thread server, atau setelah run() selesai) ---
+
+    public int getClientCount() { return connections.size(); }
+
+    // Client yang sudah putus (MAX_CLOSED_STATS terakhir) lalu koneksi yang masih terbuka
+    public List<ClientStats> getClientStats() {
+        long now = System.nanoTime();
+        List<ClientStats> stats = new ArrayList<>(closed.size() + connections.size());
+        stats.addAll(closed);
+        for (Connection c : connections) stats.add(c.stats(now));
+        return stats;
+    }
+
+    // Koneksi yang ditutup tanpa pernah memegang chef (server penuh, atau putus sebelum HELLO)
+    public long getRejectedCount() { return rejected; }
+
+    public long getTickCount() { return tickCount; }
+    public double getTickBudgetMicros() { return tickNanos / 1000.0; }
+    public double getAvgTickMicros() { return tickCount > 0 ? tickNanosTotal / 1000.0 / tickCount : 0; }
+    public double getMaxTickMicros() { return tickNanosMax / 1000.0; }
+    public long getOverBudgetTicks() { return overBudget; }
+}
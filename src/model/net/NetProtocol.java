@@ -0,0 +1,70 @@
+package model.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Protokol server otoritatif (TCP, big-endian). Setiap frame: len(short, tanpa header) type(byte) payload.
+//   HELLO    C->S : version(short) name(str)
+//   WELCOME  S->C : chefIndex(byte, -1 = penuh lalu koneksi ditutup) fps(short) sendEveryTicks(short)
+//                   width height(short) layout(byte[w*h])
+//   INPUT    C->S : op(byte, ordinal InputOp) arg(byte)   -- dieksekusi di awal tick berikutnya untuk chef client itu
+//   SNAPSHOT S->C : delta NetState terhadap snapshot sebelumnya untuk client yang sama (lihat NetState.writeDelta)
+//   str      : len(short) UTF-8
+//   pos      : int24 bertanda (1/256 tile); short hanya cukup sampai 128 tile sedangkan map bisa 240
+// TCP menjamin urutan, jadi baseline delta cukup "snapshot terakhir yang di-enqueue", tanpa ack.
+final class NetProtocol {
+    static final int VERSION = 2;
+
+    static final byte HELLO = 1;
+    static final byte WELCOME = 2;
+    static final byte INPUT = 3;
+    static final byte SNAPSHOT = 4;
+
+    static final int HEADER_BYTES = 3;
+    static final int MAX_FRAME = 0xFFFF;
+
+    private NetProtocol() {}
+
+    // Menyisakan tempat header; tutup dengan endFrame setelah payload ditulis
+    static int beginFrame(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putShort((short) 0);
+        out.put(type);
+        return start;
+    }
+
+    static void endFrame(ByteBuffer out, int start) {
+        int len = out.position() - start - HEADER_BYTES;
+        if (len > MAX_FRAME) throw new IllegalStateException("Frame too large: " + len);
+        out.putShort(start, (short) len);
+    }
+
+    // Panjang payload frame berikutnya di buffer (mode baca), -1 jika header/payload belum lengkap
+    static int nextFrameLength(ByteBuffer in) {
+        if (in.remaining() < HEADER_BYTES) return -1;
+        int len = in.getShort(in.position()) & 0xFFFF;
+        return in.remaining() >= HEADER_BYTES + len ? len : -1;
+    }
+
+    static void putPos(ByteBuffer out, int v) {
+        out.put((byte) (v >> 16));
+        out.putShort((short) v);
+    }
+
+    static int getPos(ByteBuffer in) {
+        int hi = in.get();      // bertanda, membawa tanda ke 24 bit
+        return hi << 16 | (in.getShort() & 0xFFFF);
+    }
+
+    static void putString(ByteBuffer out, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,510 @@
+package model.net;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.Preparable;
+import items.dish.PastaBolognese;
+import items.dish.PastaFruttiDiMare;
+import items.dish.PastaMarinara;
+import items.ingredients.Fish;
+import items.ingredients.Meat;
+import items.ingredients.Pasta;
+import items.ingredients.Shrimp;
+import items.ingredients.Tomato;
+import items.utensils.BoilingPot;
+import items.utensils.DirtyPlate;
+import items.utensils.FryingPan;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.engine.EffectManager;
+import model.engine.GameEngine;
+import model.orders.Order;
+import model.world.FloorItemIndex;
+import model.world.tiles.StationTile;
+
+// State yang dikirim ke client jaringan: angka terkuantisasi (posisi 1/256 tile) dan satu "item word"
+// 64-bit per item, sehingga perbandingan dengan baseline cukup membandingkan primitif.
+// Server menyimpan satu NetState per client (state terakhir yang dikirim ke client itu) sebagai baseline delta;
+// client menerapkan delta ke NetState miliknya. Baseline awal keduanya adalah state kosong.
+public final class NetState {
+    public static final int POS_SCALE = 256;
+    static final int MAX_CHEFS = 8;
+    static final int MAX_ORDERS = 8;
+
+    private static final int SECTION_HUD = 1;
+    private static final int SECTION_CHEFS = 1 << 1;
+    private static final int SECTION_STATIONS = 1 << 2;
+    private static final int SECTION_ORDERS = 1 << 3;
+    private static final int SECTION_FLOOR = 1 << 4;
+    private static final int SECTION_PROJECTILES = 1 << 5;
+
+    // Jenis item di item word (4 bit); NONE = slot kosong
+    public enum Kind {
+        NONE, TOMATO, MEAT, PASTA, SHRIMP, FISH, PLATE, DIRTY_PLATE, BOILING_POT, FRYING_PAN,
+        PASTA_MARINARA, PASTA_BOLOGNESE, PASTA_FRUTTI_DI_MARE
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final int MAX_CONTENTS = 6;
+
+    // HUD
+    private int tick;
+    private int timeRemaining;
+    private int score;
+    private int completed, failed;
+    private int effectFlags;        // bit0 flash, bit1 drunk, bit2 double money
+    private int effectMs;
+
+    // Chef (index = index chef di engine)
+    private int chefCount;
+    private final int[] chefX = new int[MAX_CHEFS], chefY = new int[MAX_CHEFS];
+    private final byte[] chefDir = new byte[MAX_CHEFS], chefAction = new byte[MAX_CHEFS];
+    private final byte[] chefProgress = new byte[MAX_CHEFS];
+    private final long[] chefHeld = new long[MAX_CHEFS];
+
+    // Item di atas station (index = WorldMap.getAllStations())
+    private int stationCount;
+    private long[] stationItem = new long[0];
+
+    private int orderCount;
+    private final int[] orderId = new int[MAX_ORDERS];
+    private final byte[] orderDish = new byte[MAX_ORDERS];
+    private final int[] orderTimeLeft = new int[MAX_ORDERS];
+
+    private int floorCount;
+    private int[] floorX = new int[16], floorY = new int[16];
+    private long[] floorItem = new long[16];
+
+    private int projectileCount;
+    private int[] projectileId = new int[8];
+    private int[] projectileX = new int[8], projectileY = new int[8];
+    private long[] projectileItem = new long[8];
+
+    private final Consumer<FloorItemIndex.DroppedItem> floorSink = this::addFloorItem;
+
+    public int getTick() { return tick; }
+    public int getTimeRemaining() { return timeRemaining; }
+    public int getScore() { return score; }
+    public int getCompleted() { return completed; }
+    public int getFailed() { return failed; }
+    public boolean isFlash() { return (effectFlags & 1) != 0; }
+    public boolean isDrunk() { return (effectFlags & 2) != 0; }
+    public boolean isDoubleMoney() { return (effectFlags & 4) != 0; }
+    public int getEffectRemainingMs() { return effectMs; }
+
+    public int getChefCount() { return chefCount; }
+    public double getChefX(int i) { return chefX[i] / (double) POS_SCALE; }
+    public double getChefY(int i) { return chefY[i] / (double) POS_SCALE; }
+    public int getChefDirection(int i) { return chefDir[i]; }
+    public int getChefAction(int i) { return chefAction[i]; }
+    public float getChefProgress(int i) { return (chefProgress[i] & 0xFF) / 255f; }
+    public long getChefHeld(int i) { return chefHeld[i]; }
+
+    public int getStationCount() { return stationCount; }
+    public long getStationItem(int i) { return stationItem[i]; }
+
+    public int getOrderCount() { return orderCount; }
+    public int getOrderId(int i) { return orderId[i]; }
+    public int getOrderDish(int i) { return orderDish[i]; }
+    public int getOrderTimeLeft(int i) { return orderTimeLeft[i]; }
+
+    public int getFloorCount() { return floorCount; }
+    public double getFloorX(int i) { return floorX[i] / (double) POS_SCALE; }
+    public double getFloorY(int i) { return floorY[i] / (double) POS_SCALE; }
+    public long getFloorItem(int i) { return floorItem[i]; }
+
+    public int getProjectileCount() { return projectileCount; }
+    public int getProjectileId(int i) { return projectileId[i]; }
+    public double getProjectileX(int i) { return projectileX[i] / (double) POS_SCALE; }
+    public double getProjectileY(int i) { return projectileY[i] / (double) POS_SCALE; }
+    public long getProjectileItem(int i) { return projectileItem[i]; }
+
+    // --- ITEM WORD ---
+    // bit 0-3 kind, 4-6 ItemState, 7 bersih, 8 sedang dimasak, 9-11 jumlah isi, 12+ isi (7 bit: kind + state) x 6
+    public static Kind kind(long word) { return KINDS[(int) (word & 0xF)]; }
+    public static int state(long word) { return (int) (word >>> 4) & 0x7; }
+    public static boolean isClean(long word) { return (word & (1L << 7)) != 0; }
+    public static boolean isCooking(long word) { return (word & (1L << 8)) != 0; }
+    public static int contentCount(long word) { return (int) (word >>> 9) & 0x7; }
+    public static Kind contentKind(long word, int i) { return KINDS[(int) (word >>> (12 + 7 * i)) & 0xF]; }
+    public static int contentState(long word, int i) { return (int) (word >>> (16 + 7 * i)) & 0x7; }
+
+    static long itemWord(Item item) {
+        if (item == null) return 0;
+        long w = kindOf(item).ordinal() | (long) item.getState().ordinal() << 4;
+
+        List<Preparable> contents = null;
+        if (item instanceof Plate plate) {
+            if (plate.isClean()) w |= 1L << 7;
+            contents = plate.getContents();
+        } else if (item instanceof CookingDevice device) {
+            if (device.isCooking()) w |= 1L << 8;
+            contents = device.getContents();
+        }
+        if (contents != null) {
+            int n = Math.min(contents.size(), MAX_CONTENTS);
+            w |= (long) n << 9;
+            for (int i = 0; i < n; i++) {
+                Item c = (Item) contents.get(i);
+                long packed = kindOf(c).ordinal() | (long) c.getState().ordinal() << 4;
+                w |= packed << (12 + 7 * i);
+            }
+        }
+        return w;
+    }
+
+    private static Kind kindOf(Item item) {
+        if (item instanceof Tomato) return Kind.TOMATO;
+        if (item instanceof Meat) return Kind.MEAT;
+        if (item instanceof Pasta) return Kind.PASTA;
+        if (item instanceof Shrimp) return Kind.SHRIMP;
+        if (item instanceof Fish) return Kind.FISH;
+        if (item instanceof Plate) return Kind.PLATE;
+        if (item instanceof DirtyPlate) return Kind.DIRTY_PLATE;
+        if (item instanceof BoilingPot) return Kind.BOILING_POT;
+        if (item instanceof FryingPan) return Kind.FRYING_PAN;
+        if (item instanceof PastaMarinara) return Kind.PASTA_MARINARA;
+        if (item instanceof PastaBolognese) return Kind.PASTA_BOLOGNESE;
+        if (item instanceof PastaFruttiDiMare) return Kind.PASTA_FRUTTI_DI_MARE;
+        return Kind.NONE;
+    }
+
+    private static int quantize(double v) {
+        return (int) Math.round(v * POS_SCALE);
+    }
+
+    // --- CAPTURE (thread engine / server) ---
+
+    void capture(GameEngine engine) {
+        tick = (int) engine.getSimClock().getTick();
+        timeRemaining = engine.getClock().getTimeRemaining();
+        score = engine.getOrders().getScore();
+        completed = engine.getOrders().getCompletedCount();
+        failed = engine.getOrders().getFailedCount();
+        EffectManager effects = engine.getEffects();
+        effectFlags = (effects.isFlash() ? 1 : 0) | (effects.isDrunk() ? 2 : 0) | (effects.isDoubleMoney() ? 4 : 0);
+        effectMs = (int) effects.getTimeRemaining();
+
+        List<Chef> chefs = engine.getChefs();
+        chefCount = Math.min(chefs.size(), MAX_CHEFS);
+        for (int i = 0; i < chefCount; i++) {
+            Chef c = chefs.get(i);
+            chefX[i] = quantize(c.getExactX());
+            chefY[i] = quantize(c.getExactY());
+            chefDir[i] = (byte) c.getDirection().ordinal();
+            chefAction[i] = (byte) c.getCurrentAction().ordinal();
+            chefProgress[i] = (byte) Math.round(c.getActionProgress() * 255);
+            chefHeld[i] = itemWord(c.getHeldItem());
+        }
+
+        List<StationTile> stations = engine.getWorld().getAllStations();
+        ensureStations(stations.size());
+        for (int i = 0; i < stationCount; i++) stationItem[i] = itemWord(stations.get(i).getStation().peek());
+
+        List<Order> orders = engine.getOrders().getActiveOrders();
+        orderCount = Math.min(orders.size(), MAX_ORDERS);
+        for (int i = 0; i < orderCount; i++) {
+            Order o = orders.get(i);
+            orderId[i] = o.getOrderId();
+            orderDish[i] = (byte) o.getRecipe().getType().ordinal();
+            orderTimeLeft[i] = o.getTimeLeft();
+        }
+
+        FloorItemIndex floor = engine.getWorld().getFloorItems();
+        ensureFloor(floor.size());
+        floorCount = 0;
+        floor.forEach(floorSink);
+
+        List<GameEngine.Projectile> projectiles = engine.getProjectiles();
+        ensureProjectiles(projectiles.size());
+        projectileCount = projectiles.size();
+        for (int i = 0; i < projectileCount; i++) {
+            GameEngine.Projectile p = projectiles.get(i);
+            projectileId[i] = p.getId();
+            projectileX[i] = quantize(p.getX());
+            projectileY[i] = quantize(p.getY());
+            projectileItem[i] = itemWord(p.getItem());
+        }
+    }
+
+    private void addFloorItem(FloorItemIndex.DroppedItem di) {
+        floorX[floorCount] = quantize(di.getX());
+        floorY[floorCount] = quantize(di.getY());
+        floorItem[floorCount] = itemWord(di.getItem());
+        floorCount++;
+    }
+
+    void copyFrom(NetState s) {
+        tick = s.tick;
+        timeRemaining = s.timeRemaining;
+        score = s.score;
+        completed = s.completed;
+        failed = s.failed;
+        effectFlags = s.effectFlags;
+        effectMs = s.effectMs;
+
+        chefCount = s.chefCount;
+        System.arraycopy(s.chefX, 0, chefX, 0, chefCount);
+        System.arraycopy(s.chefY, 0, chefY, 0, chefCount);
+        System.arraycopy(s.chefDir, 0, chefDir, 0, chefCount);
+        System.arraycopy(s.chefAction, 0, chefAction, 0, chefCount);
+        System.arraycopy(s.chefProgress, 0, chefProgress, 0, chefCount);
+        System.arraycopy(s.chefHeld, 0, chefHeld, 0, chefCount);
+
+        ensureStations(s.stationCount);
+        System.arraycopy(s.stationItem, 0, stationItem, 0, stationCount);
+
+        orderCount = s.orderCount;
+        System.arraycopy(s.orderId, 0, orderId, 0, orderCount);
+        System.arraycopy(s.orderDish, 0, orderDish, 0, orderCount);
+        System.arraycopy(s.orderTimeLeft, 0, orderTimeLeft, 0, orderCount);
+
+        ensureFloor(s.floorCount);
+        floorCount = s.floorCount;
+        System.arraycopy(s.floorX, 0, floorX, 0, floorCount);
+        System.arraycopy(s.floorY, 0, floorY, 0, floorCount);
+        System.arraycopy(s.floorItem, 0, floorItem, 0, floorCount);
+
+        ensureProjectiles(s.projectileCount);
+        projectileCount = s.projectileCount;
+        System.arraycopy(s.projectileId, 0, projectileId, 0, projectileCount);
+        System.arraycopy(s.projectileX, 0, projectileX, 0, projectileCount);
+        System.arraycopy(s.projectileY, 0, projectileY, 0, projectileCount);
+        System.arraycopy(s.projectileItem, 0, projectileItem, 0, projectileCount);
+    }
+
+    // --- DELTA ---
+    // tick(int) sections(byte) lalu per section yang berubah:
+    //   HUD        : time(short) score(int) completed failed(short) effects(byte) effectMs(int)
+    //   CHEFS      : count(byte) mask(byte) {x y(pos) dir action progress(byte) held(long)}* chef yang berubah
+    //   STATIONS   : count(short) n(short) {index(short) item(long)}*   -- short di sini unsigned
+    //   ORDERS     : count(byte) mask(byte) {id(int) dish(byte) timeLeft(short)}*
+    //   FLOOR      : count(short) {x y(pos) item(long)}*                -- dikirim utuh jika ada yang berubah
+    //   PROJECTILES: count(byte) {id(int) x y(pos) item(long)}*         -- idem
+
+    void writeDelta(NetState base, ByteBuffer out) {
+        out.putInt(tick);
+        int maskPos = out.position();
+        out.put((byte) 0);
+        int sections = 0;
+
+        if (timeRemaining != base.timeRemaining || score != base.score || completed != base.completed
+                || failed != base.failed || effectFlags != base.effectFlags || effectMs != base.effectMs) {
+            sections |= SECTION_HUD;
+            out.putShort((short) timeRemaining);
+            out.putInt(score);
+            out.putShort((short) completed);
+            out.putShort((short) failed);
+            out.put((byte) effectFlags);
+            out.putInt(effectMs);
+        }
+
+        int chefMask = 0;
+        for (int i = 0; i < chefCount; i++) {
+            if (i >= base.chefCount || chefX[i] != base.chefX[i] || chefY[i] != base.chefY[i]
+                    || chefDir[i] != base.chefDir[i] || chefAction[i] != base.chefAction[i]
+                    || chefProgress[i] != base.chefProgress[i] || chefHeld[i] != base.chefHeld[i]) {
+                chefMask |= 1 << i;
+            }
+        }
+        if (chefMask != 0 || chefCount != base.chefCount) {
+            sections |= SECTION_CHEFS;
+            out.put((byte) chefCount);
+            out.put((byte) chefMask);
+            for (int i = 0; i < chefCount; i++) {
+                if ((chefMask & (1 << i)) == 0) continue;
+                NetProtocol.putPos(out, chefX[i]);
+                NetProtocol.putPos(out, chefY[i]);
+                out.put(chefDir[i]);
+                out.put(chefAction[i]);
+                out.put(chefProgress[i]);
+                out.putLong(chefHeld[i]);
+            }
+        }
+
+        int changedStations = 0;
+        for (int i = 0; i < stationCount; i++) {
+            long old = i < base.stationCount ? base.stationItem[i] : 0;
+            if (stationItem[i] != old) changedStations++;
+        }
+        if (changedStations != 0 || stationCount != base.stationCount) {
+            sections |= SECTION_STATIONS;
+            out.putShort((short) stationCount);
+            out.putShort((short) changedStations);
+            for (int i = 0; i < stationCount; i++) {
+                long old = i < base.stationCount ? base.stationItem[i] : 0;
+                if (stationItem[i] == old) continue;
+                out.putShort((short) i);
+                out.putLong(stationItem[i]);
+            }
+        }
+
+        int orderMask = 0;
+        for (int i = 0; i < orderCount; i++) {
+            if (i >= base.orderCount || orderId[i] != base.orderId[i] || orderDish[i] != base.orderDish[i]
+                    || orderTimeLeft[i] != base.orderTimeLeft[i]) {
+                orderMask |= 1 << i;
+            }
+        }
+        if (orderMask != 0 || orderCount != base.orderCount) {
+            sections |= SECTION_ORDERS;
+            out.put((byte) orderCount);
+            out.put((byte) orderMask);
+            for (int i = 0; i < orderCount; i++) {
+                if ((orderMask & (1 << i)) == 0) continue;
+                out.putInt(orderId[i]);
+                out.put(orderDish[i]);
+                out.putShort((short) orderTimeLeft[i]);
+            }
+        }
+
+        if (!sameFloor(base)) {
+            sections |= SECTION_FLOOR;
+            out.putShort((short) floorCount);
+            for (int i = 0; i < floorCount; i++) {
+                NetProtocol.putPos(out, floorX[i]);
+                NetProtocol.putPos(out, floorY[i]);
+                out.putLong(floorItem[i]);
+            }
+        }
+
+        if (!sameProjectiles(base)) {
+            sections |= SECTION_PROJECTILES;
+            out.put((byte) projectileCount);
+            for (int i = 0; i < projectileCount; i++) {
+                out.putInt(projectileId[i]);
+                NetProtocol.putPos(out, projectileX[i]);
+                NetProtocol.putPos(out, projectileY[i]);
+                out.putLong(projectileItem[i]);
+            }
+        }
+
+        out.put(maskPos, (byte) sections);
+    }
+
+    // Client: terapkan delta (yang dibuat terhadap state ini) di tempat
+    void applyDelta(ByteBuffer in) {
+        tick = in.getInt();
+        int sections = in.get();
+
+        if ((sections & SECTION_HUD) != 0) {
+            timeRemaining = in.getShort();
+            score = in.getInt();
+            completed = in.getShort();
+            failed = in.getShort();
+            effectFlags = in.get();
+            effectMs = in.getInt();
+        }
+
+        if ((sections & SECTION_CHEFS) != 0) {
+            chefCount = Math.min(in.get(), MAX_CHEFS);
+            int mask = in.get() & 0xFF;
+            for (int i = 0; i < chefCount; i++) {
+                if ((mask & (1 << i)) == 0) continue;
+                chefX[i] = NetProtocol.getPos(in);
+                chefY[i] = NetProtocol.getPos(in);
+                chefDir[i] = in.get();
+                chefAction[i] = in.get();
+                chefProgress[i] = in.get();
+                chefHeld[i] = in.getLong();
+            }
+        }
+
+        if ((sections & SECTION_STATIONS) != 0) {
+            int count = in.getShort() & 0xFFFF;
+            int previous = stationCount;
+            ensureStations(count);
+            for (int i = previous; i < count; i++) stationItem[i] = 0;
+            int n = in.getShort() & 0xFFFF;
+            for (int k = 0; k < n; k++) {
+                int i = in.getShort() & 0xFFFF;
+                stationItem[i] = in.getLong();
+            }
+        }
+
+        if ((sections & SECTION_ORDERS) != 0) {
+            orderCount = Math.min(in.get(), MAX_ORDERS);
+            int mask = in.get() & 0xFF;
+            for (int i = 0; i < orderCount; i++) {
+                if ((mask & (1 << i)) == 0) continue;
+                orderId[i] = in.getInt();
+                orderDish[i] = in.get();
+                orderTimeLeft[i] = in.getShort();
+            }
+        }
+
+        if ((sections & SECTION_FLOOR) != 0) {
+            int n = in.getShort() & 0xFFFF;
+            ensureFloor(n);
+            floorCount = n;
+            for (int i = 0; i < n; i++) {
+                floorX[i] = NetProtocol.getPos(in);
+                floorY[i] = NetProtocol.getPos(in);
+                floorItem[i] = in.getLong();
+            }
+        }
+
+        if ((sections & SECTION_PROJECTILES) != 0) {
+            int n = in.get() & 0xFF;
+            ensureProjectiles(n);
+            projectileCount = n;
+            for (int i = 0; i < n; i++) {
+                projectileId[i] = in.getInt();
+                projectileX[i] = NetProtocol.getPos(in);
+                projectileY[i] = NetProtocol.getPos(in);
+                projectileItem[i] = in.getLong();
+            }
+        }
+    }
+
+    private boolean sameFloor(NetState base) {
+        if (floorCount != base.floorCount) return false;
+        for (int i = 0; i < floorCount; i++) {
+            if (floorX[i] != base.floorX[i] || floorY[i] != base.floorY[i] || floorItem[i] != base.floorItem[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameProjectiles(NetState base) {
+        if (projectileCount != base.projectileCount) return false;
+        for (int i = 0; i < projectileCount; i++) {
+            if (projectileId[i] != base.projectileId[i] || projectileX[i] != base.projectileX[i]
+                    || projectileY[i] != base.projectileY[i] || projectileItem[i] != base.projectileItem[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureStations(int n) {
+        if (stationItem.length < n) {
+            long[] bigger = new long[n];
+            System.arraycopy(stationItem, 0, bigger, 0, stationCount);
+            stationItem = bigger;
+        }
+        stationCount = n;
+    }
+
+    private void ensureFloor(int n) {
+        if (floorX.length >= n) return;
+        int size = Math.max(n, floorX.length * 2);
+        floorX = java.util.Arrays.copyOf(floorX, size);
+        floorY = java.util.Arrays.copyOf(floorY, size);
+        floorItem = java.util.Arrays.copyOf(floorItem, size);
+    }
+
+    private void ensureProjectiles(int n) {
+        if (projectileX.length >= n) return;
+        int size = Math.max(n, projectileX.length * 2);
+        projectileId = java.util.Arrays.copyOf(projectileId, size);
+        projectileX = java.util.Arrays.copyOf(projectileX, size);
+        projectileY = java.util.Arrays.copyOf(projectileY, size);
+        projectileItem = java.util.Arrays.copyOf(projectileItem, size);
+    }
+}
@@ -2,39 +2,52 @@ package model.orders;
 
 import model.recipes.Recipe;
 
+// Sisa waktu dihitung dari deadline absolut (detik jam OrderManager), bukan dikurangi tiap detik.
+// Sebelum dipegang OrderManager (mis. baru dibaca dari checkpoint) order menyimpan sisa waktunya langsung.
 public class Order {
-    private static int nextId = 1;
-
     private final int orderId;
     private final Recipe recipe;
-    private int timeLeft;
+    private int timeLeft;           // beku setelah selesai/expired, atau sebelum attach
+    private int deadline;
+    private OrderManager owner;
+    int heapIndex = -1;             // posisi di heap deadline OrderManager, -1 = tidak di heap
+    Order dishPrev, dishNext;       // link antrean per dish di OrderManager (intrusive, lepas O(1))
     private boolean completed = false;
     private boolean expired = false;
 
-    public Order(Recipe recipe, int timeLimit) {
-        this.orderId = nextId++;
+    public Order(int orderId, Recipe recipe, int timeLimit) {
+        this.orderId = orderId;
         this.recipe = recipe;
         this.timeLeft = timeLimit;
     }
 
-    public void tick() {
-        if (completed || expired) return;
-        timeLeft--;
-        if (timeLeft <= 0) {
-            expired = true;
-        }
+    void attach(OrderManager owner, int now) {
+        this.owner = owner;
+        this.deadline = now + timeLeft;
+    }
+
+    void expire() {
+        timeLeft = 0;
+        expired = true;
     }
 
+    int getDeadline() { return deadline; }
+
     public boolean isExpired() { return expired; }
     public boolean isCompleted() { return completed; }
-    public void complete() { completed = true; }
+
+    public void complete() {
+        timeLeft = getTimeLeft();
+        completed = true;
+    }
+
     public Recipe getRecipe() { return recipe; }
-    public int getTimeLeft() { return timeLeft; }
+    public int getTimeLeft() { return owner == null || completed || expired ? timeLeft : deadline - owner.getClock(); }
     public int getOrderId() { return orderId; }
 
     @Override
     public String toString() {
         return "Order #" + orderId + ": " + recipe.getName() +
-                " (" + timeLeft + "s remaining)";
+                " (" + getTimeLeft() + "s remaining)";
     }
-}
\ No newline at end of file
+}
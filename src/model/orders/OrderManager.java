@@ -1,85 +1,145 @@
 package model.orders;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
+import java.util.Map;
+import java.util.Random;
 
+import model.engine.EffectManager;
 import model.recipes.DishType;
 import model.recipes.Recipe;
 import model.recipes.RecipeBook;
-import utils.TimerUtils;
 
+// Order aktif diindeks tiga cara:
+// - heap: min-heap (deadline, id) sehingga tick hanya melihat puncaknya, O(log n) per order yang expired
+// - byDish: antrean per DishType (urutan datang, linked list intrusif di Order) untuk serve, lepas O(1)
+// - active: urutan datang untuk HUD/snapshot/checkpoint. Order yang selesai/expired hanya ditandai dan
+//   dibuang saat view diminta (pembacanya memang O(n)) atau saat sisa basinya melebihi order hidup
+// Jadi tick dan submitDish O(log n) per order. Sisa waktu order = deadline - clock; tanpa decrement per detik.
 public class OrderManager {
+    // Kepala/ekor antrean satu dish
+    private static final class DishQueue {
+        Order head, tail;
+    }
+
     private final List<Order> active = new ArrayList<>();
-    private final int max = 3; 
+    private final List<Order> activeView = Collections.unmodifiableList(active);
+    private int stale;              // entri active yang sudah selesai/expired
+    private Order[] heap = new Order[8];
+    private int heapSize;
+    private final Map<DishType, DishQueue> byDish = new EnumMap<>(DishType.class);
+    private final int max;
+    private final int spawnInterval;
+    private final int timeLimit;
+    private int clock;              // detik sejak sesi mulai (basis deadline)
     private int score = 0;
-    private int completedOrdersCount = 0; 
+    private int completedOrdersCount = 0;
     private int failedOrdersCount = 0;
-    private ScheduledFuture<?> tickTask;
-    
+
     private int spawnTimer = 0;
-    private final int SPAWN_INTERVAL = 10; 
 
-    public OrderManager(boolean startThread) {
-        if (startThread) {
-            tickTask = TimerUtils.repeat(() -> tick(), 1000);
-        }
+    // Milik satu GameSession: id order, RNG, dan efek tidak dibagi antar sesi
+    private final Random random;
+    private final EffectManager effects;
+    private int nextOrderId = 1;
+
+    public OrderManager(Random random, EffectManager effects) {
+        this(random, effects, 3, 10, 90);
+    }
+
+    // Di-tick oleh GameEngine setiap detik simulasi. maxActive = batas order aktif sebelum spawn ditahan,
+    // spawnInterval & timeLimit dalam detik (lihat GameConfig)
+    public OrderManager(Random random, EffectManager effects, int maxActive, int spawnInterval, int timeLimit) {
+        this.random = random;
+        this.effects = effects;
+        this.max = Math.max(1, maxActive);
+        this.spawnInterval = Math.max(1, spawnInterval);
+        this.timeLimit = Math.max(1, timeLimit);
+        for (DishType type : DishType.values()) byDish.put(type, new DishQueue());
     }
 
     public void tick() {
-        active.forEach(Order::tick);
+        clock++;
 
-        List<Order> expired = active.stream()
-                .filter(Order::isExpired)
-                .toList();
+        while (heapSize > 0 && heap[0].getDeadline() <= clock) {
+            Order o = heap[0];
+            o.expire();
+            retire(o);
 
-        for (Order o : expired) {
             System.out.println("⏰ Order #" + o.getOrderId() + " EXPIRED!");
             deductScore(30);
             failedOrdersCount++;
         }
-        active.removeIf(Order::isExpired);
 
         spawnTimer++;
-        
-        if (spawnTimer >= SPAWN_INTERVAL) {
-            if (active.size() < max) {
+
+        if (spawnTimer >= spawnInterval) {
+            if (heapSize < max) {
                 generateOrder();
-                spawnTimer = 0; 
+                spawnTimer = 0;
             }
         }
     }
 
     private void generateOrder() {
-        DishType type = RecipeBook.getRandomDish();
+        DishType type = RecipeBook.getRandomDish(random);
         Recipe recipe = RecipeBook.getRecipe(type);
-        Order newOrder = new Order(recipe, 90);
-        active.add(newOrder);
+        Order newOrder = new Order(nextOrderId++, recipe, timeLimit);
+        add(newOrder);
         System.out.println("📋 New Order #" + newOrder.getOrderId() + ": " + recipe.getName());
     }
 
+    private void add(Order o) {
+        o.attach(this, clock);
+        active.add(o);
+        DishQueue q = byDish.get(o.getRecipe().getType());
+        o.dishPrev = q.tail;
+        if (q.tail != null) q.tail.dishNext = o; else q.head = o;
+        q.tail = o;
+        pushToHeap(o);
+    }
+
+    // Lepas dari heap dan antrean dish; entri di active dibuang belakangan (compact)
+    private void retire(Order o) {
+        removeFromHeap(o);
+        DishQueue q = byDish.get(o.getRecipe().getType());
+        if (o.dishPrev != null) o.dishPrev.dishNext = o.dishNext; else q.head = o.dishNext;
+        if (o.dishNext != null) o.dishNext.dishPrev = o.dishPrev; else q.tail = o.dishPrev;
+        o.dishPrev = o.dishNext = null;
+        if (++stale > heapSize && stale >= 32) compact();
+    }
+
+    private void compact() {
+        if (stale == 0) return;
+        active.removeIf(o -> o.heapIndex < 0);
+        stale = 0;
+    }
+
     public boolean submitDish(DishType type) {
-        for (Order o : active) {
-            if (o.getRecipe().getType() == type && !o.isExpired()) {
-                o.complete();
-                
-                int baseScore = 100;
-                int speedBonus = (o.getTimeLeft() > 45) ? 20 : 0; 
-                int total = baseScore + speedBonus;
-                if (model.engine.EffectManager.getInstance().isDoubleMoney()) {
-                    total *= 2;
-                    System.out.println("💰 DOUBLE MONEY ACTIVE! Score x2");
-                }
-                addScore(total);
-                
-                active.remove(o);
-                completedOrdersCount++;
-                System.out.println("✅ Order completed!");
-                
-                spawnTimer = 0; 
-                
-                return true;
+        // Order tertua dengan dish yang sama (sama dengan scan urutan datang)
+        Order o = byDish.get(type).head;
+        if (o != null) {
+            int baseScore = 100;
+            int speedBonus = (o.getTimeLeft() > timeLimit / 2) ? 20 : 0;
+            int total = baseScore + speedBonus;
+            o.complete();
+
+            if (effects.isDoubleMoney()) {
+                total *= 2;
+                System.out.println("💰 DOUBLE MONEY ACTIVE! Score x2");
             }
+            addScore(total);
+
+            retire(o);
+            completedOrdersCount++;
+            System.out.println("✅ Order completed!");
+
+            spawnTimer = 0;
+
+            return true;
         }
         deductScore(10);
         System.out.println("❌ Wrong dish served!");
@@ -90,9 +150,88 @@ public class OrderManager {
     private void addScore(int amount) { score += amount; }
     private void deductScore(int amount) { score -= amount; }
 
-    public List<Order> getActiveOrders() { return new ArrayList<>(active); }
+    // --- HEAP DEADLINE (indexed, supaya order yang di-serve bisa dicabut dari tengah) ---
+
+    private static boolean before(Order a, Order b) {
+        return a.getDeadline() != b.getDeadline() ? a.getDeadline() < b.getDeadline() : a.getOrderId() < b.getOrderId();
+    }
+
+    private void pushToHeap(Order o) {
+        if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+        heap[heapSize] = o;
+        o.heapIndex = heapSize++;
+        siftUp(o.heapIndex);
+    }
+
+    private void removeFromHeap(Order o) {
+        int i = o.heapIndex;
+        o.heapIndex = -1;
+        Order last = heap[--heapSize];
+        heap[heapSize] = null;
+        if (i == heapSize) return;
+        heap[i] = last;
+        last.heapIndex = i;
+        siftDown(i);
+        siftUp(last.heapIndex);
+    }
+
+    private void siftUp(int i) {
+        Order o = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(o, heap[parent])) break;
+            heap[i] = heap[parent];
+            heap[i].heapIndex = i;
+            i = parent;
+        }
+        heap[i] = o;
+        o.heapIndex = i;
+    }
+
+    private void siftDown(int i) {
+        Order o = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) child++;
+            if (!before(heap[child], o)) break;
+            heap[i] = heap[child];
+            heap[i].heapIndex = i;
+            i = child;
+        }
+        heap[i] = o;
+        o.heapIndex = i;
+    }
+
+    // --- CHECKPOINT ---
+    public int getSpawnTimer() { return spawnTimer; }
+    public int getNextOrderId() { return nextOrderId; }
+
+    // orders: urutan datang dengan sisa waktu masing-masing (Order baru, belum dipegang manager lain)
+    public void restore(List<Order> orders, int score, int completed, int failed, int spawnTimer, int nextOrderId) {
+        active.clear();
+        stale = 0;
+        Arrays.fill(heap, 0, heapSize, null);
+        heapSize = 0;
+        for (DishQueue q : byDish.values()) q.head = q.tail = null;
+        for (Order o : orders) add(o);
+        this.score = score;
+        this.completedOrdersCount = completed;
+        this.failedOrdersCount = failed;
+        this.spawnTimer = spawnTimer;
+        this.nextOrderId = nextOrderId;
+    }
+
+    int getClock() { return clock; }
+
+    // View read-only urutan datang, tanpa copy. Panggil ulang setelah tick/submitDish: view lama bisa masih
+    // memuat order yang sudah selesai/expired sampai compact berikutnya (hanya dibaca di thread engine)
+    public List<Order> getActiveOrders() {
+        compact();
+        return activeView;
+    }
+    public int getMaxActiveOrders() { return max; }
     public int getScore() { return score; }
-    public void stop() { if (tickTask != null) tickTask.cancel(true); }
     public int getCompletedCount() { return completedOrdersCount; }
     public int getFailedCount() { return failedOrdersCount; }
-}
\ No newline at end of file
+}
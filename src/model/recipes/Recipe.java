@@ -6,10 +6,12 @@ import java.util.List;
 public class Recipe {
     private final DishType type;
     private final List<Class<? extends Preparable>> requiredIngredients;
+    private final long signature;
 
     public Recipe(DishType type, List<Class<? extends Preparable>> requiredIngredients) {
         this.type = type;
         this.requiredIngredients = requiredIngredients;
+        this.signature = RecipeBook.kindSignature(requiredIngredients);
     }
 
     public DishType getType() {
@@ -24,26 +26,18 @@ public class Recipe {
         return requiredIngredients;
     }
 
+    // Multiset bahan dalam bentuk packed (lihat RecipeBook)
+    public long getSignature() {
+        return signature;
+    }
+
     public boolean matches(List<Preparable> ingreds) {
         if (ingreds.size() != requiredIngredients.size()) return false;
+        return signature == RecipeBook.signatureOf(ingreds);
+    }
 
-        boolean[] used = new boolean[ingreds.size()];
-
-        for (Class<? extends Preparable> req : requiredIngredients) {
-            boolean found = false;
-
-            for (int i = 0; i < ingreds.size(); i++) {
-                if (!used[i] && req.isInstance(ingreds.get(i))) {
-                    used[i] = true;
-                    found = true;
-                    break;
-                }
-            }
-
-            if (!found) return false;
-        }
-
-        return true;
+    public boolean matches(long ingredientSignature) {
+        return signature == ingredientSignature;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package model.recipes;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -13,7 +14,34 @@ import items.ingredients.Shrimp;
 import items.ingredients.Tomato;
 
 public class RecipeBook {
+    // Signature = multiset bahan dalam satu long: tiap jenis bahan punya id kecil dan 4 bit hitungan.
+    // Hitungan dibatasi 14 sehingga nibble 0xF tidak pernah muncul dan -1 aman dipakai sebagai NO_MATCH.
+    public static final long EMPTY_SIGNATURE = 0L;
+    public static final long NO_MATCH_SIGNATURE = -1L;
+    private static final int COUNT_BITS = 4;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long MAX_COUNT = COUNT_MASK - 1;
+    private static final int MAX_KINDS = Long.SIZE / COUNT_BITS;
+
+    // Field di bawah harus dideklarasikan sebelum blok static (dipakai konstruktor Recipe saat init)
+    private static final List<Class<? extends Preparable>> kinds = new ArrayList<>();
+    private static boolean sealed = false;
+
+    // Id jenis untuk kelas runtime (subclass ikut id kelas resep yang di-extend-nya, seperti isInstance)
+    private static final ClassValue<Integer> kindOfClass = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < kinds.size(); i++) {
+                if (kinds.get(i).isAssignableFrom(type)) return i;
+            }
+            return -1;
+        }
+    };
+
     private static final Map<DishType, Recipe> recipes = new EnumMap<>(DishType.class);
+    private static long[] signatureKeys;
+    private static DishType[] signatureDishes;
+    private static int signatureMask;
 
     static {
         recipes.put(
@@ -31,6 +59,9 @@ public class RecipeBook {
                 new Recipe(DishType.PASTA_FRUTTI_DI_MARE,
                         List.of(Pasta.class, Shrimp.class, Fish.class))
         );
+
+        sealed = true;
+        buildSignatureIndex();
     }
 
     public static Recipe getRecipe(DishType type) {
@@ -38,16 +69,83 @@ public class RecipeBook {
     }
 
     public static DishType findMatch(List<Preparable> ingredients) {
-        for (Map.Entry<DishType, Recipe> entry : recipes.entrySet()) {
-            if (entry.getValue().matches(ingredients)) {
-                return entry.getKey();
+        return findMatch(signatureOf(ingredients));
+    }
+
+    // Satu lookup hash (open addressing) tanpa alokasi
+    public static DishType findMatch(long signature) {
+        if (signature == NO_MATCH_SIGNATURE) return null;
+        int i = slot(signature);
+        while (signatureDishes[i] != null) {
+            if (signatureKeys[i] == signature) return signatureDishes[i];
+            i = (i + 1) & signatureMask;
+        }
+        return null;
+    }
+
+    public static long signatureOf(List<Preparable> ingredients) {
+        long sig = EMPTY_SIGNATURE;
+        for (int i = 0; i < ingredients.size(); i++) {
+            sig = addToSignature(sig, ingredients.get(i));
+        }
+        return sig;
+    }
+
+    // Tambah satu bahan ke signature (dipakai Plate/DishBase secara inkremental)
+    public static long addToSignature(long signature, Preparable ingredient) {
+        if (signature == NO_MATCH_SIGNATURE || ingredient == null) return NO_MATCH_SIGNATURE;
+        int kind = kindOfClass.get(ingredient.getClass());
+        if (kind < 0) return NO_MATCH_SIGNATURE;
+
+        int shift = kind * COUNT_BITS;
+        if (((signature >>> shift) & COUNT_MASK) >= MAX_COUNT) return NO_MATCH_SIGNATURE;
+        return signature + (1L << shift);
+    }
+
+    // Signature resep dari daftar kelas; mendaftarkan jenis bahan baru hanya selama init RecipeBook
+    static long kindSignature(List<Class<? extends Preparable>> required) {
+        long sig = EMPTY_SIGNATURE;
+        for (Class<? extends Preparable> type : required) {
+            int kind = kinds.indexOf(type);
+            if (kind < 0) {
+                if (sealed) throw new IllegalStateException("Unknown ingredient kind after RecipeBook init: " + type.getSimpleName());
+                if (kinds.size() == MAX_KINDS) throw new IllegalStateException("Too many ingredient kinds (max " + MAX_KINDS + ")");
+                kinds.add(type);
+                kind = kinds.size() - 1;
+            }
+            int shift = kind * COUNT_BITS;
+            if (((sig >>> shift) & COUNT_MASK) >= MAX_COUNT) throw new IllegalStateException("Too many " + type.getSimpleName() + " in recipe");
+            sig += 1L << shift;
+        }
+        return sig;
+    }
+
+    private static void buildSignatureIndex() {
+        int capacity = 4;
+        while (capacity < recipes.size() * 2) capacity <<= 1;
+        signatureKeys = new long[capacity];
+        signatureDishes = new DishType[capacity];
+        signatureMask = capacity - 1;
+
+        // Urutan EnumMap: jika dua resep punya multiset sama, yang pertama menang (sama seperti scan lama)
+        for (Recipe recipe : recipes.values()) {
+            long sig = recipe.getSignature();
+            int i = slot(sig);
+            while (signatureDishes[i] != null && signatureKeys[i] != sig) i = (i + 1) & signatureMask;
+            if (signatureDishes[i] == null) {
+                signatureKeys[i] = sig;
+                signatureDishes[i] = recipe.getType();
             }
         }
-        return null; 
     }
 
-    public static DishType getRandomDish() {
+    private static int slot(long signature) {
+        long h = signature * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & signatureMask;
+    }
+
+    public static DishType getRandomDish(Random random) {
         DishType[] arr = DishType.values();
-        return arr[new Random().nextInt(arr.length)];
+        return arr[random.nextInt(arr.length)];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package model.replay;
+
+// Format log input (.cbr), semua integer varint unsigned kecuali disebut lain:
+//   header : magic(int) version(byte) seed(long) mapType mapWidth mapHeight stageTime maxFailed targetOrders
+//            minScore survival(byte) fps maxOrders orderInterval orderTimeLimit chefCount {chefX chefY}*
+//   record : kepala(byte) = op << 3 | (chef + 1), chef + 1 >= 7 -> 7 lalu varint(chef + 1);
+//            varint(delta tick dari record sebelumnya) varint(arg)
+//   footer : END(byte) varint(delta tick akhir) stateHash(long)   -- tidak ada jika sesi dibatalkan
+final class InputLog {
+    static final int MAGIC = 0x43424352;    // "CBCR"
+    // Naik jika seed yang sama tidak lagi menghasilkan sesi yang sama (format RNG/map berubah)
+    // atau isi StateHash di footer berubah (5: isi station, efek, RNG)
+    static final int VERSION = 5;
+    static final int END = 0xFF;
+    static final int CHEF_ESCAPE = 7;
+
+    private InputLog() {}
+}
@@ -0,0 +1,153 @@
+package model.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import model.engine.GameConfig;
+import model.engine.InputOp;
+
+// Membaca log input (.cbr) secara streaming; header dibaca di konstruktor, record satu per satu lewat next()
+public class InputLogReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+    private boolean eof = false;
+
+    private final long seed;
+    private final int mapType;
+    private final GameConfig config;
+    private final int[] chefX, chefY;
+
+    private long tick;
+    private InputOp op;
+    private int chefIndex;
+    private int arg;
+
+    private boolean ended = false;
+    private boolean hasFooter = false;
+    private long finalTick = -1;
+    private long finalHash;
+
+    public InputLogReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.flip();
+
+        if (getInt() != InputLog.MAGIC) throw new IOException("Not an input log: " + path);
+        int version = getByte();
+        if (version != InputLog.VERSION) throw new IOException("Unsupported input log version: " + version);
+
+        seed = getLong();
+        mapType = (int) getVarint();
+        int mapWidth = (int) getVarint();
+        int mapHeight = (int) getVarint();
+        int stageTime = (int) getVarint();
+        int maxFailed = (int) getVarint();
+        int targetOrders = (int) getVarint();
+        int minScore = (int) getVarint();
+        boolean survival = getByte() != 0;
+        config = new GameConfig("Replay", stageTime, maxFailed, targetOrders, minScore, survival);
+        config.fps = (int) getVarint();
+        config.maxActiveOrders = (int) getVarint();
+        config.orderSpawnInterval = (int) getVarint();
+        config.orderTimeLimit = (int) getVarint();
+        config.mapWidth = mapWidth;
+        config.mapHeight = mapHeight;
+
+        int chefs = (int) getVarint();
+        chefX = new int[chefs];
+        chefY = new int[chefs];
+        for (int i = 0; i < chefs; i++) {
+            chefX[i] = (int) getVarint();
+            chefY[i] = (int) getVarint();
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public int getMapType() { return mapType; }
+    public GameConfig getConfig() { return config; }
+    public int getChefCount() { return chefX.length; }
+    public int getChefX(int i) { return chefX[i]; }
+    public int getChefY(int i) { return chefY[i]; }
+
+    // Maju ke record berikutnya; false jika habis (footer atau akhir file)
+    public boolean next() throws IOException {
+        if (ended) return false;
+        if (!fill(1)) {
+            ended = true;       // sesi dibatalkan: tidak ada footer
+            return false;
+        }
+        int head = getByte();
+        if (head == InputLog.END) {
+            finalTick = tick + getVarint();
+            finalHash = getLong();
+            hasFooter = true;
+            ended = true;
+            return false;
+        }
+
+        op = InputOp.of(head >>> 3);
+        int chef = head & 0x7;
+        if (chef == InputLog.CHEF_ESCAPE) chef = (int) getVarint();
+        chefIndex = chef - 1;
+        tick += getVarint();
+        arg = (int) getVarint();
+        return true;
+    }
+
+    public long getTick() { return tick; }
+    public InputOp getOp() { return op; }
+    public int getChefIndex() { return chefIndex; }
+    public int getArg() { return arg; }
+
+    // Valid setelah next() mengembalikan false
+    public boolean hasFooter() { return hasFooter; }
+    public long getFinalTick() { return finalTick; }
+    public long getFinalHash() { return finalHash; }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean fill(int needed) throws IOException {
+        if (buffer.remaining() >= needed) return true;
+        if (eof) return false;
+        buffer.compact();
+        while (buffer.position() < needed && !eof) {
+            if (channel.read(buffer) < 0) eof = true;
+        }
+        buffer.flip();
+        return buffer.remaining() >= needed;
+    }
+
+    private int getByte() throws IOException {
+        if (!fill(1)) throw new EOFException("Truncated input log");
+        return buffer.get() & 0xFF;
+    }
+
+    private int getInt() throws IOException {
+        if (!fill(4)) throw new EOFException("Truncated input log");
+        return buffer.getInt();
+    }
+
+    private long getLong() throws IOException {
+        if (!fill(8)) throw new EOFException("Truncated input log");
+        return buffer.getLong();
+    }
+
+    private long getVarint() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = getByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,133 @@
+package model.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import model.chef.Chef;
+import model.engine.GameConfig;
+import model.engine.GameSession;
+import model.engine.InputOp;
+import model.engine.InputRecorder;
+
+// Merekam input sesi ke log biner lewat FileChannel dengan buffer: tick di-delta-encode dan semua
+// angka varint, sehingga satu input biasanya 3 byte. record() dipanggil di thread engine;
+// close() boleh dari thread lain (keluar ke menu) sehingga method publik disinkronkan.
+public class InputLogWriter implements InputRecorder, AutoCloseable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_RECORD_BYTES = 32;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+    private long lastTick;
+    private boolean closed = false;
+
+    // Header ditulis dari state sesi saat ini; panggil setelah chef ditambahkan, sebelum step pertama
+    public InputLogWriter(Path path, GameSession session, int mapType) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        GameConfig config = session.getEngine().getConfig();
+        buffer.putInt(InputLog.MAGIC);
+        buffer.put((byte) InputLog.VERSION);
+        buffer.putLong(session.getSeed());
+        putVarint(mapType);
+        putVarint(config.mapWidth);
+        putVarint(config.mapHeight);
+        putVarint(config.stageTimeSeconds);
+        putVarint(config.maxFailedStreak);
+        putVarint(config.targetOrders);
+        putVarint(config.minScore);
+        buffer.put((byte) (config.isSurvival ? 1 : 0));
+        putVarint(config.fps);
+        putVarint(config.maxActiveOrders);
+        putVarint(config.orderSpawnInterval);
+        putVarint(config.orderTimeLimit);
+
+        List<Chef> chefs = session.getEngine().getChefs();
+        putVarint(chefs.size());
+        for (Chef c : chefs) {
+            putVarint(c.getX());
+            putVarint(c.getY());
+        }
+        this.lastTick = session.getEngine().getSimClock().getTick();
+    }
+
+    public Path getPath() { return path; }
+
+    @Override
+    public synchronized void record(long tick, InputOp op, int chefIndex, int arg) {
+        if (closed) return;
+        ensureSpace();
+        int chef = chefIndex + 1;
+        if (chef < InputLog.CHEF_ESCAPE) {
+            buffer.put((byte) (op.ordinal() << 3 | chef));
+        } else {
+            buffer.put((byte) (op.ordinal() << 3 | InputLog.CHEF_ESCAPE));
+            putVarint(chef);
+        }
+        putVarint(tick - lastTick);
+        putVarint(arg);
+        lastTick = tick;
+    }
+
+    // Sesi selesai normal: tulis tick akhir dan hash state untuk diverifikasi saat replay
+    public synchronized void finish(GameSession session) {
+        if (closed) return;
+        ensureSpace();
+        buffer.put((byte) InputLog.END);
+        putVarint(session.getEngine().getSimClock().getTick() - lastTick);
+        buffer.putLong(StateHash.of(session));
+        close();
+    }
+
+    // Tanpa footer: sesi dibatalkan, replay berjalan sampai input terakhir
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureSpace() {
+        if (buffer.remaining() >= MAX_RECORD_BYTES) return;
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    private void putVarint(long v) {
+        if (v < 0) throw new IllegalArgumentException("Negative varint: " + v);
+        while ((v & ~0x7FL) != 0) {
+            buffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte) v);
+    }
+}
@@ -0,0 +1,49 @@
+package model.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import model.chef.Chef;
+import model.engine.AudioSink;
+import model.engine.GameEngine;
+import model.engine.GameSession;
+
+// Memutar ulang log input secara headless secepat mungkin: sesi dibuat ulang dari seed + config di header,
+// setiap input di-submit tepat sebelum step pada tick yang sama seperti saat direkam.
+public class ReplayRunner {
+    public record Result(long ticks, int score, long stateHash, boolean hasExpected, long expectedHash) {
+        public boolean verified() { return hasExpected && stateHash == expectedHash; }
+    }
+
+    public static Result replay(Path path) throws IOException {
+        try (InputLogReader log = new InputLogReader(path)) {
+            GameSession session = new GameSession(log.getConfig(), log.getMapType(), log.getSeed());
+            GameEngine engine = session.getEngine();
+            engine.setAudioSink(AudioSink.SILENT);
+            for (int i = 0; i < log.getChefCount(); i++) {
+                engine.addChef(new Chef("c" + (i + 1), "Replay " + (i + 1), log.getChefX(i), log.getChefY(i)));
+            }
+
+            boolean pending = log.next();
+            while (!engine.isFinished()) {
+                long now = engine.getSimClock().getTick();
+                boolean submitted = false;
+                while (pending && log.getTick() == now) {
+                    engine.submitInput(log.getOp(), log.getChefIndex(), log.getArg());
+                    submitted = true;
+                    pending = log.next();
+                }
+                if (pending && log.getTick() < now) {
+                    throw new IOException("Input log out of order at tick " + log.getTick());
+                }
+                // Sesi yang dibatalkan berhenti setelah input terakhir dieksekusi; yang selesai normal berhenti sendiri
+                if (!pending && !submitted && !log.hasFooter()) break;
+                if (log.hasFooter() && now >= log.getFinalTick()) break;
+                engine.step();
+            }
+
+            return new Result(engine.getSimClock().getTick(), session.getOrders().getScore(),
+                    StateHash.of(session), log.hasFooter(), log.getFinalHash());
+        }
+    }
+}
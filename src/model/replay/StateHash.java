@@ -0,0 +1,132 @@
+package model.replay;
+
+import java.util.List;
+
+import items.core.CookingDevice;
+import items.core.Item;
+import items.core.Preparable;
+import items.dish.DishBase;
+import items.utensils.Plate;
+import model.chef.Chef;
+import model.engine.EffectManager;
+import model.engine.GameEngine;
+import model.engine.GameSession;
+import model.orders.Order;
+import model.orders.OrderManager;
+import model.world.tiles.StationTile;
+import stations.BaseStation;
+import stations.LuckyStation;
+import stations.PlateStorage;
+import stations.Station;
+
+// Hash 64-bit dari state akhir sesi (skor, order, chef, isi station, item di lantai, proyektil, efek, RNG).
+// Dipakai untuk memastikan replay menghasilkan state yang sama persis dengan sesi aslinya.
+// Item di-hash beserta isinya (piring, dish, panci/wajan dengan sisa waktu masak), sama seperti checkpoint.
+public final class StateHash {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private StateHash() {}
+
+    public static long of(GameSession session) {
+        GameEngine engine = session.getEngine();
+        OrderManager orders = session.getOrders();
+        long[] h = { FNV_OFFSET };
+
+        mix(h, engine.getSimClock().getTick());
+        mix(h, orders.getScore());
+        mix(h, orders.getCompletedCount());
+        mix(h, orders.getFailedCount());
+        mix(h, engine.isWin() ? 1 : 0);
+
+        List<Order> active = orders.getActiveOrders();
+        mix(h, active.size());
+        for (Order o : active) {
+            mix(h, o.getOrderId());
+            mix(h, o.getRecipe().getType().ordinal());
+            mix(h, o.getTimeLeft());
+        }
+
+        for (Chef c : engine.getChefs()) {
+            mix(h, Double.doubleToLongBits(c.getExactX()));
+            mix(h, Double.doubleToLongBits(c.getExactY()));
+            mix(h, c.getDirection().ordinal());
+            mixItem(h, c.getHeldItem());
+        }
+
+        for (StationTile tile : session.getWorld().getAllStations()) {
+            Station st = tile.getStation();
+            mix(h, st.getType().ordinal());
+            if (st instanceof LuckyStation lucky) {
+                mix(h, lucky.getCooldownTicksLeft());
+            } else if (st instanceof PlateStorage storage) {
+                List<Item> plates = storage.getPlates();
+                mix(h, plates.size());
+                for (int i = 0; i < plates.size(); i++) mixItem(h, plates.get(i));
+            } else if (st instanceof BaseStation base) {
+                mixItem(h, base.getStoredItem());
+            }
+        }
+
+        mix(h, session.getWorld().getFloorItems().size());
+        session.getWorld().getFloorItems().forEach(di -> {
+            mix(h, Double.doubleToLongBits(di.getX()));
+            mix(h, Double.doubleToLongBits(di.getY()));
+            mixItem(h, di.getItem());
+        });
+
+        List<GameEngine.Projectile> projectiles = engine.getProjectiles();
+        mix(h, projectiles.size());
+        for (GameEngine.Projectile p : projectiles) {
+            mix(h, Double.doubleToLongBits(p.getX()));
+            mix(h, Double.doubleToLongBits(p.getY()));
+            mixItem(h, p.getItem());
+        }
+
+        EffectManager effects = session.getEffects();
+        EffectManager.EffectType pending = effects.getPendingEffect();
+        mix(h, pending != null ? pending.ordinal() : -1);
+        for (EffectManager.EffectType type : EffectManager.EffectType.values()) {
+            mix(h, effects.isActive(type) ? effects.getEndTicksLeft(type) : 0);
+        }
+
+        mix(h, session.orderRngState());
+        mix(h, session.effectRngState());
+        return h[0];
+    }
+
+    private static void mixItem(long[] h, Item item) {
+        if (item == null) {
+            mix(h, -1);
+            return;
+        }
+        mix(h, item.getName().hashCode());
+        mix(h, item.getState() != null ? item.getState().ordinal() : -1);
+        if (item instanceof Plate plate) {
+            mix(h, plate.isClean() ? 1 : 0);
+            mixContents(h, plate.getContents());
+        } else if (item instanceof DishBase dish) {
+            mix(h, dish.getRecipe().getType().ordinal());
+            mixContents(h, dish.getIngredients());
+        } else if (item instanceof CookingDevice device) {
+            mix(h, device.isCooking() ? 1 : 0);
+            mix(h, device.getCookTicksLeft());
+            mix(h, device.getBurnTicksLeft());
+            mixContents(h, device.getContents());
+        }
+    }
+
+    private static void mixContents(long[] h, List<Preparable> contents) {
+        mix(h, contents.size());
+        for (int i = 0; i < contents.size(); i++) mixItem(h, (Item) contents.get(i));
+    }
+
+    private static void mix(long[] h, long v) {
+        long x = h[0];
+        for (int i = 0; i < 8; i++) {
+            x ^= (v >>> (i * 8)) & 0xFF;
+            x *= FNV_PRIME;
+        }
+        h[0] = x;
+    }
+}
@@ -0,0 +1,184 @@
+package model.world;
+
+import java.util.function.Consumer;
+
+import items.core.Item;
+
+// Spatial hash untuk item yang tergeletak di lantai (level world, bukan per tile).
+// Ukuran sel = diameter item, jadi query radius hanya menyentuh beberapa sel di sekitarnya,
+// termasuk yang melewati batas tile. Node intrusif + free list: insert/remove tanpa alokasi.
+public class FloorItemIndex {
+    private static final int MIN_BUCKETS = 64;
+
+    private final double cellSize;
+    private final double invCellSize;
+    private final DroppedItem[] buckets;
+    private final int mask;
+    private final double maxItemSize;
+
+    private DroppedItem first;     // daftar semua item (untuk iterasi render/efek)
+    private DroppedItem freeList;
+    private int size = 0;
+
+    public static final class DroppedItem {
+        private Item item;
+        private double x, y;
+        private int cellX, cellY, bucket = -1;
+        private DroppedItem bucketPrev, bucketNext;
+        private DroppedItem allPrev, allNext;
+
+        public Item getItem() { return item; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+    }
+
+    public FloorItemIndex(int worldWidth, int worldHeight, double maxItemSize) {
+        this.maxItemSize = maxItemSize;
+        this.cellSize = maxItemSize * 2;
+        this.invCellSize = 1.0 / cellSize;
+        int cells = (int) Math.ceil(worldWidth * invCellSize) * (int) Math.ceil(worldHeight * invCellSize);
+        int n = MIN_BUCKETS;
+        while (n < cells) n <<= 1;
+        this.buckets = new DroppedItem[n];
+        this.mask = n - 1;
+    }
+
+    public double getCellSize() { return cellSize; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public DroppedItem add(Item item, double x, double y) {
+        if (item == null) return null;
+        DroppedItem di = freeList;
+        if (di != null) freeList = di.allNext;
+        else di = new DroppedItem();
+
+        di.item = item;
+        di.x = x;
+        di.y = y;
+        di.cellX = cell(x);
+        di.cellY = cell(y);
+        di.bucket = hash(di.cellX, di.cellY);
+
+        di.bucketPrev = null;
+        di.bucketNext = buckets[di.bucket];
+        if (di.bucketNext != null) di.bucketNext.bucketPrev = di;
+        buckets[di.bucket] = di;
+
+        di.allPrev = null;
+        di.allNext = first;
+        if (first != null) first.allPrev = di;
+        first = di;
+
+        size++;
+        return di;
+    }
+
+    // Mengembalikan item yang dilepas; node dikembalikan ke pool dan tidak boleh dipakai lagi
+    public Item remove(DroppedItem di) {
+        if (di == null || di.bucket < 0) return null;
+        Item item = di.item;
+
+        if (di.bucketPrev != null) di.bucketPrev.bucketNext = di.bucketNext;
+        else buckets[di.bucket] = di.bucketNext;
+        if (di.bucketNext != null) di.bucketNext.bucketPrev = di.bucketPrev;
+
+        if (di.allPrev != null) di.allPrev.allNext = di.allNext;
+        else first = di.allNext;
+        if (di.allNext != null) di.allNext.allPrev = di.allPrev;
+
+        di.item = null;
+        di.bucket = -1;
+        di.bucketPrev = di.bucketNext = di.allPrev = null;
+        di.allNext = freeList;
+        freeList = di;
+
+        size--;
+        return item;
+    }
+
+    // Item terdekat dalam radius (jarak pusat ke pusat), boleh beda tile
+    public DroppedItem nearest(double x, double y, double radius) {
+        DroppedItem best = null;
+        double bestDist = radius * radius;
+        int minCx = cell(x - radius), maxCx = cell(x + radius);
+        int minCy = cell(y - radius), maxCy = cell(y + radius);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (DroppedItem di = buckets[hash(cx, cy)]; di != null; di = di.bucketNext) {
+                    if (di.cellX != cx || di.cellY != cy) continue;
+                    double dx = di.x - x, dy = di.y - y;
+                    double d = dx * dx + dy * dy;
+                    if (d <= bestDist) {
+                        bestDist = d;
+                        best = di;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // True jika ada item yang jaraknya < (ukuran item + radius) * slack
+    public boolean anyOverlapping(double x, double y, double radius, double slack) {
+        double reach = (maxItemSize + radius) * slack;
+        int minCx = cell(x - reach), maxCx = cell(x + reach);
+        int minCy = cell(y - reach), maxCy = cell(y + reach);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (DroppedItem di = buckets[hash(cx, cy)]; di != null; di = di.bucketNext) {
+                    if (di.cellX != cx || di.cellY != cy) continue;
+                    double limit = (di.item.getSize() + radius) * slack;
+                    double dx = di.x - x, dy = di.y - y;
+                    if (dx * dx + dy * dy < limit * limit) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Semua item dalam radius; tanpa alokasi selain consumer dari pemanggil
+    public void forEachWithin(double x, double y, double radius, Consumer<DroppedItem> action) {
+        double r2 = radius * radius;
+        int minCx = cell(x - radius), maxCx = cell(x + radius);
+        int minCy = cell(y - radius), maxCy = cell(y + radius);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                DroppedItem di = buckets[hash(cx, cy)];
+                while (di != null) {
+                    DroppedItem next = di.bucketNext;
+                    if (di.cellX == cx && di.cellY == cy) {
+                        double dx = di.x - x, dy = di.y - y;
+                        if (dx * dx + dy * dy <= r2) action.accept(di);
+                    }
+                    di = next;
+                }
+            }
+        }
+    }
+
+    public void forEach(Consumer<DroppedItem> action) {
+        DroppedItem di = first;
+        while (di != null) {
+            DroppedItem next = di.allNext;
+            if (di.item != null) action.accept(di);
+            di = next;
+        }
+    }
+
+    public void clear() {
+        while (first != null) remove(first);
+    }
+
+    private int cell(double v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private int hash(int cx, int cy) {
+        int h = cx * 73856093 ^ cy * 19349663;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,490 @@
+package model.world;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import utils.Position;
+import utils.SeededRandom;
+
+// Generator layout map (kode char per tile, lihat WorldMap.parseMap).
+// layoutFor: kandidat di-generate paralel di ForkJoin common pool, masing-masing dengan stream hasil split seed layout,
+// lalu divalidasi flood-fill. Kandidat valid dengan index terkecil yang dipakai, jadi hasilnya deterministik
+// berapa pun jumlah thread. Layout yang diterima di-cache per (mapType, ukuran, seed).
+// Map yang muat minimal 2 blok 14x10 disusun dari grid blok dapur (lihat compose).
+final class LayoutGenerator {
+    static final int DEFAULT_WIDTH = 14;
+    static final int DEFAULT_HEIGHT = 10;
+
+    private static final int MAX_ATTEMPTS = 100;
+    private static final int BATCH = Math.min(8, Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+    private static final int CACHE_SIZE = 64;
+    private static final String STATION_CODES = "LCRWSIAPT?";
+    // Tipe station yang wajib ada (daftar essential di placeStationsSmartly); tanpa salah satunya dish tidak bisa dibuat
+    private static final String REQUIRED_CODES = "APLTIRCSW";
+
+    // LRU kecil; layout di dalamnya tidak pernah diubah setelah masuk cache
+    private static final Map<Key, char[][]> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, char[][]> eldest) { return size() > CACHE_SIZE; }
+            });
+
+    private record Key(int mapType, int width, int height, long seed) {}
+
+    private final int width;
+    private final int height;
+    private final Random rand;
+
+    private LayoutGenerator(int width, int height, Random rand) {
+        this.width = width;
+        this.height = height;
+        this.rand = rand;
+    }
+
+    // Layout untuk (mapType, ukuran, seed); array hasil milik pemanggil (salinan dari cache)
+    static char[][] layoutFor(int mapType, int width, int height, long seed) {
+        Key key = new Key(mapType, width, height, seed);
+        char[][] layout = CACHE.get(key);
+        if (layout == null) {
+            // Di luar lock: dua sesi dengan key sama menghasilkan layout identik, jadi cukup yang terakhir disimpan
+            layout = search(mapType, width, height, seed);
+            CACHE.put(key, layout);
+        }
+        return copy(layout);
+    }
+
+    private static char[][] search(int mapType, int width, int height, long seed) {
+        if (mapType == 1) return staticFor(width, height);
+
+        SeededRandom seeds = new SeededRandom(seed);
+        List<ForkJoinTask<char[][]>> batch = new ArrayList<>(BATCH);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt += BATCH) {
+            batch.clear();
+            for (int i = 0; i < BATCH && attempt + i < MAX_ATTEMPTS; i++) {
+                SeededRandom stream = seeds.split();
+                batch.add(ForkJoinPool.commonPool().submit(() -> candidate(mapType, width, height, stream)));
+            }
+            // join berurutan: kandidat valid pertama menurut index, sisa batch dibiarkan selesai sendiri
+            for (ForkJoinTask<char[][]> task : batch) {
+                char[][] layout = task.join();
+                if (layout != null) return layout;
+            }
+        }
+        // Tidak ada kandidat organik yang valid: pakai layout statis
+        return staticFor(width, height);
+    }
+
+    // Layout statis (grid blok statis untuk map besar). Tidak memakai RNG, jadi kalau tidak valid itu bug layout
+    private static char[][] staticFor(int width, int height) {
+        char[][] layout = isComposite(width, height) ? compose(1, width, height, null) : staticLayout(width, height);
+        if (!isValid(layout)) throw new IllegalStateException("Static layout is not valid for " + width + "x" + height);
+        return layout;
+    }
+
+    private static char[][] candidate(int mapType, int width, int height, Random stream) {
+        char[][] layout = isComposite(width, height) ? compose(mapType, width, height, stream)
+                : new LayoutGenerator(width, height, stream).generateOrganicLayout(roomCount(mapType));
+        return isValid(layout) ? layout : null;
+    }
+
+    private static int roomCount(int mapType) { return (mapType == 2) ? 2 : 3; }
+
+    // --- MAP BESAR ---
+
+    private static boolean isComposite(int width, int height) {
+        return (width / DEFAULT_WIDTH) * (height / DEFAULT_HEIGHT) > 1;
+    }
+
+    // Grid blok 14x10 (di tengah map), tiap blok satu dapur utuh yang valid sendiri, dihubungkan koridor
+    // selebar 2 tile antar pusat blok yang bertetangga. Spawn hanya di blok tengah; blok lain jadi lantai biasa.
+    private static char[][] compose(int mapType, int width, int height, Random rand) {
+        int blocksX = width / DEFAULT_WIDTH, blocksY = height / DEFAULT_HEIGHT;
+        int ox = (width - blocksX * DEFAULT_WIDTH) / 2, oy = (height - blocksY * DEFAULT_HEIGHT) / 2;
+        int spawnBlock = (blocksY / 2) * blocksX + blocksX / 2;
+        char[][] layout = new char[height][width];
+        for (char[] row : layout) Arrays.fill(row, ' ');
+
+        for (int by = 0; by < blocksY; by++) {
+            for (int bx = 0; bx < blocksX; bx++) {
+                char[][] block = (mapType == 1) ? staticLayout(DEFAULT_WIDTH, DEFAULT_HEIGHT) : organicBlock(mapType, rand);
+                boolean keepSpawn = by * blocksX + bx == spawnBlock;
+                for (int y = 0; y < DEFAULT_HEIGHT; y++) {
+                    for (int x = 0; x < DEFAULT_WIDTH; x++) {
+                        char c = block[y][x];
+                        layout[oy + by * DEFAULT_HEIGHT + y][ox + bx * DEFAULT_WIDTH + x] = (c == 'V' && !keepSpawn) ? '.' : c;
+                    }
+                }
+            }
+        }
+
+        // Pusat blok ada di ruangan awal 5x4; koridor lurus 2 tile supaya dua chef bisa berpapasan. Station di jalur
+        // koridor tidak dibongkar, jadi sambungan dipastikan lewat connect (memutar di sekitar station bila perlu)
+        for (int by = 0; by < blocksY; by++) {
+            for (int bx = 0; bx < blocksX; bx++) {
+                int x0 = ox + bx * DEFAULT_WIDTH, y0 = oy + by * DEFAULT_HEIGHT;
+                int cx = x0 + DEFAULT_WIDTH / 2, cy = y0 + DEFAULT_HEIGHT / 2;
+                if (bx + 1 < blocksX) {
+                    carve(layout, cx, cy - 1, cx + DEFAULT_WIDTH, cy);
+                    connect(layout, cx, cy, cx + DEFAULT_WIDTH, cy, x0, y0, x0 + 2 * DEFAULT_WIDTH - 1, y0 + DEFAULT_HEIGHT - 1);
+                }
+                if (by + 1 < blocksY) {
+                    carve(layout, cx - 1, cy, cx, cy + DEFAULT_HEIGHT);
+                    connect(layout, cx, cy, cx, cy + DEFAULT_HEIGHT, x0, y0, x0 + DEFAULT_WIDTH - 1, y0 + 2 * DEFAULT_HEIGHT - 1);
+                }
+            }
+        }
+        return layout;
+    }
+
+    private static char[][] organicBlock(int mapType, Random rand) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            char[][] block = new LayoutGenerator(DEFAULT_WIDTH, DEFAULT_HEIGHT, rand).generateOrganicLayout(roomCount(mapType));
+            if (isValid(block) && opensToEdge(block)) return block;
+        }
+        return staticLayout(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    // Koridor hanya boleh membongkar tembok/void: blok yang dapurnya dikelilingi station rapat tidak bisa disambung.
+    // Pinggir blok selalu void, jadi cukup pusat blok bisa mencapai pinggir tanpa menembus station
+    private static boolean opensToEdge(char[][] block) {
+        int h = block.length, w = block[0].length;
+        boolean[] seen = new boolean[w * h];
+        int[] queue = new int[w * h];
+        int head = 0, tail = 0;
+        int start = (h / 2) * w + w / 2;
+        seen[start] = true;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % w, cy = cell / w;
+            if (cx == 0 || cy == 0 || cx == w - 1 || cy == h - 1) return true;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d], ny = cy + DY[d];
+                int n = ny * w + nx;
+                if (seen[n] || isStation(block[ny][nx])) continue;
+                seen[n] = true;
+                queue[tail++] = n;
+            }
+        }
+        return false;
+    }
+
+    // Tembok/void di persegi (inklusif) jadi lantai; station dan spawn tidak disentuh
+    private static void carve(char[][] layout, int x0, int y0, int x1, int y1) {
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) dig(layout, x, y);
+        }
+    }
+
+    // Jalur (ax, ay) -> (bx, by) di dalam persegi [x0..x1]x[y0..y1] yang tidak menembus station: 0-1 BFS dengan
+    // lantai berbobot 0 dan tembok/void yang harus dibongkar berbobot 1, lalu sel jalur dibongkar. Tanpa jalur
+    // layout dibiarkan (isValid yang menolak)
+    private static void connect(char[][] layout, int ax, int ay, int bx, int by, int x0, int y0, int x1, int y1) {
+        int w = x1 - x0 + 1, h = y1 - y0 + 1;
+        int start = (ay - y0) * w + (ax - x0), goal = (by - y0) * w + (bx - x0);
+        int[] cost = new int[w * h];
+        int[] from = new int[w * h];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        cost[start] = 0;
+        deque.add(start);
+        while (!deque.isEmpty()) {
+            int cell = deque.pollFirst();
+            if (cell == goal) break;
+            int cx = cell % w, cy = cell / w;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d], ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= w || ny >= h) continue;
+                char c = layout[y0 + ny][x0 + nx];
+                int n = ny * w + nx;
+                if (isStation(c) && n != goal) continue;    // pusat blok bisa berupa island; jalur berhenti di sebelahnya
+                int step = isWalkableCode(c) ? 0 : 1;
+                if (cost[cell] + step >= cost[n]) continue;
+                cost[n] = cost[cell] + step;
+                from[n] = cell;
+                if (step == 0) deque.addFirst(n); else deque.addLast(n);
+            }
+        }
+        if (cost[goal] == Integer.MAX_VALUE) return;
+        for (int cell = goal; cell != start; cell = from[cell]) dig(layout, x0 + cell % w, y0 + cell / w);
+    }
+
+    // Satu sel tembok/void jadi lantai, void di sekelilingnya jadi tembok
+    private static void dig(char[][] layout, int x, int y) {
+        char c = layout[y][x];
+        if (isStation(c) || isWalkableCode(c)) return;
+        layout[y][x] = '.';
+        for (int ny = y - 1; ny <= y + 1; ny++) {
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                if (ny >= 0 && nx >= 0 && ny < layout.length && nx < layout[ny].length && layout[ny][nx] == ' ') layout[ny][nx] = 'X';
+            }
+        }
+    }
+
+    private static boolean isStation(char c) { return STATION_CODES.indexOf(c) >= 0; }
+
+    private static char[][] copy(char[][] layout) {
+        char[][] out = new char[layout.length][];
+        for (int y = 0; y < layout.length; y++) out[y] = layout[y].clone();
+        return out;
+    }
+
+    // --- VALIDASI ---
+
+    // Valid jika: semua tipe station wajib ada, cukup lantai, dua spawn berbeda yang saling terjangkau,
+    // dan setiap station punya tile akses (tetangga 4 arah) yang terjangkau dari spawn
+    static boolean isValid(char[][] layout) {
+        int height = layout.length, width = layout[0].length;
+        int present = 0;
+        int floorCount = 0;
+        int spawnA = -1, spawnB = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                char c = layout[y][x];
+                int required = REQUIRED_CODES.indexOf(c);
+                if (required >= 0) present |= 1 << required;
+                if (c == '.') floorCount++;
+                if (c == 'V') {
+                    if (spawnA < 0) spawnA = y * width + x;
+                    else if (spawnB < 0) spawnB = y * width + x;
+                }
+            }
+        }
+        if (present != (1 << REQUIRED_CODES.length()) - 1 || floorCount <= 15 || spawnB < 0) return false;
+
+        boolean[] reached = new boolean[width * height];
+        int[] queue = new int[width * height];
+        int head = 0, tail = 0;
+        reached[spawnA] = true;
+        queue[tail++] = spawnA;
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % width, cy = cell / width;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d], ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int n = ny * width + nx;
+                if (reached[n] || !isWalkableCode(layout[ny][nx])) continue;
+                reached[n] = true;
+                queue[tail++] = n;
+            }
+        }
+        if (!reached[spawnB]) return false;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (STATION_CODES.indexOf(layout[y][x]) < 0) continue;
+                boolean accessible = false;
+                for (int d = 0; d < 4 && !accessible; d++) {
+                    int nx = x + DX[d], ny = y + DY[d];
+                    accessible = nx >= 0 && ny >= 0 && nx < width && ny < height && reached[ny * width + nx];
+                }
+                if (!accessible) return false;
+            }
+        }
+        return true;
+    }
+
+    private static final int[] DX = { 0, 0, -1, 1 };
+    private static final int[] DY = { -1, 1, 0, 0 };
+
+    // Sama dengan parseMap: selain void, tembok, dan station semuanya lantai
+    private static boolean isWalkableCode(char c) {
+        return c != ' ' && c != 'X' && STATION_CODES.indexOf(c) < 0;
+    }
+
+    // --- GENERATOR ---
+
+    // Dapur statis 14x10 di tengah map (sisanya void)
+    private static char[][] staticLayout(int width, int height) {
+        String[] mapData = {
+                "              ",
+                "  XXXXXXXXXX  ",
+                "  X.I.C.L.IX  ",
+                "  X........X  ",
+                "  X.R....R.X  ",
+                "  X.V....V.X  ",
+                "  X........X  ",
+                "  X.P.W.S.AX  ",
+                "  XTXXXXXXXX  ",
+                "              "
+        };
+        char[][] layout = new char[height][width];
+        for (char[] row : layout) Arrays.fill(row, ' ');
+        int ox = (width - DEFAULT_WIDTH) / 2, oy = (height - DEFAULT_HEIGHT) / 2;
+        for (int y=0; y<mapData.length; y++) {
+            String row = mapData[y];
+            for (int x=0; x<row.length(); x++) {
+                layout[oy + y][ox + x] = row.charAt(x);
+            }
+        }
+        return layout;
+    }
+
+    private char[][] generateOrganicLayout(int complexity) {
+        char[][] layout = new char[height][width];
+
+        // 1. Inisialisasi VOID (' ')
+        for (char[] row : layout) Arrays.fill(row, ' ');
+
+        List<Position> floors = new ArrayList<>();
+
+        // 2. Buat Lantai (Padding Aman)
+        int centerX = width / 2;
+        int centerY = height / 2;
+
+        fillArea(layout, floors, centerX - 2, centerY - 2, 5, 4, '.');
+
+        for (int i = 0; i < complexity + 4; i++) {
+            if (floors.isEmpty()) break;
+            Position anchor = floors.get(rand.nextInt(floors.size()));
+
+            int rw = rand.nextInt(3) + 2;
+            int rh = rand.nextInt(3) + 2;
+            int nx = anchor.x - rand.nextInt(rw);
+            int ny = anchor.y - rand.nextInt(rh);
+
+            fillArea(layout, floors, nx, ny, rw, rh, '.');
+        }
+
+        // 3. BANGUN BORDER DENGAN STRICT CORNER CHECK
+        List<Position> stationSpots = new ArrayList<>();
+        buildStrictBorder(layout, stationSpots);
+
+        // 4. Kitchen Island (Meja Tengah)
+        addStructuredIslands(layout, floors);
+
+        // 5. Tempatkan Station
+        placeStationsSmartly(layout, stationSpots);
+
+        // 6. Spawn Points
+        findSpawnPoints(layout, floors);
+
+        return layout;
+    }
+
+    private void fillArea(char[][] layout, List<Position> floors, int x, int y, int w, int h, char type) {
+        int startX = Math.max(2, x);
+        int startY = Math.max(2, y);
+        int endX = Math.min(width - 2, x + w);
+        int endY = Math.min(height - 2, y + h);
+
+        for (int i = startY; i < endY; i++) {
+            for (int j = startX; j < endX; j++) {
+                layout[i][j] = type;
+                if (type == '.') floors.add(new Position(j, i));
+            }
+        }
+    }
+
+    private void buildStrictBorder(char[][] layout, List<Position> stationSpots) {
+        char[][] temp = new char[height][width];
+        for(int y=0; y<height; y++) temp[y] = layout[y].clone();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (layout[y][x] == ' ') {
+                    int floorNeighbors = countCardinalFloorNeighbors(temp, x, y);
+                    boolean diagonal = hasDiagonalFloor(temp, x, y);
+
+                    if (floorNeighbors == 1) {
+                        layout[y][x] = '?';
+                        stationSpots.add(new Position(x, y));
+
+                    } else if (floorNeighbors >= 2) {
+                        layout[y][x] = 'X';
+
+                    } else if (diagonal) {
+                        layout[y][x] = 'X';
+                    }
+                }
+            }
+        }
+    }
+
+    private int countCardinalFloorNeighbors(char[][] grid, int x, int y) {
+        int count = 0;
+        if (y > 0 && grid[y-1][x] == '.') count++;
+        if (y < height-1 && grid[y+1][x] == '.') count++;
+        if (x > 0 && grid[y][x-1] == '.') count++;
+        if (x < width-1 && grid[y][x+1] == '.') count++;
+        return count;
+    }
+
+    private boolean hasDiagonalFloor(char[][] grid, int x, int y) {
+        if (y > 0 && x > 0 && grid[y-1][x-1] == '.') return true;
+        if (y > 0 && x < width-1 && grid[y-1][x+1] == '.') return true;
+        if (y < height-1 && x > 0 && grid[y+1][x-1] == '.') return true;
+        if (y < height-1 && x < width-1 && grid[y+1][x+1] == '.') return true;
+        return false;
+    }
+
+    private void addStructuredIslands(char[][] layout, List<Position> floors) {
+        int attempts = 0, placed = 0;
+        while (attempts < 50 && placed < 1) {
+            if (floors.isEmpty()) break;
+            Position p = floors.get(rand.nextInt(floors.size()));
+            boolean clean = true;
+            for(int dy=-1; dy<=1; dy++) {
+                for(int dx=-1; dx<=1; dx++) {
+                    if (layout[p.y+dy][p.x+dx] != '.') clean = false;
+                }
+            }
+            if (clean) {
+                layout[p.y][p.x] = 'A';
+                if (layout[p.y][p.x+1] == '.') layout[p.y][p.x+1] = 'A';
+                placed++;
+            }
+            attempts++;
+        }
+    }
+
+    private void placeStationsSmartly(char[][] layout, List<Position> spots) {
+        List<Character> essential = new ArrayList<>();
+        essential.add('A'); // Assembly
+        essential.add('P'); // Plate Storage
+        essential.add('L'); // Lucky Station
+        essential.add('T'); // Trash
+
+        for (int i=0; i<5; i++) essential.add('I');
+        for (int i=0; i<4; i++) essential.add('R');
+
+        essential.add('C'); essential.add('S'); essential.add('W');
+        essential.add('C'); essential.add('W');
+        essential.add('S'); essential.add('C');
+
+        Collections.shuffle(spots, rand);
+
+        for (int i = 0; i < essential.size() && i < spots.size(); i++) {
+            Position p = spots.get(i);
+            layout[p.y][p.x] = essential.get(i);
+        }
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (layout[y][x] == '?') {
+                    layout[y][x] = 'A';
+                }
+            }
+        }
+    }
+
+    private void findSpawnPoints(char[][] layout, List<Position> floors) {
+        List<Position> valid = new ArrayList<>();
+        for (Position p : floors) {
+            if (layout[p.y][p.x] == '.') valid.add(p);
+        }
+        if (valid.size() >= 2) {
+            layout[valid.get(0).y][valid.get(0).x] = 'V';
+            layout[valid.get(valid.size()-1).y][valid.get(valid.size()-1).x] = 'V';
+        }
+    }
+}
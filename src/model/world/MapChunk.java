@@ -0,0 +1,53 @@
+package model.world;
+
+import java.util.Arrays;
+
+// Potongan map 16x16 tile dengan array primitif (jenis tile, kode layout, bitset walkable) plus objek Tile-nya.
+// Index lokal = (y & MASK) << SHIFT | (x & MASK). Tile di luar batas map (chunk tepi) berjenis VOID.
+// Renderer memakai chunk sebagai unit culling & cache layer statis; daftar station per chunk berisi index
+// WorldMap.getAllStations() (sama dengan index isi station di snapshot).
+public final class MapChunk {
+    public static final int SHIFT = 4;
+    public static final int SIZE = 1 << SHIFT;
+    static final int MASK = SIZE - 1;
+    static final int CELLS = SIZE * SIZE;
+
+    private final int chunkX, chunkY;
+    final byte[] kinds = new byte[CELLS];
+    final byte[] codes = new byte[CELLS];
+    final long[] walkable = new long[CELLS >>> 6];
+    final Tile[] tiles = new Tile[CELLS];
+
+    private int[] stationIds = new int[0];
+    private int stationCount;
+
+    MapChunk(int chunkX, int chunkY) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        Arrays.fill(codes, (byte) ' ');
+        Arrays.fill(kinds, (byte) TileType.VOID.ordinal());
+    }
+
+    static int local(int x, int y) { return (y & MASK) << SHIFT | (x & MASK); }
+
+    void clearStations() { stationCount = 0; }
+
+    void addStation(int id) {
+        if (stationCount == stationIds.length) stationIds = Arrays.copyOf(stationIds, Math.max(4, stationCount * 2));
+        stationIds[stationCount++] = id;
+    }
+
+    public int getChunkX() { return chunkX; }
+    public int getChunkY() { return chunkY; }
+    // Tile kiri-atas chunk
+    public int getOriginX() { return chunkX << SHIFT; }
+    public int getOriginY() { return chunkY << SHIFT; }
+
+    public int getStationCount() { return stationCount; }
+    // Index ke WorldMap.getAllStations()
+    public int getStationId(int i) { return stationIds[i]; }
+
+    // Dengan koordinat tile world; pemanggil menjamin (x, y) ada di chunk ini
+    public TileType getTileType(int x, int y) { return WorldMap.TILE_TYPES[kinds[local(x, y)]]; }
+    public Tile getTile(int x, int y) { return tiles[local(x, y)]; }
+}
@@ -0,0 +1,478 @@
+package model.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import model.world.tiles.StationTile;
+import stations.StationType;
+import utils.Direction;
+import utils.Position;
+
+// Navigasi di atas bitset walkable WorldMap (disalin flat per versi layout), 4 arah (interaksi chef selalu menghadap station secara ortogonal).
+// - findPath: A* (heuristik Manhattan) untuk query titik ke titik, scratch dipakai ulang (tanpa alokasi per query)
+// - distance field BFS per station dan per StationType: jarak langkah dari setiap sel walkable ke tile akses
+//   (sel walkable yang bersebelahan dengan station); dihitung saat pertama dipakai lalu di-cache.
+//   Field per station dibatasi FIELD_BUDGET sel (eviction clock), supaya map besar tidak menyimpan ribuan field
+// - nearest dengan filter: setelah prewarm (map kecil, semua field dihitung di depan) lookup field per kandidat;
+//   selain itu BFS maju dari posisi chef yang berhenti di station lolos filter pertama (biaya sebanding area sekitar)
+// - getWork: jumlah sel yang dikunjungi BFS, supaya pemanggil (Autopilot) bisa menghitungnya ke budget per tick
+// - canReach: label komponen terhubung, cek keterjangkauan O(1) tanpa distance field
+// Cache dibuang otomatis jika WorldMap.getLayoutVersion() berubah. Hanya dipakai dari thread engine.
+public final class NavGrid {
+    public static final int UNREACHABLE = -1;
+
+    private static final Direction[] STEPS = { Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT };
+    private static final long FIELD_BUDGET = 1L << 24;     // total sel (int) semua field station yang di-cache
+    private static final long PREWARM_CELLS = 1L << 20;    // total sel field yang boleh dihitung di depan
+
+    private final WorldMap world;
+    private final int width, height, size;
+    private int version = -1;
+    private final long[] walkableBits;
+
+    private int[][] stationFields = new int[0][];
+    private boolean[] fieldUsed = new boolean[0];
+    private final int maxFields;
+    private int cachedFields, clockHand;
+    private int[] components;
+    private final Map<StationType, int[]> typeFields = new EnumMap<>(StationType.class);
+    private final Map<StationType, int[]> typeOwners = new EnumMap<>(StationType.class);
+    private final Map<StationTile, Integer> stationIds = new IdentityHashMap<>();
+    private final int[] stationAt;                          // index station per sel, -1 = bukan station
+    private int[] candidateRank = new int[0];               // urutan kandidat search() (valid jika stamp = searchGen)
+    private int[] candidateStamp = new int[0];
+    private int searchGen, foundDist;
+    private boolean prewarmed;
+    private long work;
+
+    // Scratch BFS / A*
+    private final int[] queue;
+    private final int[] gScore, parent, visited;
+    private long[] heap = new long[64];
+    private int heapSize, generation;
+
+    NavGrid(WorldMap world) {
+        this.world = world;
+        this.width = world.getWidth();
+        this.height = world.getHeight();
+        this.size = width * height;
+        this.walkableBits = new long[(size + 63) >>> 6];
+        this.queue = new int[size];
+        this.gScore = new int[size];
+        this.parent = new int[size];
+        this.visited = new int[size];
+        this.stationAt = new int[size];
+        this.maxFields = (int) Math.max(16, FIELD_BUDGET / Math.max(1, size));
+    }
+
+    private void validate() {
+        if (version == world.getLayoutVersion()) return;
+        version = world.getLayoutVersion();
+        // Salinan flat bitset walkable (index = y * width + x) supaya BFS/A* tidak lookup chunk per sel
+        Arrays.fill(walkableBits, 0L);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                if (world.isWalkable(x, y)) walkableBits[i >>> 6] |= 1L << i;
+            }
+        }
+        List<StationTile> stations = world.getAllStations();
+        stationFields = new int[stations.size()][];
+        fieldUsed = new boolean[stations.size()];
+        cachedFields = 0;
+        clockHand = 0;
+        components = null;
+        typeFields.clear();
+        typeOwners.clear();
+        stationIds.clear();
+        for (int i = 0; i < stations.size(); i++) stationIds.put(stations.get(i), i);
+        Arrays.fill(stationAt, -1);
+        for (int i = 0; i < stations.size(); i++) {
+            Position p = stations.get(i).getPos();
+            stationAt[p.y * width + p.x] = i;
+        }
+        candidateRank = new int[stations.size()];
+        candidateStamp = new int[stations.size()];
+        prewarmed = false;
+    }
+
+    // Field semua station dan tipe dihitung di depan jika totalnya kecil, supaya tick pertama tidak membayarnya.
+    // Map besar dilewati: field dihitung saat dipakai, nearest dengan filter memakai pencarian lokal
+    public void prewarm() {
+        validate();
+        List<StationTile> stations = world.getAllStations();
+        if ((long) size * stations.size() > PREWARM_CELLS) return;
+        for (StationTile st : stations) stationField(st);
+        for (StationType type : StationType.values()) typeField(type);
+        prewarmed = true;
+    }
+
+    // Total sel yang sudah dikunjungi BFS (field, komponen, pencarian lokal) sejak NavGrid dibuat
+    public long getWork() { return work; }
+
+    private boolean walkable(int cell) {
+        return (walkableBits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    // --- DISTANCE FIELD ---
+
+    // Jumlah langkah dari (x, y) ke tile akses station; 0 = sudah bisa berinteraksi, UNREACHABLE jika tidak terjangkau
+    public int distanceTo(StationTile station, int x, int y) {
+        if (!world.inBounds(x, y)) return UNREACHABLE;
+        return stationField(station)[y * width + x];
+    }
+
+    // Station terdekat dari tipe tertentu (O(1) setelah field tipe dihitung), null jika tidak ada yang terjangkau
+    public StationTile nearest(StationType type, int x, int y) {
+        if (!world.inBounds(x, y)) return null;
+        int cell = y * width + x;
+        typeField(type);
+        int owner = typeOwners.get(type)[cell];
+        return owner >= 0 ? world.getAllStations().get(owner) : null;
+    }
+
+    public int distanceToNearest(StationType type, int x, int y) {
+        if (!world.inBounds(x, y)) return UNREACHABLE;
+        return typeField(type)[y * width + x];
+    }
+
+    // Station terdekat yang lolos filter (mis. talenan kosong): satu lookup field per kandidat
+    public StationTile nearest(StationType type, int x, int y, Predicate<StationTile> filter) {
+        return nearest(world.getStations(type), x, y, filter);
+    }
+
+    // Sama, untuk daftar kandidat sembarang; jarak sama dipecah menurut urutan daftar. Kandidat yang jarak
+    // Manhattan-nya saja sudah tidak lebih dekat dilewati sebelum field-nya dihitung (jarak langkah >= Manhattan - 1)
+    public StationTile nearest(List<StationTile> candidates, int x, int y, Predicate<StationTile> filter) {
+        int rank = find(candidates, x, y, filter);
+        return rank >= 0 ? candidates.get(rank) : null;
+    }
+
+    // Jarak ke kandidat terdekat, tanpa menghitung field station itu sendiri
+    public int distanceToNearest(List<StationTile> candidates, int x, int y) {
+        return find(candidates, x, y, st -> true) >= 0 ? foundDist : UNREACHABLE;
+    }
+
+    // Index kandidat terdekat (jaraknya di foundDist), -1 jika tidak ada
+    private int find(List<StationTile> candidates, int x, int y, Predicate<StationTile> filter) {
+        if (!world.inBounds(x, y)) return -1;
+        validate();
+        if (!prewarmed) return search(candidates, x, y, filter);
+        int cell = y * width + x;
+        int best = -1;
+        int bestDist = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            StationTile st = candidates.get(i);
+            Position p = st.getPos();
+            if (Math.abs(p.x - x) + Math.abs(p.y - y) - 1 >= bestDist) continue;
+            if (!filter.test(st)) continue;
+            int d = stationField(st)[cell];
+            if (d != UNREACHABLE && d < bestDist) {
+                best = i;
+                bestDist = d;
+            }
+        }
+        foundDist = bestDist;
+        return best;
+    }
+
+    // BFS maju dari (x, y): station kandidat pertama yang bersebelahan dengan sel berjarak d punya jarak d,
+    // sama seperti lookup field-nya. Level d dihabiskan dulu supaya seri dipecah menurut urutan daftar
+    private int search(List<StationTile> candidates, int x, int y, Predicate<StationTile> filter) {
+        int start = y * width + x;
+        if (!walkable(start) || candidates.isEmpty()) return -1;
+        int stamp = ++searchGen;
+        for (int i = 0; i < candidates.size(); i++) {
+            int id = stationIds.get(candidates.get(i));
+            candidateStamp[id] = stamp;
+            candidateRank[id] = i;
+        }
+
+        int gen = ++generation;
+        int head = 0, tail = 0;
+        gScore[start] = 0;
+        visited[start] = gen;
+        queue[tail++] = start;
+        int bestRank = Integer.MAX_VALUE, bestDist = Integer.MAX_VALUE;
+        while (head < tail) {
+            int cell = queue[head++];
+            int d = gScore[cell];
+            if (d > bestDist) break;
+            int cx = cell % width, cy = cell / width;
+            for (Direction dir : STEPS) {
+                int nx = cx + dir.dx, ny = cy + dir.dy;
+                if (!world.inBounds(nx, ny)) continue;
+                int n = ny * width + nx;
+                int id = stationAt[n];
+                if (id >= 0) {
+                    if (candidateStamp[id] == stamp && candidateRank[id] < bestRank
+                            && filter.test(candidates.get(candidateRank[id]))) {
+                        bestRank = candidateRank[id];
+                        bestDist = d;
+                    }
+                    continue;
+                }
+                if (!walkable(n) || visited[n] == gen) continue;
+                visited[n] = gen;
+                gScore[n] = d + 1;
+                queue[tail++] = n;
+            }
+        }
+        work += head;
+        foundDist = bestDist;
+        return bestRank == Integer.MAX_VALUE ? -1 : bestRank;
+    }
+
+    // Langkah berikutnya menuruni distance field; null jika sudah di tile akses atau tidak terjangkau
+    public Direction stepToward(StationTile station, int x, int y) {
+        if (!world.inBounds(x, y)) return null;
+        int[] field = stationField(station);
+        int d = field[y * width + x];
+        if (d <= 0) return null;
+        for (Direction dir : STEPS) {
+            int nx = x + dir.dx, ny = y + dir.dy;
+            if (world.inBounds(nx, ny) && field[ny * width + nx] == d - 1) return dir;
+        }
+        return null;
+    }
+
+    // true jika field station sudah di-cache (distanceTo/stepToward tidak menjalankan BFS)
+    public boolean hasField(StationTile station) {
+        validate();
+        Integer id = stationIds.get(station);
+        return id != null && stationFields[id] != null;
+    }
+
+    private int[] stationField(StationTile station) {
+        validate();
+        Integer id = stationIds.get(station);
+        if (id == null) throw new IllegalArgumentException("Station not in this map: " + station.getPos());
+        int[] field = stationFields[id];
+        if (field == null) {
+            field = cachedFields < maxFields ? new int[size] : evictField();
+            bfs(field, null, List.of(station), id);
+            stationFields[id] = field;
+            cachedFields++;
+        }
+        fieldUsed[id] = true;
+        return field;
+    }
+
+    // Clock: field yang tidak dipakai sejak putaran terakhir dibuang, array-nya dipakai ulang
+    private int[] evictField() {
+        while (true) {
+            int id = clockHand;
+            clockHand = (clockHand + 1) % stationFields.length;
+            if (stationFields[id] == null) continue;
+            if (fieldUsed[id]) {
+                fieldUsed[id] = false;
+                continue;
+            }
+            int[] field = stationFields[id];
+            stationFields[id] = null;
+            cachedFields--;
+            return field;
+        }
+    }
+
+    // --- KETERJANGKAUAN ---
+
+    // true jika ada tile akses station yang satu komponen dengan sel (x, y)
+    public boolean canReach(StationTile station, int x, int y) {
+        if (!world.inBounds(x, y)) return false;
+        int[] comp = components();
+        int from = comp[y * width + x];
+        if (from < 0) return false;
+        Position p = station.getPos();
+        for (Direction dir : STEPS) {
+            int nx = p.x + dir.dx, ny = p.y + dir.dy;
+            if (world.inBounds(nx, ny) && comp[ny * width + nx] == from) return true;
+        }
+        return false;
+    }
+
+    private int[] components() {
+        validate();
+        if (components != null) return components;
+        int[] comp = new int[size];
+        Arrays.fill(comp, -1);
+        int label = 0;
+        for (int start = 0; start < size; start++) {
+            if (!walkable(start) || comp[start] >= 0) continue;
+            int head = 0, tail = 0;
+            comp[start] = label;
+            queue[tail++] = start;
+            while (head < tail) {
+                int cell = queue[head++];
+                int cx = cell % width, cy = cell / width;
+                for (Direction dir : STEPS) {
+                    int nx = cx + dir.dx, ny = cy + dir.dy;
+                    if (!world.inBounds(nx, ny)) continue;
+                    int n = ny * width + nx;
+                    if (!walkable(n) || comp[n] >= 0) continue;
+                    comp[n] = label;
+                    queue[tail++] = n;
+                }
+            }
+            label++;
+            work += tail;
+        }
+        return components = comp;
+    }
+
+    private int[] typeField(StationType type) {
+        validate();
+        int[] field = typeFields.get(type);
+        if (field == null) {
+            field = new int[size];
+            int[] owners = new int[size];
+            bfs(field, owners, world.getStations(type), -1);
+            typeFields.put(type, field);
+            typeOwners.put(type, owners);
+        }
+        return field;
+    }
+
+    // BFS multi-source dari tile akses semua sources; owners (opsional) menyimpan index station asal per sel
+    private void bfs(int[] dist, int[] owners, List<StationTile> sources, int singleId) {
+        Arrays.fill(dist, UNREACHABLE);
+        if (owners != null) Arrays.fill(owners, -1);
+        int head = 0, tail = 0;
+
+        for (StationTile st : sources) {
+            int id = singleId >= 0 ? singleId : stationIds.get(st);
+            Position p = st.getPos();
+            for (Direction dir : STEPS) {
+                int nx = p.x + dir.dx, ny = p.y + dir.dy;
+                if (!world.inBounds(nx, ny)) continue;
+                int n = ny * width + nx;
+                if (!walkable(n) || dist[n] != UNREACHABLE) continue;
+                dist[n] = 0;
+                if (owners != null) owners[n] = id;
+                queue[tail++] = n;
+            }
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % width, cy = cell / width;
+            int next = dist[cell] + 1;
+            for (Direction dir : STEPS) {
+                int nx = cx + dir.dx, ny = cy + dir.dy;
+                if (!world.inBounds(nx, ny)) continue;
+                int n = ny * width + nx;
+                if (!walkable(n) || dist[n] != UNREACHABLE) continue;
+                dist[n] = next;
+                if (owners != null) owners[n] = owners[cell];
+                queue[tail++] = n;
+            }
+        }
+        work += tail;
+    }
+
+    // --- A* ---
+
+    // Jalur dari (sx, sy) ke (tx, ty) sebagai index sel (y * width + x) tanpa sel awal, ditulis ke out.
+    // Jika target bukan walkable (station), jalur berakhir di tile akses terdekat yang bersebelahan.
+    // Mengembalikan panjang jalur (bisa > out.length; hanya out.length sel pertama yang ditulis) atau -1.
+    public int findPath(int sx, int sy, int tx, int ty, int[] out) {
+        validate();
+        if (!world.inBounds(sx, sy) || !world.inBounds(tx, ty)) return -1;
+        int start = sy * width + sx;
+        int target = ty * width + tx;
+        boolean adjacentGoal = !walkable(target);
+        if (isGoal(start, tx, ty, adjacentGoal)) return 0;
+
+        int gen = ++generation;
+        heapSize = 0;
+        gScore[start] = 0;
+        parent[start] = -1;
+        visited[start] = gen;
+        push(heuristic(sx, sy, tx, ty, adjacentGoal), start);
+
+        while (heapSize > 0) {
+            long top = pop();
+            int cell = (int) top;
+            int cx = cell % width, cy = cell / width;
+            int g = gScore[cell];
+            if ((int) (top >>> 32) > g + heuristic(cx, cy, tx, ty, adjacentGoal)) continue;   // entri usang
+            if (isGoal(cell, tx, ty, adjacentGoal)) return writePath(cell, g, out);
+
+            for (Direction dir : STEPS) {
+                int nx = cx + dir.dx, ny = cy + dir.dy;
+                if (!world.inBounds(nx, ny)) continue;
+                int n = ny * width + nx;
+                if (!walkable(n)) continue;
+                int ng = g + 1;
+                if (visited[n] == gen && gScore[n] <= ng) continue;
+                visited[n] = gen;
+                gScore[n] = ng;
+                parent[n] = cell;
+                push(ng + heuristic(nx, ny, tx, ty, adjacentGoal), n);
+            }
+        }
+        return -1;
+    }
+
+    public List<Position> findPath(Position from, Position to) {
+        int[] cells = new int[size];
+        int len = findPath(from.x, from.y, to.x, to.y, cells);
+        List<Position> path = new ArrayList<>(Math.max(len, 0));
+        for (int i = 0; i < len; i++) path.add(new Position(cells[i] % width, cells[i] / width));
+        return path;
+    }
+
+    private boolean isGoal(int cell, int tx, int ty, boolean adjacentGoal) {
+        int dx = Math.abs(cell % width - tx), dy = Math.abs(cell / width - ty);
+        return adjacentGoal ? dx + dy == 1 : dx + dy == 0;
+    }
+
+    private static int heuristic(int x, int y, int tx, int ty, boolean adjacentGoal) {
+        int d = Math.abs(x - tx) + Math.abs(y - ty);
+        return adjacentGoal ? Math.max(0, d - 1) : d;
+    }
+
+    private int writePath(int goal, int length, int[] out) {
+        int cell = goal;
+        for (int i = length - 1; i >= 0; i--) {
+            if (i < out.length) out[i] = cell;
+            cell = parent[cell];
+        }
+        return length;
+    }
+
+    // Min-heap biner atas (f << 32 | cell)
+    private void push(int f, int cell) {
+        if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+        long key = (long) f << 32 | cell;
+        int i = heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heap[p] <= key) break;
+            heap[i] = heap[p];
+            i = p;
+        }
+        heap[i] = key;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= heapSize) break;
+            if (c + 1 < heapSize && heap[c + 1] < heap[c]) c++;
+            if (heap[c] >= last) break;
+            heap[i] = heap[c];
+            i = c;
+        }
+        if (heapSize > 0) heap[i] = last;
+        return top;
+    }
+}
@@ -3,5 +3,6 @@ package model.world;
 public enum TileType {
     WALKABLE,
     WALL,
-    STATION
+    STATION,
+    VOID
 }
\ No newline at end of file
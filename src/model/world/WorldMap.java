@@ -3,11 +3,14 @@ package model.world;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 
+import items.core.Item;
 import items.utensils.BoilingPot;
 import items.utensils.FryingPan;
 import model.world.tiles.StationTile;
@@ -21,237 +24,95 @@ import stations.LuckyStation;
 import stations.PlateStorage;
 import stations.ServingStation;
 import stations.Station;
+import stations.StationType;
 import stations.TrashStation;
 import stations.WashingStation;
 import utils.Position;
 
 public class WorldMap {
-    private final int width = 14;
-    private final int height = 10;
-    private final Tile[][] grid;
-    private final boolean[][] wallMask;
+    public static final int DEFAULT_WIDTH = LayoutGenerator.DEFAULT_WIDTH;
+    public static final int DEFAULT_HEIGHT = LayoutGenerator.DEFAULT_HEIGHT;
+    // Batas per sisi: layout penuh harus muat dalam satu frame WELCOME server jaringan (w * h byte)
+    public static final int MAX_SIZE = 240;
+
+    private final int width;
+    private final int height;
+
+    // Tile disimpan per chunk 16x16 (lihat MapChunk): array primitif untuk hot path fisika
+    // (jenis tile = ordinal TileType, bitset walkable) plus objek Tile, index chunk = cy * chunksX + cx
+    static final TileType[] TILE_TYPES = TileType.values();
+    private final int chunksX, chunksY;
+    private final MapChunk[] chunks;
+    private final FloorItemIndex floorItems;
+    // Naik setiap kali jenis tile berubah; cache turunan layout (NavGrid) membandingkan angka ini
+    private int layoutVersion;
+    private NavGrid nav;
 
     private final Queue<String> ingredientQueue = new LinkedList<>();
     private final Queue<items.core.CookingDevice> deviceQueue = new LinkedList<>();
     private final List<Position> spawnPoints = new ArrayList<>();
 
-    public WorldMap(int mapType) {
-        this.grid = new Tile[height][width];
-        this.wallMask = new boolean[height][width];
+    // Index station per tipe, dibangun sekali di parseMap (pengganti scan seluruh grid)
+    private final Map<StationType, List<StationTile>> stationIndex = new EnumMap<>(StationType.class);
+    private final Map<StationType, List<StationTile>> stationViews = new EnumMap<>(StationType.class);
+    private final List<StationTile> allStations = new ArrayList<>();
+    private final List<CookingStation> cookingStations = new ArrayList<>();
+    private final List<StationTile> allStationsView = Collections.unmodifiableList(allStations);
+    private final List<CookingStation> cookingStationsView = Collections.unmodifiableList(cookingStations);
 
-        setupMapResources();
+    // Stream RNG map milik sesi: urutan bahan/alat masak dan seed layout
+    private final Random rand;
 
-        char[][] layout;
-        int attempts = 0;
-        do {
-            if (mapType == 1) {
-                layout = generateStaticLayout();
-            } else {
-                int roomCount = (mapType == 2) ? 2 : 3;
-                layout = generateOrganicLayout(roomCount);
-            }
-            attempts++;
-        } while (!isValidMap(layout) && attempts < 100);
+    public WorldMap(int mapType, int width, int height, Random rand) {
+        this(width, height, rand);
+        setupMapResources();
 
-        parseMap(layout);
+        // Satu nilai dari stream map menjadi seed layout, jadi konsumsi RNG sama baik layout dari cache maupun baru
+        long layoutSeed = rand.nextLong();
+        parseMap(LayoutGenerator.layoutFor(mapType, width, height, layoutSeed));
     }
 
-    public WorldMap() { this(3); }
+    public WorldMap(int mapType, Random rand) { this(mapType, DEFAULT_WIDTH, DEFAULT_HEIGHT, rand); }
 
-    private boolean isValidMap(char[][] layout) {
-        boolean hasAssembly = false;
-        int floorCount = 0;
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (layout[y][x] == 'A') hasAssembly = true;
-                if (layout[y][x] == '.') floorCount++;
-            }
+    // Dari layout tersimpan (checkpoint): kode layout row-major dan tipe bahan per IngredientStorage
+    // sesuai urutan getAllStations(). Isi station diisi ulang oleh pemanggil.
+    public WorldMap(int width, int height, byte[] layoutCodes, List<String> ingredientTypes, Random rand) {
+        this(width, height, rand);
+        if (layoutCodes.length != width * height) {
+            throw new IllegalArgumentException("Layout size " + layoutCodes.length + " != " + (width * height));
         }
-        return hasAssembly && floorCount > 15;
-    }
+        ingredientQueue.addAll(ingredientTypes);
 
-    private char[][] generateStaticLayout() {
-        String[] mapData = {
-                "              ",
-                "  XXXXXXXXXX  ",
-                "  X.I.C.L.IX  ",
-                "  X........X  ",
-                "  X.R....R.X  ",
-                "  X.V....V.X  ",
-                "  X........X  ",
-                "  X.P.W.S.AX  ",
-                "  XXXXXXXXXX  ",
-                "              "
-        };
         char[][] layout = new char[height][width];
-        for (int y=0; y<height; y++) {
-            String row = (y < mapData.length) ? mapData[y] : "";
-            for (int x=0; x<width; x++) {
-                layout[y][x] = (x < row.length()) ? row.charAt(x) : ' ';
-            }
-        }
-        return layout;
-    }
-
-    private char[][] generateOrganicLayout(int complexity) {
-        char[][] layout = new char[height][width];
-
-        // 1. Inisialisasi VOID (' ')
-        for (char[] row : layout) Arrays.fill(row, ' ');
-
-        Random rand = new Random();
-        List<Position> floors = new ArrayList<>();
-
-        // 2. Buat Lantai (Padding Aman)
-        int centerX = width / 2;
-        int centerY = height / 2;
-
-        fillArea(layout, floors, centerX - 2, centerY - 2, 5, 4, '.');
-
-        for (int i = 0; i < complexity + 4; i++) {
-            if (floors.isEmpty()) break;
-            Position anchor = floors.get(rand.nextInt(floors.size()));
-
-            int rw = rand.nextInt(3) + 2;
-            int rh = rand.nextInt(3) + 2;
-            int nx = anchor.x - rand.nextInt(rw);
-            int ny = anchor.y - rand.nextInt(rh);
-
-            fillArea(layout, floors, nx, ny, rw, rh, '.');
-        }
-
-        // 3. BANGUN BORDER DENGAN STRICT CORNER CHECK
-        List<Position> stationSpots = new ArrayList<>();
-        buildStrictBorder(layout, stationSpots);
-
-        // 4. Kitchen Island (Meja Tengah)
-        addStructuredIslands(layout, floors);
-
-        // 5. Tempatkan Station
-        placeStationsSmartly(layout, stationSpots);
-
-        // 6. Spawn Points
-        findSpawnPoints(layout, floors);
-
-        return layout;
-    }
-
-    private void fillArea(char[][] layout, List<Position> floors, int x, int y, int w, int h, char type) {
-        int startX = Math.max(2, x);
-        int startY = Math.max(2, y);
-        int endX = Math.min(width - 2, x + w);
-        int endY = Math.min(height - 2, y + h);
-
-        for (int i = startY; i < endY; i++) {
-            for (int j = startX; j < endX; j++) {
-                layout[i][j] = type;
-                if (type == '.') floors.add(new Position(j, i));
-            }
-        }
-    }
-
-    private void buildStrictBorder(char[][] layout, List<Position> stationSpots) {
-        char[][] temp = new char[height][width];
-        for(int y=0; y<height; y++) temp[y] = layout[y].clone();
-
         for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (layout[y][x] == ' ') { 
-                    int floorNeighbors = countCardinalFloorNeighbors(temp, x, y);
-                    boolean diagonal = hasDiagonalFloor(temp, x, y);
-
-                    if (floorNeighbors == 1) {
-                        layout[y][x] = '?';
-                        stationSpots.add(new Position(x, y));
-
-                    } else if (floorNeighbors >= 2) {
-                        layout[y][x] = 'X';
-
-                    } else if (diagonal) {
-                        layout[y][x] = 'X';
-                    }
-                }
-            }
-        }
-    }
-
-    private int countCardinalFloorNeighbors(char[][] grid, int x, int y) {
-        int count = 0;
-        if (y > 0 && grid[y-1][x] == '.') count++;
-        if (y < height-1 && grid[y+1][x] == '.') count++; 
-        if (x > 0 && grid[y][x-1] == '.') count++; 
-        if (x < width-1 && grid[y][x+1] == '.') count++; 
-        return count;
-    }
-
-    private boolean hasDiagonalFloor(char[][] grid, int x, int y) {
-        if (y > 0 && x > 0 && grid[y-1][x-1] == '.') return true;
-        if (y > 0 && x < width-1 && grid[y-1][x+1] == '.') return true;
-        if (y < height-1 && x > 0 && grid[y+1][x-1] == '.') return true;
-        if (y < height-1 && x < width-1 && grid[y+1][x+1] == '.') return true;
-        return false;
-    }
-
-    private void addStructuredIslands(char[][] layout, List<Position> floors) {
-        Random rand = new Random();
-        int attempts = 0, placed = 0;
-        while (attempts < 50 && placed < 1) {
-            if (floors.isEmpty()) break;
-            Position p = floors.get(rand.nextInt(floors.size()));
-            boolean clean = true;
-            for(int dy=-1; dy<=1; dy++) {
-                for(int dx=-1; dx<=1; dx++) {
-                    if (layout[p.y+dy][p.x+dx] != '.') clean = false;
-                }
-            }
-            if (clean) {
-                layout[p.y][p.x] = 'A';
-                if (layout[p.y][p.x+1] == '.') layout[p.y][p.x+1] = 'A';
-                placed++;
-            }
-            attempts++;
+            for (int x = 0; x < width; x++) layout[y][x] = (char) (layoutCodes[y * width + x] & 0xFF);
         }
+        parseMap(layout);
     }
 
-    private void placeStationsSmartly(char[][] layout, List<Position> spots) {
-        List<Character> essential = new ArrayList<>();
-        essential.add('A'); // Assembly
-        essential.add('P'); // Plate Storage
-        essential.add('L'); // Lucky Station
-        essential.add('T'); // Trash
-
-        for (int i=0; i<5; i++) essential.add('I');
-        for (int i=0; i<4; i++) essential.add('R');
-
-        essential.add('C'); essential.add('S'); essential.add('W');
-        essential.add('C'); essential.add('W');
-        essential.add('S'); essential.add('C');
-
-        Collections.shuffle(spots);
-
-        for (Character c : essential) {
-            if (spots.isEmpty()) break;
-            Position p = spots.remove(0);
-            layout[p.y][p.x] = c;
+    private WorldMap(int width, int height, Random rand) {
+        if (width < DEFAULT_WIDTH || height < DEFAULT_HEIGHT || width > MAX_SIZE || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Map size " + width + "x" + height + " outside "
+                    + DEFAULT_WIDTH + "x" + DEFAULT_HEIGHT + " .. " + MAX_SIZE + "x" + MAX_SIZE);
         }
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (layout[y][x] == '?') {
-                    layout[y][x] = 'A';
-                }
-            }
+        this.width = width;
+        this.height = height;
+        this.rand = rand;
+        this.chunksX = (width + MapChunk.MASK) >> MapChunk.SHIFT;
+        this.chunksY = (height + MapChunk.MASK) >> MapChunk.SHIFT;
+        this.chunks = new MapChunk[chunksX * chunksY];
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) chunks[cy * chunksX + cx] = new MapChunk(cx, cy);
         }
+        this.floorItems = new FloorItemIndex(width, height, Item.DEFAULT_SIZE);
+        initStationIndex();
     }
 
-    private void findSpawnPoints(char[][] layout, List<Position> floors) {
-        List<Position> valid = new ArrayList<>();
-        for (Position p : floors) {
-            if (layout[p.y][p.x] == '.') valid.add(p);
-        }
-        if (valid.size() >= 2) {
-            layout[valid.get(0).y][valid.get(0).x] = 'V';
-            layout[valid.get(valid.size()-1).y][valid.get(valid.size()-1).x] = 'V';
+    private void initStationIndex() {
+        for (StationType type : StationType.values()) {
+            List<StationTile> list = new ArrayList<>();
+            stationIndex.put(type, list);
+            stationViews.put(type, Collections.unmodifiableList(list));
         }
     }
 
@@ -259,7 +120,7 @@ public class WorldMap {
         ingredientQueue.clear();
         deviceQueue.clear();
         List<String> ingredients = Arrays.asList("tomato", "meat", "pasta", "shrimp", "fish");
-        Collections.shuffle(ingredients);
+        Collections.shuffle(ingredients, rand);
         ingredientQueue.addAll(ingredients);
 
         List<items.core.CookingDevice> devices = new ArrayList<>();
@@ -267,64 +128,153 @@ public class WorldMap {
         devices.add(new BoilingPot());
         devices.add(new FryingPan());
         devices.add(new FryingPan());
-        Collections.shuffle(devices);
+        Collections.shuffle(devices, rand);
         deviceQueue.addAll(devices);
     }
 
     private void parseMap(char[][] layout) {
         spawnPoints.clear();
+        for (List<StationTile> list : stationIndex.values()) list.clear();
+        allStations.clear();
+        cookingStations.clear();
+        for (MapChunk chunk : chunks) chunk.clearStations();
+        int extraDevices = 0;
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
                 char c = layout[y][x];
                 Position pos = new Position(x, y);
+                Tile tile;
                 switch (c) {
-                    case ' ':
-                        grid[y][x] = new WallTile(pos);
-                        wallMask[y][x] = false;
-                        break;
-                    case 'X': // Tembok Mati (Corner)
-                        grid[y][x] = new WallTile(pos);
-                        wallMask[y][x] = true;
-                        break;
-                    case '?': // Fallback jika masih ada
-                        grid[y][x] = new StationTile(pos, new AssemblyStation());
-                        wallMask[y][x] = true;
-                        break;
-                    case '.': grid[y][x] = new WalkableTile(pos); break;
-                    case 'V': grid[y][x] = new WalkableTile(pos); spawnPoints.add(pos); break;
-                    case 'L': grid[y][x] = new StationTile(pos, new LuckyStation()); wallMask[y][x] = true; break;
-                    case 'C': grid[y][x] = new StationTile(pos, new CuttingStation()); wallMask[y][x] = true; break;
+                    case ' ', 'X': tile = new WallTile(pos); break;    // void / tembok mati (corner)
+                    case '?': tile = new StationTile(pos, new AssemblyStation()); break;   // Fallback jika masih ada
+                    case '.': tile = new WalkableTile(pos); break;
+                    case 'V': tile = new WalkableTile(pos); spawnPoints.add(pos); break;
+                    case 'L': tile = new StationTile(pos, new LuckyStation()); break;
+                    case 'C': tile = new StationTile(pos, new CuttingStation()); break;
                     case 'R':
                         StationTile cookTile = new StationTile(pos, new CookingStation());
                         items.core.CookingDevice dev = deviceQueue.poll();
-                        if (dev==null) dev=new FryingPan();
+                        // Map besar punya cooker lebih banyak dari antrean: panci dan wajan bergantian
+                        if (dev==null) dev = (extraDevices++ % 2 == 0) ? new FryingPan() : new BoilingPot();
                         ((CookingStation)cookTile.getStation()).place((items.core.Item)dev);
-                        grid[y][x] = cookTile; wallMask[y][x] = true; break;
-                    case 'W': grid[y][x] = new StationTile(pos, new WashingStation()); wallMask[y][x] = true; break;
-                    case 'S':
-                        grid[y][x] = new StationTile(pos, new ServingStation()); wallMask[y][x] = true; break;
+                        tile = cookTile; break;
+                    case 'W': tile = new StationTile(pos, new WashingStation()); break;
+                    case 'S': tile = new StationTile(pos, new ServingStation()); break;
                     case 'I':
+                        // Bergilir: storage ke-6 dst. mengulang urutan bahan
                         String type = ingredientQueue.poll();
-                        grid[y][x] = new StationTile(pos, new IngredientStorage(type != null ? type : "pasta"));
-                        wallMask[y][x] = true; break;
-                    case 'A': grid[y][x] = new StationTile(pos, new AssemblyStation()); wallMask[y][x] = true; break;
-                    case 'P': grid[y][x] = new StationTile(pos, new PlateStorage()); wallMask[y][x] = true; break;
-                    case 'T': grid[y][x] = new StationTile(pos, new TrashStation()); wallMask[y][x] = true; break;
-                    default: grid[y][x] = new WalkableTile(pos);
+                        if (type != null) ingredientQueue.add(type);
+                        tile = new StationTile(pos, new IngredientStorage(type != null ? type : "pasta"));
+                        break;
+                    case 'A': tile = new StationTile(pos, new AssemblyStation()); break;
+                    case 'P': tile = new StationTile(pos, new PlateStorage()); break;
+                    case 'T': tile = new StationTile(pos, new TrashStation()); break;
+                    default: tile = new WalkableTile(pos);
                 }
+                MapChunk chunk = chunkAt(x, y);
+                chunk.tiles[MapChunk.local(x, y)] = tile;
+                chunk.codes[MapChunk.local(x, y)] = (byte) c;
+                if (tile instanceof StationTile st) {
+                    chunk.addStation(allStations.size());
+                    indexStation(st);
+                }
+                setKind(x, y, kindOf(c, tile));
             }
         }
     }
 
+    private TileType kindOf(char c, Tile tile) {
+        if (tile instanceof StationTile) return TileType.STATION;
+        if (tile.isWalkable()) return TileType.WALKABLE;
+        return (c == ' ') ? TileType.VOID : TileType.WALL;
+    }
+
+    private void setKind(int x, int y, TileType type) {
+        MapChunk chunk = chunkAt(x, y);
+        int i = MapChunk.local(x, y);
+        chunk.kinds[i] = (byte) type.ordinal();
+        layoutVersion++;
+        if (type == TileType.WALKABLE) chunk.walkable[i >>> 6] |= 1L << i;
+        else chunk.walkable[i >>> 6] &= ~(1L << i);
+    }
+
+    private MapChunk chunkAt(int x, int y) {
+        return chunks[(y >> MapChunk.SHIFT) * chunksX + (x >> MapChunk.SHIFT)];
+    }
+
+    private void indexStation(StationTile tile) {
+        Station st = tile.getStation();
+        stationIndex.get(st.getType()).add(tile);
+        allStations.add(tile);
+        if (st instanceof CookingStation cs) cookingStations.add(cs);
+    }
+
     public List<Position> getSpawnPoints() { return spawnPoints; }
-    public boolean[][] getWallMask() { return wallMask; }
+    public List<StationTile> getStations(StationType type) { return stationViews.get(type); }
+    public List<StationTile> getAllStations() { return allStationsView; }
+    public List<CookingStation> getCookingStations() { return cookingStationsView; }
+    public FloorItemIndex getFloorItems() { return floorItems; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
-    public Tile getTile(Position p) { return (p.x>=0 && p.x<width && p.y>=0 && p.y<height) ? grid[p.y][p.x] : null; }
-    public boolean inBounds(Position p) { return p.x>=0 && p.x<width && p.y>=0 && p.y<height; }
-    public boolean isWalkable(Position p) { return inBounds(p) && grid[p.y][p.x].isWalkable(); }
+    public Tile getTile(Position p) { return inBounds(p.x, p.y) ? chunkAt(p.x, p.y).tiles[MapChunk.local(p.x, p.y)] : null; }
+    public boolean inBounds(Position p) { return inBounds(p.x, p.y); }
+    public boolean isWalkable(Position p) { return isWalkable(p.x, p.y); }
+
+    // --- CHUNK ---
+    public int getChunksX() { return chunksX; }
+    public int getChunksY() { return chunksY; }
+    public MapChunk getChunk(int cx, int cy) { return chunks[cy * chunksX + cx]; }
+
+    // --- RAW GRID QUERIES (tanpa alokasi) ---
+    public boolean inBounds(int x, int y) { return x >= 0 && x < width && y >= 0 && y < height; }
+
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        MapChunk chunk = chunkAt(x, y);
+        int i = MapChunk.local(x, y);
+        return (chunk.walkable[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public TileType getTileType(int x, int y) {
+        return inBounds(x, y) ? TILE_TYPES[chunkAt(x, y).kinds[MapChunk.local(x, y)]] : TileType.VOID;
+    }
+
+    // Salinan row-major (index = y * width + x) karakter layout asli, untuk checkpoint dan WELCOME jaringan
+    public byte[] getLayoutCodes() {
+        byte[] out = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) out[y * width + x] = chunkAt(x, y).codes[MapChunk.local(x, y)];
+        }
+        return out;
+    }
+
+    public int getLayoutVersion() { return layoutVersion; }
+
+    // Pathfinding & distance field station, dibuat saat pertama dipakai
+    public NavGrid getNav() {
+        if (nav == null) nav = new NavGrid(this);
+        return nav;
+    }
+
+    // True jika AABB (koordinat tile, max eksklusif) menyentuh tile non-walkable atau keluar map
+    public boolean isAreaBlocked(double minX, double minY, double maxX, double maxY) {
+        int startX = (int) Math.floor(minX);
+        int endX = (int) Math.floor(maxX - 0.001);
+        int startY = (int) Math.floor(minY);
+        int endY = (int) Math.floor(maxY - 0.001);
+
+        if (startX < 0 || startY < 0 || endX >= width || endY >= height) return true;
+        for (int y = startY; y <= endY; y++) {
+            for (int x = startX; x <= endX; x++) {
+                MapChunk chunk = chunkAt(x, y);
+                int i = MapChunk.local(x, y);
+                if ((chunk.walkable[i >>> 6] & (1L << i)) == 0) return true;
+            }
+        }
+        return false;
+    }
     public Station getStationAt(Position p) {
         Tile t = getTile(p);
         return (t instanceof StationTile st) ? st.getStation() : null;
     }
-}
\ No newline at end of file
+}
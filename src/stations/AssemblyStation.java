@@ -17,6 +17,9 @@ public class AssemblyStation extends BaseStation {
     @Override
     public String getName() { return "Assembly Station"; }
 
+    @Override
+    public StationType getType() { return StationType.ASSEMBLY; }
+
     @Override
     public boolean canPlace(Item item) {
         if (storedItem == null) {
@@ -60,7 +63,7 @@ public class AssemblyStation extends BaseStation {
     }
 
     private void checkAndConvertDish(Plate plate) {
-        DishType match = RecipeBook.findMatch(plate.getContents());
+        DishType match = RecipeBook.findMatch(plate.getSignature());
         
         if (match != null) {
             System.out.println("Recipe Complete: " + match);
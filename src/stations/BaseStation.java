@@ -33,7 +33,8 @@ public abstract class BaseStation implements Station {
         return storedItem;
     }
 
-    protected void setStoredItem(Item item) {
+    // Tanpa validasi canPlace(); dipakai saat memulihkan checkpoint
+    public void setStoredItem(Item item) {
         this.storedItem = item;
     }
 }
\ No newline at end of file
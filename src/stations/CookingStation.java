@@ -8,6 +8,9 @@ public class CookingStation extends BaseStation {
     @Override
     public String getName() { return "Cooking Station"; }
 
+    @Override
+    public StationType getType() { return StationType.COOKING; }
+
     @Override
     public boolean canPlace(Item item) {
         if (storedItem == null) return item instanceof CookingDevice;
@@ -8,6 +8,9 @@ public class CuttingStation extends BaseStation {
     @Override
     public String getName() { return "Cutting Station"; }
 
+    @Override
+    public StationType getType() { return StationType.CUTTING; }
+
     @Override
     public boolean canPlace(Item item) {
         if (item instanceof Preparable p) {
@@ -27,7 +30,7 @@ public class CuttingStation extends BaseStation {
             return false;
         }
         
-        view.gui.AssetManager.getInstance().playSound("place");
+        model.engine.GameEngine.audio().playSound("place");
         
         System.out.println("📍 Menaruh " + item.getName() + " di Cutting Station");
         return super.place(item);
@@ -1,7 +1,7 @@
 package stations;
 
-import factory.ItemFactory;
 import items.core.Item;
+import model.engine.GameSession;
 
 public class IngredientStorage implements Station {
     private final String ingredientType;
@@ -19,6 +19,11 @@ public class IngredientStorage implements Station {
         return "Ingredient Storage [" + ingredientType.toUpperCase() + "]";
     }
 
+    public String getIngredientType() { return ingredientType; }
+
+    @Override
+    public StationType getType() { return StationType.INGREDIENT_STORAGE; }
+
     @Override
     public boolean canPlace(Item item) {
         return false;
@@ -33,7 +38,7 @@ public class IngredientStorage implements Station {
     @Override
     public Item pick() {
         try {
-            Item item = ItemFactory.create(ingredientType);
+            Item item = GameSession.current().getItems().create(ingredientType);
             System.out.println("📦 Got " + item.getName() + " from storage");
             return item;
         } catch (Exception e) {
@@ -1,12 +1,13 @@
 package stations;
 
 import items.core.Item;
-import model.engine.EffectManager;
-import utils.TimerUtils;
+import model.engine.GameSession;
+import utils.TimingWheel.Timeout;
 
 public class LuckyStation extends BaseStation {
     private boolean onCooldown = false;
     private int cooldownTime = 0;
+    private Timeout cooldownTask;
 
     @Override
     public String getName() {
@@ -14,6 +15,9 @@ public class LuckyStation extends BaseStation {
         return "Lucky Spin [READY]";
     }
 
+    @Override
+    public StationType getType() { return StationType.LUCKY; }
+
     @Override
     public boolean canPlace(Item item) {
         return false; 
@@ -29,19 +33,38 @@ public class LuckyStation extends BaseStation {
         
         startCooldown();
 
-        EffectManager.getInstance().startGachaSequence();
+        GameSession.current().getEffects().startGachaSequence();
     }
 
     private void startCooldown() {
         onCooldown = true;
         cooldownTime = 45;
         
-        TimerUtils.repeat(() -> {
-            if (cooldownTime > 0) cooldownTime--;
-            else {
-                onCooldown = false;
-            }
-        }, 1000);
+        cooldownTask = GameSession.current().getEngine().schedule(this::tickCooldown, 1000);
+    }
+
+    private void tickCooldown() {
+        if (cooldownTime > 0) cooldownTime--;
+        if (cooldownTime > 0) {
+            cooldownTask = GameSession.current().getEngine().schedule(this::tickCooldown, 1000);
+        } else {
+            onCooldown = false;
+            cooldownTask = null;
+        }
+    }
+
+    // --- CHECKPOINT ---
+    public int getCooldownTime() { return onCooldown ? cooldownTime : 0; }
+    public long getCooldownTicksLeft() { return cooldownTask != null ? cooldownTask.remainingTicks() : 0; }
+
+    public void restoreCooldown(int seconds, long ticksLeft) {
+        if (cooldownTask != null) cooldownTask.cancel();
+        cooldownTask = null;
+        onCooldown = seconds > 0;
+        cooldownTime = seconds;
+        if (onCooldown) {
+            cooldownTask = GameSession.current().getEngine().scheduleTicks(this::tickCooldown, ticksLeft);
+        }
     }
     
     @Override
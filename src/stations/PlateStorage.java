@@ -1,5 +1,7 @@
 package stations;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Stack;
 
 import items.core.Item;
@@ -26,6 +28,9 @@ public class PlateStorage implements Station {
         return "Plate Storage [" + cleanCount + " clean]";
     }
 
+    @Override
+    public StationType getType() { return StationType.PLATE_STORAGE; }
+
     @Override
     public boolean canPlace(Item item) {
         return item instanceof Plate || item instanceof DirtyPlate;
@@ -67,6 +72,14 @@ public class PlateStorage implements Station {
         return false; 
     }
 
+    // Urutan bawah -> atas (elemen terakhir = yang diambil berikutnya)
+    public List<Item> getPlates() { return Collections.unmodifiableList(plates); }
+
+    public void restorePlates(List<Item> stack) {
+        plates.clear();
+        plates.addAll(stack);
+    }
+
     public void returnCleanPlate() {
         place(new Plate());
     }
@@ -6,6 +6,9 @@ public class ServingStation extends BaseStation {
     @Override
     public String getName() { return "Serving Station"; }
 
+    @Override
+    public StationType getType() { return StationType.SERVING; }
+
     @Override
     public boolean canPlace(Item item) {
         return false;
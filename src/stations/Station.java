@@ -4,6 +4,7 @@ import items.core.Item;
 
 public interface Station {
     String getName();
+    StationType getType();
     boolean canPlace(Item item);
     boolean place(Item item);
     Item pick();
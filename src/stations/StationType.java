@@ -0,0 +1,13 @@
+package stations;
+
+public enum StationType {
+    ASSEMBLY,
+    COOKING,
+    CUTTING,
+    INGREDIENT_STORAGE,
+    LUCKY,
+    PLATE_STORAGE,
+    SERVING,
+    TRASH,
+    WASHING
+}
@@ -2,13 +2,17 @@ package stations;
 
 import items.core.CookingDevice;
 import items.core.Item;
-import view.gui.AssetManager; // Jangan lupa import
 import items.utensils.Plate;
+import model.engine.AudioSink;
+import model.engine.GameEngine;
 
 public class TrashStation implements Station {
     @Override
     public String getName() { return "Trash Station"; }
 
+    @Override
+    public StationType getType() { return StationType.TRASH; }
+
     @Override
     public boolean canPlace(Item item) {
 
@@ -17,7 +21,7 @@ public class TrashStation implements Station {
 
     @Override
     public boolean place(Item item) {
-        AssetManager audio = AssetManager.getInstance();
+        AudioSink audio = GameEngine.audio();
 
         if (item instanceof Plate plate) {
             if (!plate.getContents().isEmpty()) {
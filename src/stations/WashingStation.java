@@ -11,6 +11,9 @@ public class WashingStation extends BaseStation {
         return "Washing Station"; 
     }
 
+    @Override
+    public StationType getType() { return StationType.WASHING; }
+
     @Override
     public boolean canPlace(Item item) {
         if (storedItem != null) return false;
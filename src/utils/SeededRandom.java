@@ -0,0 +1,50 @@
+package utils;
+
+import java.util.Random;
+
+// Stream RNG SplitMix64 (algoritma java.util.SplittableRandom dengan gamma tetap) yang state 64-bit-nya
+// bisa dibaca dan dipulihkan untuk checkpoint sesi. split() menurunkan stream independen, sehingga tiap
+// subsistem (map, order, efek, bot) punya urutan angka sendiri yang tidak bergeser oleh subsistem lain.
+// Turunan Random supaya bisa dipakai Collections.shuffle dkk.; tanpa CAS/lock di next().
+// Tidak thread-safe: satu stream hanya dipakai satu thread (thread engine sesinya, atau satu task generator).
+public class SeededRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SeededRandom(long seed) {
+        super(seed);    // memanggil setSeed() di bawah
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        state = seed;
+        super.setSeed(seed);    // reset cache nextGaussian milik Random
+    }
+
+    // Stream baru yang independen dari stream ini; state stream ini ikut maju satu langkah
+    public SeededRandom split() {
+        return new SeededRandom(nextLong());
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (mix64(state += GOLDEN_GAMMA) >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getState() { return state; }
+
+    public void setState(long state) { this.state = state; }
+}
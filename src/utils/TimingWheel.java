@@ -0,0 +1,139 @@
+package utils;
+
+// Hierarchical timing wheel berbasis tick simulasi (bukan thread).
+// 4 level x 64 slot: level 0 = 1 tick/slot, level 1 = 64 tick/slot, dst.
+// schedule() dan cancel() O(1); advance() dipanggil sekali per tick oleh pemilik (GameEngine).
+// Tidak thread-safe: semua akses harus dari thread engine.
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timeout[] slots = new Timeout[SLOTS * LEVELS];
+    private long tick;
+    private int pending = 0;
+
+    public TimingWheel() { this(0); }
+
+    public TimingWheel(long startTick) {
+        this.tick = startTick;
+    }
+
+    public static final class Timeout {
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+        private Timeout prev, next;
+        private int slot = -1;
+        private boolean cancelled = false;
+        private boolean expired = false;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public boolean cancel() {
+            if (cancelled || expired) return false;
+            cancelled = true;
+            wheel.unlink(this);
+            return true;
+        }
+
+        public boolean isCancelled() { return cancelled; }
+        public boolean isExpired() { return expired; }
+        public boolean isPending() { return !cancelled && !expired; }
+        public long getDeadline() { return deadline; }
+        public long remainingTicks() { return isPending() ? Math.max(0, deadline - wheel.tick) : 0; }
+    }
+
+    public Timeout schedule(Runnable task, long delayTicks) {
+        Timeout t = new Timeout(this, task, tick + Math.max(1, delayTicks));
+        insert(t);
+        pending++;
+        return t;
+    }
+
+    // Pindahkan waktu wheel tanpa menjalankan apa pun; hanya boleh saat tidak ada timer (restore checkpoint)
+    public void resetTo(long tick) {
+        if (pending != 0) throw new IllegalStateException("Cannot move a timing wheel with " + pending + " pending timers");
+        this.tick = tick;
+    }
+
+    public long getTick() { return tick; }
+    public int size() { return pending; }
+
+    // Maju tepat satu tick dan jalankan semua timeout yang jatuh tempo
+    public void advance() {
+        tick++;
+
+        // Cascade level L saat indeks level L-1 kembali ke 0 (isi dipindah ke level bawah)
+        for (int level = 1; level < LEVELS; level++) {
+            if (((tick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) break;
+            cascade(level, (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        int idx = (int) (tick & SLOT_MASK);
+        Timeout t;
+        while ((t = slots[idx]) != null) {
+            unlink(t);
+            if (t.deadline <= tick) {
+                t.expired = true;
+                t.task.run();
+            } else {
+                insert(t);
+                pending++;
+            }
+        }
+    }
+
+    // Maju sampai targetTick (inklusif); untuk sinkronisasi dengan SimClock
+    public void advanceTo(long targetTick) {
+        while (tick < targetTick) advance();
+    }
+
+    private void cascade(int level, int index) {
+        int idx = level * SLOTS + index;
+        Timeout t;
+        while ((t = slots[idx]) != null) {
+            unlink(t);
+            insert(t);
+            pending++;
+        }
+    }
+
+    private void insert(Timeout t) {
+        long delta = t.deadline - tick;
+        int idx;
+        if (delta <= 0) {
+            // Jatuh tempo tepat saat cascade: masuk slot tick ini (diproses setelah cascade)
+            idx = (int) (tick & SLOT_MASK);
+        } else if (delta > MAX_DELTA) {
+            long capped = tick + MAX_DELTA;
+            idx = (LEVELS - 1) * SLOTS + (int) ((capped >>> (SLOT_BITS * (LEVELS - 1))) & SLOT_MASK);
+        } else {
+            int level = 0;
+            while (delta >= (1L << (SLOT_BITS * (level + 1)))) level++;
+            idx = level * SLOTS + (int) ((t.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        t.slot = idx;
+        t.prev = null;
+        t.next = slots[idx];
+        if (t.next != null) t.next.prev = t;
+        slots[idx] = t;
+    }
+
+    private void unlink(Timeout t) {
+        if (t.slot < 0) return;
+        if (t.prev != null) t.prev.next = t.next;
+        else slots[t.slot] = t.next;
+        if (t.next != null) t.next.prev = t.prev;
+        t.prev = t.next = null;
+        t.slot = -1;
+        pending--;
+    }
+}
@@ -0,0 +1,39 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Triple buffer lock-free untuk satu writer dan satu reader.
+// Writer mengisi back() lalu publish(); reader memanggil acquire() lalu membaca front().
+// Writer dan reader tidak pernah memegang buffer yang sama, jadi isi buffer aman di-reuse (pool).
+public final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 3;
+    private static final int DIRTY = 4;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;   // hanya diakses writer
+    private int front = 2;  // hanya diakses reader
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) buffers[i] = factory.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T back() { return (T) buffers[back]; }
+
+    // Tukar back dengan middle; buffer lama di middle (mungkin belum dibaca) jadi back berikutnya
+    public void publish() {
+        back = middle.getAndSet(back | DIRTY) & INDEX_MASK;
+    }
+
+    // True jika ada buffer baru sejak acquire sebelumnya
+    public boolean acquire() {
+        if ((middle.get() & DIRTY) == 0) return false;
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T front() { return (T) buffers[front]; }
+}
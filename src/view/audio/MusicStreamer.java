@@ -0,0 +1,248 @@
+package view.audio;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+
+// BGM di-stream dari file (bukan Clip yang menyimpan seluruh lagu di heap): satu thread membaca
+// blok kecil dari AudioInputStream, mengulang di akhir file, dan crossfade saat lagu berganti.
+// Buffer SourceDataLine yang kecil berfungsi sebagai ring buffer antara decoder dan perangkat.
+// play()/stop() hanya menyimpan permintaan; semua I/O audio terjadi di thread streamer.
+public class MusicStreamer implements AutoCloseable {
+    private static final AudioFormat FORMAT = SfxMixer.FORMAT;
+    private static final int CHANNELS = 2;
+    private static final int FRAME_BYTES = 4;
+    private static final int PERIOD_FRAMES = 1024;  // ~23 ms per blok
+    private static final int LINE_PERIODS = 8;      // ~186 ms di line
+    private static final int CROSSFADE_MS = 800;
+
+    private final Map<String, URL> tracks = new ConcurrentHashMap<>();
+    private final float fadeStep = 1f / (FORMAT.getFrameRate() * CROSSFADE_MS / 1000f);
+
+    // Permintaan terakhir dari pemanggil; null = stop
+    private volatile String target;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final int[] mixBuffer = new int[PERIOD_FRAMES * CHANNELS];
+    private final byte[] readBuffer = new byte[PERIOD_FRAMES * FRAME_BYTES];
+    private final byte[] outBuffer = new byte[PERIOD_FRAMES * FRAME_BYTES];
+
+    private volatile float volume = 1f;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    private Deck current;   // lagu yang sedang (atau akan) terdengar penuh
+    private Deck fading;    // lagu lama yang sedang fade out
+
+    // Satu lagu yang sedang dibaca; dibuka ulang dari awal saat EOF (loop)
+    private final class Deck {
+        final String name;
+        final URL url;
+        AudioInputStream in;
+        float gain;
+        float step;
+
+        Deck(String name, URL url, float gain, float step) {
+            this.name = name;
+            this.url = url;
+            this.gain = gain;
+            this.step = step;
+        }
+
+        // Tambahkan blok berikutnya ke mix; false jika deck selesai (fade out habis / file gagal dibuka)
+        boolean mixInto(int[] mix) {
+            int filled = 0;
+            int wanted = readBuffer.length;
+            boolean looped = false;
+            while (filled < wanted) {
+                if (in == null && !open()) return false;
+                int n;
+                try {
+                    n = in.read(readBuffer, filled, wanted - filled);
+                } catch (IOException e) {
+                    n = -1;
+                }
+                if (n < 0) {
+                    closeStream();
+                    if (looped && filled == 0) return false;   // file kosong
+                    looped = true;
+                    continue;
+                }
+                filled += n;
+            }
+
+            for (int f = 0, b = 0, m = 0; f < PERIOD_FRAMES; f++) {
+                gain += step;
+                if (gain > 1f) gain = 1f;
+                else if (gain < 0f) gain = 0f;
+                for (int c = 0; c < CHANNELS; c++, b += 2, m++) {
+                    int sample = (short) ((readBuffer[b] & 0xFF) | (readBuffer[b + 1] << 8));
+                    mix[m] += (int) (sample * gain);
+                }
+            }
+            return !(step < 0 && gain <= 0f);
+        }
+
+        private boolean open() {
+            try {
+                AudioInputStream source = AudioSystem.getAudioInputStream(url);
+                in = FORMAT.matches(source.getFormat()) ? source : AudioSystem.getAudioInputStream(FORMAT, source);
+                return true;
+            } catch (Exception e) {
+                System.err.println("❌ Error streaming BGM: " + name);
+                in = null;
+                return false;
+            }
+        }
+
+        void closeStream() {
+            if (in == null) return;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+            in = null;
+        }
+    }
+
+    // Hanya menyimpan URL; file baru dibuka saat lagu diputar
+    public void register(String name, URL url) {
+        if (url != null) tracks.put(name, url);
+    }
+
+    public boolean hasTrack(String name) { return tracks.containsKey(name); }
+
+    // Non-blocking: crossfade ke lagu ini (lagu yang sama tidak diulang dari awal)
+    public void play(String name) {
+        if (!tracks.containsKey(name)) return;
+        request(name);
+    }
+
+    // Non-blocking: fade out lagu yang sedang diputar
+    public void stop() {
+        request(null);
+    }
+
+    public void setVolume(float volume) {
+        this.volume = Math.max(0f, Math.min(1f, volume));
+    }
+
+    private void request(String name) {
+        target = name;
+        requests.incrementAndGet();
+        Thread t = ensureStarted();
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    private synchronized Thread ensureStarted() {
+        if (thread == null && target != null) {
+            running = true;
+            thread = new Thread(this::streamLoop, "bgm-stream");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return thread;
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    private void streamLoop() {
+        SourceDataLine line;
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, PERIOD_FRAMES * LINE_PERIODS * FRAME_BYTES);
+            line.start();
+        } catch (Exception | LinkageError e) {
+            System.err.println("⚠️ Warning: audio output tidak tersedia, BGM dimatikan");
+            running = false;
+            return;
+        }
+
+        int seen = 0;
+        try {
+            while (running) {
+                int r = requests.get();
+                if (r != seen) {
+                    seen = r;
+                    switchTo(target);
+                }
+
+                if (current == null && fading == null) {
+                    LockSupport.park(this);
+                    continue;
+                }
+
+                mixPeriod();
+                line.write(outBuffer, 0, outBuffer.length);
+            }
+        } finally {
+            if (current != null) current.closeStream();
+            if (fading != null) fading.closeStream();
+            current = fading = null;
+            line.stop();
+            line.close();
+        }
+    }
+
+    private void switchTo(String name) {
+        if (current != null && current.name.equals(name)) return;   // lagu yang sama tetap jalan
+
+        // Deck fading lama langsung dibuang: paling banyak dua lagu terdengar bersamaan
+        if (fading != null) fading.closeStream();
+        fading = current;
+        if (fading != null) fading.step = -fadeStep;
+
+        URL url = name != null ? tracks.get(name) : null;
+        if (url == null) {
+            current = null;
+        } else {
+            // Tanpa lagu sebelumnya langsung penuh; jika ada, fade in bersamaan dengan fade out
+            float startGain = fading == null ? 1f : 0f;
+            current = new Deck(name, url, startGain, fadeStep);
+        }
+    }
+
+    private void mixPeriod() {
+        int[] mix = mixBuffer;
+        Arrays.fill(mix, 0);
+
+        if (current != null && !current.mixInto(mix)) {
+            current.closeStream();
+            current = null;
+        }
+        if (fading != null && !fading.mixInto(mix)) {
+            fading.closeStream();
+            fading = null;
+        }
+
+        float gain = volume;
+        byte[] out = outBuffer;
+        for (int i = 0, o = 0; i < mix.length; i++, o += 2) {
+            int sample = (int) (mix[i] * gain);
+            if (sample > Short.MAX_VALUE) sample = Short.MAX_VALUE;
+            else if (sample < Short.MIN_VALUE) sample = Short.MIN_VALUE;
+            out[o] = (byte) sample;
+            out[o + 1] = (byte) (sample >> 8);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package view.audio;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+
+// Mixer SFX polifonik: semua suara di-decode sekali ke PCM 16-bit stereo, lalu satu thread mixer
+// mencampur voice yang aktif ke satu SourceDataLine. play() hanya memasukkan id ke ring buffer
+// lock-free (tanpa alokasi, tanpa menyentuh API audio), jadi thread engine/EDT tidak pernah blok.
+public class SfxMixer implements AutoCloseable {
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 2, true, false);
+
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    private static final int CHANNELS = 2;
+    private static final int PERIOD_FRAMES = 256;   // ~5.8 ms per blok mix
+    private static final int LINE_PERIODS = 4;      // buffer line ~23 ms
+    private static final int QUEUE_SIZE = 256;      // harus pangkat 2
+    private static final int QUEUE_MASK = QUEUE_SIZE - 1;
+
+    private static final class Sound {
+        final short[] pcm;      // interleaved L,R
+        final int frames;
+        final int maxVoices;
+        final int priority;
+
+        Sound(short[] pcm, int maxVoices, int priority) {
+            this.pcm = pcm;
+            this.frames = pcm.length / CHANNELS;
+            this.maxVoices = Math.max(1, maxVoices);
+            this.priority = priority;
+        }
+    }
+
+    private static final class Voice {
+        Sound sound;        // null = bebas
+        int frame;
+        long startSeq;
+    }
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Sound[] sounds = new Sound[0];
+    private final Voice[] voices;
+
+    // Ring buffer MPSC: slot berisi id+1 (0 = kosong). Produsen klaim index lewat CAS pada tail.
+    private final AtomicIntegerArray queue = new AtomicIntegerArray(QUEUE_SIZE);
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    private final int[] mixBuffer = new int[PERIOD_FRAMES * CHANNELS];
+    private final byte[] outBuffer = new byte[PERIOD_FRAMES * CHANNELS * 2];
+    private long voiceSeq = 0;
+
+    private volatile float masterVolume = 1f;
+    private volatile boolean running = false;
+    private SourceDataLine line;
+    private Thread thread;
+
+    public SfxMixer(int voiceCount) {
+        voices = new Voice[Math.max(1, voiceCount)];
+        for (int i = 0; i < voices.length; i++) voices[i] = new Voice();
+    }
+
+    // Decode file audio ke format mixer dan daftarkan dengan nama; false jika gagal
+    public boolean load(String name, URL url, int maxVoices, int priority) {
+        if (url == null) return false;
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(url);
+             AudioInputStream pcm = AudioSystem.getAudioInputStream(FORMAT, source)) {
+            register(name, toSamples(pcm.readAllBytes()), maxVoices, priority);
+            return true;
+        } catch (Exception e) {
+            System.err.println("❌ Error loading sound: " + name);
+            return false;
+        }
+    }
+
+    // PCM interleaved stereo 16-bit sesuai FORMAT
+    public synchronized void register(String name, short[] pcm, int maxVoices, int priority) {
+        Integer existing = ids.get(name);
+        int id = existing != null ? existing : sounds.length;
+        Sound[] next = Arrays.copyOf(sounds, Math.max(sounds.length, id + 1));
+        next[id] = new Sound(pcm, maxVoices, priority);
+        sounds = next;
+        ids.put(name, id);
+    }
+
+    public boolean isLoaded(String name) { return ids.containsKey(name); }
+
+    // Aman dipanggil dari thread mana pun; false jika suara tidak dikenal atau antrian penuh
+    public boolean play(String name) {
+        Integer id = ids.get(name);
+        if (id == null || !running) return false;
+
+        long t;
+        do {
+            t = tail.get();
+            if (t - head >= QUEUE_SIZE) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        queue.set((int) (t & QUEUE_MASK), id + 1);
+        return true;
+    }
+
+    public void setMasterVolume(float volume) {
+        masterVolume = Math.max(0f, Math.min(1f, volume));
+    }
+
+    public int getDroppedCount() { return dropped.get(); }
+    public boolean isRunning() { return running; }
+
+    // Membuka line output dan menjalankan thread mixer; false jika tidak ada perangkat audio
+    public synchronized boolean start() {
+        if (running) return true;
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, PERIOD_FRAMES * LINE_PERIODS * FORMAT.getFrameSize());
+            line.start();
+        } catch (Exception | LinkageError e) {
+            System.err.println("⚠️ Warning: audio output tidak tersedia, SFX dimatikan");
+            line = null;
+            return false;
+        }
+        running = true;
+        thread = new Thread(this::mixLoop, "sfx-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) return;
+        running = false;
+        try {
+            thread.join(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        line.stop();
+        line.close();
+        line = null;
+        thread = null;
+    }
+
+    private void mixLoop() {
+        while (running) {
+            drainQueue();
+            mixPeriod();
+            // write() blok sampai ada ruang di line: ini yang mengatur tempo loop
+            line.write(outBuffer, 0, outBuffer.length);
+        }
+    }
+
+    private void drainQueue() {
+        long h = head;
+        while (true) {
+            int idx = (int) (h & QUEUE_MASK);
+            int v = queue.get(idx);
+            if (v == 0) break;      // kosong, atau produsen sudah klaim tapi belum menulis
+            queue.set(idx, 0);
+            h++;
+            startVoice(sounds[v - 1]);   // dibaca ulang: id hanya dipublikasikan setelah tabel diperbarui
+        }
+        head = h;
+    }
+
+    private void startVoice(Sound sound) {
+        Voice free = null;
+        Voice oldestSame = null;
+        Voice victim = null;
+        int sameCount = 0;
+
+        for (Voice v : voices) {
+            if (v.sound == null) {
+                if (free == null) free = v;
+                continue;
+            }
+            if (v.sound == sound) {
+                sameCount++;
+                if (oldestSame == null || v.startSeq < oldestSame.startSeq) oldestSame = v;
+            }
+            // Kandidat dicuri: prioritas terendah, lalu yang paling lama berbunyi
+            if (v.sound.priority <= sound.priority
+                    && (victim == null || v.sound.priority < victim.sound.priority
+                        || (v.sound.priority == victim.sound.priority && v.startSeq < victim.startSeq))) {
+                victim = v;
+            }
+        }
+
+        Voice target;
+        if (sameCount >= sound.maxVoices) target = oldestSame;   // batas per suara: restart yang tertua
+        else if (free != null) target = free;
+        else if (victim != null) target = victim;
+        else {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        target.sound = sound;
+        target.frame = 0;
+        target.startSeq = voiceSeq++;
+    }
+
+    private void mixPeriod() {
+        int[] mix = mixBuffer;
+        Arrays.fill(mix, 0);
+
+        for (Voice v : voices) {
+            Sound s = v.sound;
+            if (s == null) continue;
+            int frames = Math.min(PERIOD_FRAMES, s.frames - v.frame);
+            short[] pcm = s.pcm;
+            int src = v.frame * CHANNELS;
+            int n = frames * CHANNELS;
+            for (int i = 0; i < n; i++) mix[i] += pcm[src + i];
+            v.frame += frames;
+            if (v.frame >= s.frames) v.sound = null;
+        }
+
+        float gain = masterVolume;
+        byte[] out = outBuffer;
+        for (int i = 0, o = 0; i < mix.length; i++, o += 2) {
+            int sample = (int) (mix[i] * gain);
+            if (sample > Short.MAX_VALUE) sample = Short.MAX_VALUE;
+            else if (sample < Short.MIN_VALUE) sample = Short.MIN_VALUE;
+            out[o] = (byte) sample;
+            out[o + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    private static short[] toSamples(byte[] bytes) {
+        short[] pcm = new short[bytes.length / 2];
+        for (int i = 0; i < pcm.length; i++) {
+            pcm[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+        }
+        return pcm;
+    }
+}
@@ -0,0 +1,124 @@
+package view.gui;
+
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+// Active rendering: Canvas heavyweight + BufferStrategy yang digambar oleh thread render sendiri
+// dengan frame pacing, tanpa melewati antrian repaint EDT. Dipakai GamePanel jika GameConfig.activeRendering.
+class ActiveRenderer {
+    interface FrameRenderer {
+        void render(Graphics2D g2d, int width, int height);
+    }
+
+    // Sisa waktu terakhir sebelum deadline di-spin (parkNanos tidak cukup presisi)
+    private static final long SPIN_NANOS = 1_000_000L;
+
+    private final Canvas canvas = new Canvas();
+    private final FrameRenderer renderer;
+    private final int buffers;
+    private final long frameNanos;
+
+    private volatile boolean running = false;
+    private Thread thread;
+    private BufferStrategy strategy;
+
+    private volatile long lastFrameNanos = 0;
+    private volatile long worstFrameNanos = 0;
+
+    ActiveRenderer(FrameRenderer renderer, int buffers, int targetFrameRate) {
+        this.renderer = renderer;
+        this.buffers = Math.max(2, Math.min(3, buffers));
+        this.frameNanos = 1_000_000_000L / Math.max(1, targetFrameRate);
+        canvas.setIgnoreRepaint(true);
+        canvas.setFocusable(false);
+    }
+
+    Canvas getCanvas() { return canvas; }
+
+    // Durasi render+show frame terakhir dan terburuk sejak start (untuk diagnosa jitter)
+    long getLastFrameNanos() { return lastFrameNanos; }
+    long getWorstFrameNanos() { return worstFrameNanos; }
+
+    synchronized void start() {
+        if (running) return;
+        running = true;
+        worstFrameNanos = 0;
+        thread = new Thread(this::loop, "render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    synchronized void stop() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    private void loop() {
+        long next = System.nanoTime();
+        while (running) {
+            long start = System.nanoTime();
+            renderOnce();
+            long end = System.nanoTime();
+            lastFrameNanos = end - start;
+            if (lastFrameNanos > worstFrameNanos) worstFrameNanos = lastFrameNanos;
+
+            // Deadline tetap (bukan "sleep setelah render") supaya interval frame stabil;
+            // jika tertinggal lebih dari satu frame, sinkron ulang alih-alih mengejar dengan burst.
+            next += frameNanos;
+            if (end - next > frameNanos) next = end;
+            waitUntil(next);
+        }
+        strategy = null;
+    }
+
+    private void renderOnce() {
+        int w = canvas.getWidth();
+        int h = canvas.getHeight();
+        if (!canvas.isDisplayable() || w <= 0 || h <= 0) {
+            strategy = null;
+            return;
+        }
+
+        try {
+            if (strategy == null) {
+                canvas.createBufferStrategy(buffers);
+                strategy = canvas.getBufferStrategy();
+            }
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        renderer.render(g2d, w, h);
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+        } catch (IllegalStateException e) {
+            // Peer canvas hilang (panel dilepas/di-resize): buat ulang strategy di frame berikutnya
+            strategy = null;
+        }
+    }
+
+    private void waitUntil(long deadline) {
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) LockSupport.parkNanos(remaining - SPIN_NANOS);
+            else Thread.onSpinWait();
+        }
+    }
+}
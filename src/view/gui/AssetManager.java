@@ -5,42 +5,103 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import javax.imageio.ImageIO;
-import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
+import model.engine.AudioSink;
+import view.audio.MusicStreamer;
+import view.audio.SfxMixer;
+
+// Semua asset (gambar, SFX, font) di-decode paralel di pool loader sejak getInstance() pertama;
+// konstruktor langsung kembali sehingga HomePanel bisa tampil sementara sisanya masih dimuat.
+public class AssetManager implements AudioSink {
+    private static final class Holder {
+        static final AssetManager INSTANCE = new AssetManager();
+    }
+
+    // --- LOADER ---
+    private final ExecutorService loader;
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final CompletableFuture<Void> ready;
 
-public class AssetManager {
-    private static AssetManager instance;
-    
     // --- SPRITE & IMAGE VARS ---
-    private BufferedImage spriteSheet;
-    private BufferedImage menuBackground; 
-    private BufferedImage gameBackground;
+    private final CompletableFuture<BufferedImage> spriteSheet;
+    private final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
     private final int SPRITE_SIZE = 102; 
     private final Map<String, BufferedImage> spriteCache = new HashMap<>();
     
     // --- AUDIO VARS ---
-    private final Map<String, Clip> soundCache = new HashMap<>();
-    private Clip currentBGM;
+    private static final int SFX_VOICES = 16;
+    private final SfxMixer sfx = new SfxMixer(SFX_VOICES);
+    private final MusicStreamer music = new MusicStreamer();
 
     private AssetManager() {
-        loadSprites();
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadId = new AtomicInteger();
+        loader = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-loader-" + threadId.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        load(FontRegistry::preload);
+        spriteSheet = load(this::loadSpriteSheet);
+        for (String image : new String[] {
+                "bg_menu.jpg", "GameWallpaper.jpg", "SelectStageBackground.png",
+                "StageClearBackground.png", "GameOverBackground.png" }) {
+            images.put(image, load(() -> loadImage(image)));
+        }
         loadSounds();
+
+        ready = CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+        ready.whenComplete((v, e) -> {
+            loader.shutdown();
+            System.out.println("✅ Semua asset siap (" + pending.size() + " item) dalam "
+                    + StartupMetrics.elapsedMillis() + " ms sejak start");
+        });
     }
 
     public static AssetManager getInstance() {
-        if (instance == null) {
-            instance = new AssetManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    // --- LOADER PIPELINE ---
+    private <T> CompletableFuture<T> load(Supplier<T> task) {
+        CompletableFuture<T> f = CompletableFuture.supplyAsync(task, loader);
+        f.whenComplete((v, e) -> loadedCount.incrementAndGet());
+        pending.add(f);
+        return f;
+    }
+
+    private CompletableFuture<Void> load(Runnable task) {
+        return load(() -> {
+            task.run();
+            return null;
+        });
     }
 
+    // 0..1, untuk indikator loading di menu
+    public float getLoadProgress() {
+        return pending.isEmpty() ? 1f : (float) loadedCount.get() / pending.size();
+    }
+
+    public boolean isReady() { return ready.isDone(); }
+
+    public CompletableFuture<Void> whenReady() { return ready; }
+
     //Sprites
-    private void loadSprites() {
+    private BufferedImage loadSpriteSheet() {
+        BufferedImage sheet = null;
         String[] paths = {
             "/resources/sprites.png", 
             "/sprites.png",           
@@ -51,7 +112,7 @@ public class AssetManager {
             try {
                 URL url = getClass().getResource(path);
                 if (url != null) {
-                    spriteSheet = ImageIO.read(url);
+                    sheet = ImageIO.read(url);
                     System.out.println("✅ BERHASIL memuat sprite dari: " + path);
                     break; 
                 }
@@ -59,38 +120,29 @@ public class AssetManager {
                 System.err.println("Gagal membaca dari: " + path);
             }
         }
-        if (spriteSheet == null) System.err.println("❌ ERROR: Sprites.png tidak ditemukan!");
+        if (sheet == null) System.err.println("❌ ERROR: Sprites.png tidak ditemukan!");
+        return sheet;
+    }
 
+    private BufferedImage loadImage(String fileName) {
         try {
+            URL url = getClass().getResource("/resources/" + fileName);
+            if (url == null) url = getClass().getResource("/" + fileName); // Fallback
 
-            URL bgUrl = getClass().getResource("/resources/bg_menu.jpg");
-            if (bgUrl == null) bgUrl = getClass().getResource("/bg_menu.jpg");
-            
-            if (bgUrl != null) {
-                menuBackground = ImageIO.read(bgUrl);
-                System.out.println("✅ BERHASIL memuat background menu");
-            } else {
-                System.err.println("⚠️ Warning: bg_menu.jpg tidak ditemukan");
+            if (url != null) {
+                BufferedImage img = ImageIO.read(url);
+                System.out.println("✅ BERHASIL memuat " + fileName);
+                return img;
             }
+            System.err.println("⚠️ Warning: " + fileName + " tidak ditemukan");
         } catch (IOException e) {
-            System.err.println("Gagal memuat background menu: " + e.getMessage());
-        }
-        try {
-            URL gameBgUrl = getClass().getResource("/resources/GameWallpaper.jpg");
-            if (gameBgUrl == null) gameBgUrl = getClass().getResource("/GameWallpaper.jpg"); // Fallback
-
-            if (gameBgUrl != null) {
-                gameBackground = ImageIO.read(gameBgUrl);
-                System.out.println("✅ BERHASIL memuat background game");
-            } else {
-                System.err.println("⚠️ Warning: GameWallpaper.png tidak ditemukan");
-            }
-        } catch (IOException e) {
-            System.err.println("Gagal memuat background game: " + e.getMessage());
+            System.err.println("Gagal memuat " + fileName + ": " + e.getMessage());
         }
+        return null;
     }
 
     public BufferedImage getSprite(int col, int row) {
+        BufferedImage spriteSheet = getSpriteSheet();
         if (spriteSheet == null) return createErrorSprite();
 
         String key = col + "," + row;
@@ -112,8 +164,14 @@ public class AssetManager {
         return sprite;
     }
     
+    // Gambar di folder resources (dimuat sekali, dipakai bersama semua panel); menunggu jika belum selesai
+    public BufferedImage getImage(String fileName) {
+        return images.computeIfAbsent(fileName, f -> CompletableFuture.completedFuture(loadImage(f))).join();
+    }
+
+    // Non-blocking: null selama masih dimuat (menu menggambar warna polos dulu)
     public BufferedImage getMenuBackground() {
-        return menuBackground;
+        return images.get("bg_menu.jpg").getNow(null);
     }
     
     private BufferedImage createErrorSprite() {
@@ -127,70 +185,56 @@ public class AssetManager {
         return img;
     }
 
+    // Menunggu jika sheet belum selesai di-decode (hanya mungkin tepat setelah startup)
     public BufferedImage getSpriteSheet() {
-        return spriteSheet;
+        return spriteSheet.join();
     }
 
     //Audio
     private void loadSounds() {
-        loadSound("bgm_menu", "/resources/sounds/bgm_menu.wav");
-        loadSound("bgm_game", "/resources/sounds/bgm_game.wav");
+        // BGM di-stream saat diputar, di sini hanya dicatat lokasinya
+        music.register("bgm_menu", getClass().getResource("/resources/sounds/bgm_menu.wav"));
+        music.register("bgm_game", getClass().getResource("/resources/sounds/bgm_game.wav"));
         
-        loadSound("chop", "/resources/sounds/sfx_chop.wav");
-        loadSound("dash", "/resources/sounds/sfx_dash.wav");
-        loadSound("throw", "/resources/sounds/sfx_throw.wav");
-        loadSound("boil", "/resources/sounds/sfx_boil.wav");
-        loadSound("fry", "/resources/sounds/sfx_fry.wav");
-        loadSound("serve", "/resources/sounds/sfx_serve.wav");
-        loadSound("trash", "/resources/sounds/sfx_trash.wav");
-        loadSound("wash", "/resources/sounds/sfx_wash.wav");
-        loadSound("spin", "/resources/sounds/sfx_spin.wav");
-        loadSound("win", "/resources/sounds/sfx_win.wav");
-        loadSound("pickup", "/resources/sounds/sfx_pickup.wav");
-        loadSound("place", "/resources/sounds/sfx_place.wav");
-    }
-
-    private void loadSound(String name, String path) {
-        try {
-            URL url = getClass().getResource(path);
-            if (url == null) return;
-            
-            AudioInputStream ais = AudioSystem.getAudioInputStream(url);
-            Clip clip = AudioSystem.getClip();
-            clip.open(ais);
-            soundCache.put(name, clip);
-            
-        } catch (Exception e) {
-            System.err.println("❌ Error loading sound: " + name);
-        }
+        // SFX: nama, file, maks voice bersamaan, prioritas (voice prioritas rendah dicuri duluan)
+        loadSfx("chop", "/resources/sounds/sfx_chop.wav", 3, SfxMixer.PRIORITY_NORMAL);
+        loadSfx("dash", "/resources/sounds/sfx_dash.wav", 2, SfxMixer.PRIORITY_LOW);
+        loadSfx("throw", "/resources/sounds/sfx_throw.wav", 2, SfxMixer.PRIORITY_LOW);
+        loadSfx("boil", "/resources/sounds/sfx_boil.wav", 2, SfxMixer.PRIORITY_NORMAL);
+        loadSfx("fry", "/resources/sounds/sfx_fry.wav", 2, SfxMixer.PRIORITY_NORMAL);
+        loadSfx("serve", "/resources/sounds/sfx_serve.wav", 2, SfxMixer.PRIORITY_HIGH);
+        loadSfx("trash", "/resources/sounds/sfx_trash.wav", 2, SfxMixer.PRIORITY_LOW);
+        loadSfx("wash", "/resources/sounds/sfx_wash.wav", 2, SfxMixer.PRIORITY_NORMAL);
+        loadSfx("spin", "/resources/sounds/sfx_spin.wav", 1, SfxMixer.PRIORITY_HIGH);
+        loadSfx("win", "/resources/sounds/sfx_win.wav", 1, SfxMixer.PRIORITY_HIGH);
+        loadSfx("pickup", "/resources/sounds/sfx_pickup.wav", 4, SfxMixer.PRIORITY_LOW);
+        loadSfx("place", "/resources/sounds/sfx_place.wav", 4, SfxMixer.PRIORITY_LOW);
+        // Membuka line audio juga bisa lambat; play() sebelum siap diabaikan tanpa blok
+        load(sfx::start);
+    }
+
+    private void loadSfx(String name, String path, int maxVoices, int priority) {
+        URL url = getClass().getResource(path);
+        if (url != null) load(() -> sfx.load(name, url, maxVoices, priority));
     }
 
+    // Non-blocking: hanya antre ke mixer, aman dari thread engine/EDT/timer
+    @Override
     public void playSound(String name) {
-        Clip clip = soundCache.get(name);
-        if (clip != null) {
-            if (clip.isRunning()) clip.stop();
-            clip.setFramePosition(0);
-            clip.start();
-        }
+        sfx.play(name);
     }
 
+    // Crossfade ke lagu lain; non-blocking seperti playSound
     public void playBGM(String name) {
-        stopBGM();
-        currentBGM = soundCache.get(name);
-        if (currentBGM != null) {
-            currentBGM.setFramePosition(0);
-            currentBGM.loop(Clip.LOOP_CONTINUOUSLY);
-            currentBGM.start();
-        }
+        music.play(name);
     }
 
     public void stopBGM() {
-        if (currentBGM != null && currentBGM.isRunning()) {
-            currentBGM.stop();
-        }
+        music.stop();
     }
 
+    // Non-blocking seperti getMenuBackground
     public BufferedImage getGameBackground() {
-        return gameBackground;
+        return images.get("GameWallpaper.jpg").getNow(null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package view.gui;
+
+// Kamera untuk map yang lebih besar dari viewport. Posisi = sudut kiri-atas viewport dalam pixel world (tile 60),
+// mengejar titik fokus secara halus (eksponensial, tidak tergantung frame rate) dan selalu dibatasi ke dalam map.
+// Map yang muat di viewport tidak pernah bergeser. Hanya dipakai oleh thread yang sedang merender.
+final class Camera {
+    private static final double FOLLOW_RATE = 6.0;     // per detik; makin besar makin cepat menempel ke fokus
+    private static final double MAX_STEP_SECONDS = 0.1;
+
+    private double x, y;
+    private boolean placed;
+    private long lastNanos;
+
+    // focusX/focusY = titik world yang ingin berada di tengah viewport
+    void follow(double focusX, double focusY, int viewW, int viewH, int mapW, int mapH) {
+        double tx = clamp(focusX - viewW / 2.0, mapW - viewW);
+        double ty = clamp(focusY - viewH / 2.0, mapH - viewH);
+        long now = System.nanoTime();
+        if (!placed) {
+            x = tx;
+            y = ty;
+            placed = true;
+        } else {
+            double dt = Math.min(MAX_STEP_SECONDS, (now - lastNanos) / 1e9);
+            double k = 1.0 - Math.exp(-FOLLOW_RATE * dt);
+            x = clamp(x + (tx - x) * k, mapW - viewW);
+            y = clamp(y + (ty - y) * k, mapH - viewH);
+        }
+        lastNanos = now;
+    }
+
+    // Lompat langsung ke fokus pada follow() berikutnya (mis. setelah viewport berubah ukuran)
+    void snap() { placed = false; }
+
+    double getX() { return x; }
+    double getY() { return y; }
+
+    private static double clamp(double v, double max) {
+        return Math.max(0, Math.min(Math.max(0, max), v));
+    }
+}
@@ -0,0 +1,48 @@
+package view.gui;
+
+import java.awt.Font;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Registry font bersama: PressStart2P di-parse sekali (di-preload oleh loader AssetManager),
+// ukuran turunan di-cache sehingga panel tidak lagi memanggil Font.createFont sendiri-sendiri.
+public final class FontRegistry {
+    private static final String PIXEL_FONT_PATH = "/resources/fonts/PressStart2P.ttf";
+
+    private static final Map<Float, Font> pixelSizes = new ConcurrentHashMap<>();
+    private static volatile boolean pixelLoaded = false;
+    private static Font pixelBase;      // null jika file font tidak ada / gagal di-parse
+
+    private FontRegistry() {}
+
+    // Font pixel dengan ukuran tertentu; fallback Monospaced bold seperti sebelumnya
+    public static Font pixel(float size) {
+        Font cached = pixelSizes.get(size);
+        if (cached != null) return cached;
+        return pixelSizes.computeIfAbsent(size, s -> {
+            Font base = pixelBase();
+            return base != null ? base.deriveFont(s) : new Font("Monospaced", Font.BOLD, (int) size);
+        });
+    }
+
+    // Dipanggil dari thread loader saat startup; aman dipanggil berulang kali
+    static void preload() {
+        pixelBase();
+    }
+
+    private static Font pixelBase() {
+        if (pixelLoaded) return pixelBase;
+        synchronized (FontRegistry.class) {
+            if (!pixelLoaded) {
+                try (InputStream is = FontRegistry.class.getResourceAsStream(PIXEL_FONT_PATH)) {
+                    if (is != null) pixelBase = Font.createFont(Font.TRUETYPE_FONT, is);
+                } catch (Exception e) {
+                    System.err.println("⚠️ Warning: gagal memuat font " + PIXEL_FONT_PATH);
+                }
+                pixelLoaded = true;
+            }
+            return pixelBase;
+        }
+    }
+}
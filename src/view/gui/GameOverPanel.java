@@ -6,16 +6,12 @@ import java.awt.Component;
 import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 
-import javax.imageio.ImageIO;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
@@ -32,10 +28,10 @@ public class GameOverPanel extends JPanel {
     private float animationTime = 0f;
 
     public GameOverPanel(int finalScore, boolean isWin, Runnable onBackToMenu) {
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 24f);
+        this.pixelFont = FontRegistry.pixel(24f);
 
-        String bgPath = isWin ? "/resources/StageClearBackground.png" : "/resources/GameOverBackground.png";
-        loadBackground(bgPath);
+        this.backgroundImage = AssetManager.getInstance().getImage(
+                isWin ? "StageClearBackground.png" : "GameOverBackground.png");
 
         // 3. Setup Timer (60 FPS)
         animationTimer = new Timer(16, e -> {
@@ -102,30 +98,6 @@ public class GameOverPanel extends JPanel {
     }
 
     //Helper Methods
-    private void loadBackground(String path) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is != null) {
-                this.backgroundImage = ImageIO.read(is);
-            } else {
-                System.err.println("Background image not found at: " + path);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (FontFormatException | IOException e) {
-            return new Font("Monospaced", Font.BOLD, (int)size);
-        }
-    }
-
     // 5. Update Button Style dengan Animasi
     private JButton createStyledButton(String text, Color baseColor) {
         JButton btn = new JButton(text) {
@@ -11,10 +11,13 @@ import java.awt.Graphics2D;
 import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
 
 import javax.swing.JButton;
 import javax.swing.JDialog;
@@ -25,25 +28,31 @@ import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
-import items.core.CookingDevice;
-import items.core.Item;
-import items.core.Preparable;
-import items.utensils.Plate;
-import model.chef.Chef;
+import model.engine.FrameSnapshot;
+import model.engine.FrameSnapshot.ItemKind;
+import model.engine.FrameSnapshot.ItemView;
+import model.engine.GameConfig;
 import model.engine.GameEngine;
-import model.orders.Order;
-import model.world.Tile;
+import model.engine.InputOp;
+import model.engine.SnapshotPublisher;
+import model.recipes.Recipe;
+import model.recipes.RecipeBook;
+import model.world.MapChunk;
+import model.world.TileType;
 import model.world.WorldMap;
 import model.world.tiles.StationTile;
-import model.world.tiles.WalkableTile;
-import model.world.tiles.WallTile;
 import stations.IngredientStorage;
 import stations.Station;
-import utils.Position;
-import view.Observer;
+import utils.Direction;
 
-public class GamePanel extends JPanel implements Observer {
+public class GamePanel extends JPanel {
     private final GameEngine engine;
+    // Semua state dinamis dibaca dari snapshot per tick (lock-free), bukan dari objek model yang hidup
+    private final SnapshotPublisher snapshots;
+    private FrameSnapshot frame;
+    private double alpha = 1.0;
+    // Null = mode pasif (paintComponent via repaint Swing)
+    private final ActiveRenderer activeRenderer;
     private final int TILE_SIZE = 60;
     private final SpinOverlay spinOverlay = new SpinOverlay();
 
@@ -55,11 +64,44 @@ public class GamePanel extends JPanel implements Observer {
     private int cy = 0;
     private double scale = 1.0;
 
+    // Viewport paling besar 14x10 tile (ukuran map default); map yang lebih besar digulir kamera
+    private static final int VIEW_TILES_X = WorldMap.DEFAULT_WIDTH;
+    private static final int VIEW_TILES_Y = WorldMap.DEFAULT_HEIGHT;
+    private final Camera camera = new Camera();
+    // Index chef yang diikuti kamera; -1 = titik tengah semua chef
+    private IntSupplier cameraFocus = () -> -1;
+    private int viewW, viewH;           // ukuran viewport (pixel world)
+    private int viewX0, viewY0;         // kiri-atas viewport (pixel world) frame ini
+    private int camDx, camDy;           // posisi kamera dalam pixel device (dibulatkan: layer & sprite tetap sejajar)
+    private int chunkX0, chunkY0, chunkX1, chunkY1;     // rentang chunk yang terlihat (inklusif)
+
+    // Layer statis (lantai, tembok, badan station) dirender per chunk sekali per skala, bukan tiap frame.
+    // Hanya chunk di viewport yang dibuat & digambar; LRU kecil membatasi memori di map besar
+    private static final Color FLOOR_COLOR = new Color(139, 69, 19);
+    private static final Color FLOOR_EDGE_COLOR = new Color(160, 82, 45);
+    private static final Color WALLPAPER_FALLBACK = new Color(20, 20, 25);
+    private static final Color WALLPAPER_DIM = new Color(0, 0, 0, 150);
+    private static final int CHUNK_LAYER_CACHE = 6;
+    private final Map<Integer, BufferedImage> chunkLayers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+            return size() > CHUNK_LAYER_CACHE;
+        }
+    };
+    private double chunkLayerScale = -1;
+
+    // Transform world (translate + scale) frame ini; sprite dinamis di-blit 1:1 di device space
+    private static final AffineTransform IDENTITY = new AffineTransform();
+    private AffineTransform worldTransform = IDENTITY;
+    private double hiDpiScale = 1.0;
+
     private final java.util.List<NotificationRequest> notificationQueue = new java.util.ArrayList<>();
-    private record NotificationRequest(int x, int y, items.core.CookingDevice device) {}
+    private record NotificationRequest(int x, int y, ItemView device) {}
 
     public GamePanel(GameEngine engine, Runnable onExitClicked) {
         this.engine = engine;
+        this.snapshots = engine.enableSnapshots();
+        this.frame = snapshots.latest();
         this.setBackground(Color.BLACK);
         this.setDoubleBuffered(true);
         this.setLayout(null);
@@ -70,26 +112,52 @@ public class GamePanel extends JPanel implements Observer {
             public void mousePressed(java.awt.event.MouseEvent e) { requestFocusInWindow(); }
         });
 
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 14f);
-        this.pixelFontSmall = loadPixelFont("/resources/fonts/PressStart2P.ttf", 9f);
+        this.pixelFont = FontRegistry.pixel(14f);
+        this.pixelFontSmall = FontRegistry.pixel(9f);
 
         initButtons(onExitClicked);
 
-        model.engine.EffectManager.getInstance().setOnSpinStart(() -> {
+        // Mode aktif: canvas di bawah tombol (komponen yang ditambah terakhir ada di z-order paling bawah)
+        GameConfig config = engine.getConfig();
+        if (config.activeRendering) {
+            activeRenderer = new ActiveRenderer(this::renderFrame, config.renderBuffers, config.targetFrameRate);
+            activeRenderer.getCanvas().addMouseListener(new java.awt.event.MouseAdapter() {
+                @Override
+                public void mousePressed(java.awt.event.MouseEvent e) { requestFocusInWindow(); }
+            });
+            add(activeRenderer.getCanvas());
+        } else {
+            activeRenderer = null;
+        }
+
+        engine.getEffects().setOnSpinStart(() -> {
             model.engine.EffectManager.EffectType target =
-                    model.engine.EffectManager.getInstance().getPendingEffect();
+                    engine.getEffects().getPendingEffect();
             spinOverlay.start(target, () -> {
-                model.engine.EffectManager.getInstance().applyPendingEffect(engine);
+                engine.submitInput(InputOp.APPLY_EFFECT, -1, 0);
             });
         });
 
 
         new Timer(16, e -> {
             spinOverlay.update();
-            repaint();
+            if (activeRenderer == null) repaint();
         }).start();
     }
 
+    // Thread render hanya hidup selama panel ada di hierarki (berhenti saat keluar ke menu)
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (activeRenderer != null) activeRenderer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        if (activeRenderer != null) activeRenderer.stop();
+        super.removeNotify();
+    }
+
     private void initButtons(Runnable onExitClicked) {
         btnRecipe = createPixelButton("RECIPE", new Color(41, 173, 255));
         btnRecipe.addActionListener(e -> {
@@ -119,13 +187,23 @@ public class GamePanel extends JPanel implements Observer {
         add(btnExit);
     }
 
+    // Dipanggil dari EDT; supplier dibaca thread render tiap frame
+    public void setCameraFocus(IntSupplier focus) {
+        this.cameraFocus = focus;
+    }
+
+    private int viewPixelW() { return Math.min(engine.getWorld().getWidth(), VIEW_TILES_X) * TILE_SIZE; }
+    private int viewPixelH() { return Math.min(engine.getWorld().getHeight(), VIEW_TILES_Y) * TILE_SIZE; }
+
     @Override
     public void doLayout() {
         super.doLayout();
         int frameW = getWidth();
         int frameH = getHeight();
-        int mapW = engine.getWorld().getWidth() * TILE_SIZE;
-        int mapH = engine.getWorld().getHeight() * TILE_SIZE;
+        int mapW = viewPixelW();
+        int mapH = viewPixelH();
+
+        if (activeRenderer != null) activeRenderer.getCanvas().setBounds(0, 0, frameW, frameH);
 
         double s = Math.min((double)frameW / mapW, (double)frameH / mapH);
         int marginX = (int)((frameW - mapW * s) / 2);
@@ -156,50 +234,81 @@ public class GamePanel extends JPanel implements Observer {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        if (activeRenderer == null) renderFrame((Graphics2D) g, getWidth(), getHeight());
+        if (!isValid()) validate();
+    }
 
+    // Satu frame penuh; dipanggil dari EDT (mode pasif) atau thread render (mode aktif)
+    private void renderFrame(Graphics2D g2d, int frameW, int frameH) {
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
 
-        int frameW = getWidth();
-        int frameH = getHeight();
-        int mapPixelW = engine.getWorld().getWidth() * TILE_SIZE;
-        int mapPixelH = engine.getWorld().getHeight() * TILE_SIZE;
+        WorldMap world = engine.getWorld();
+        int mapPixelW = world.getWidth() * TILE_SIZE;
+        int mapPixelH = world.getHeight() * TILE_SIZE;
+        viewW = viewPixelW();
+        viewH = viewPixelH();
+
+        // Snapshot terbaru + faktor interpolasi antara tick sebelumnya dan tick ini (render tertinggal <= 1 tick)
+        snapshots.acquire();
+        frame = snapshots.latest();
+        if (frame.isValid()) {
+            double t = (System.nanoTime() - frame.getPublishNanos()) / (double) frame.getTickNanos();
+            alpha = Math.max(0.0, Math.min(1.0, t));
+        }
 
-        scale = Math.min((double)frameW / mapPixelW, (double)frameH / mapPixelH);
-        cx = (int)((frameW - mapPixelW * scale) / 2);
-        cy = (int)((frameH - mapPixelH * scale) / 2);
+        double newScale = Math.min((double)frameW / viewW, (double)frameH / viewH);
+        if (newScale != scale) camera.snap();
+        scale = newScale;
+        cx = (int)((frameW - viewW * scale) / 2);
+        cy = (int)((frameH - viewH * scale) / 2);
+        int viewScreenW = (int)(viewW * scale);
+        int viewScreenH = (int)(viewH * scale);
+
+        if (frame.isValid()) followFocus(mapPixelW, mapPixelH);
+        camDx = (int) Math.round(camera.getX() * scale);
+        camDy = (int) Math.round(camera.getY() * scale);
+        viewX0 = (int) (camDx / scale);
+        viewY0 = (int) (camDy / scale);
+        int chunkPx = MapChunk.SIZE * TILE_SIZE;
+        chunkX0 = viewX0 / chunkPx;
+        chunkY0 = viewY0 / chunkPx;
+        chunkX1 = Math.min(world.getChunksX() - 1, (viewX0 + viewW - 1) / chunkPx);
+        chunkY1 = Math.min(world.getChunksY() - 1, (viewY0 + viewH - 1) / chunkPx);
 
         drawBackgroundWallpaper(g2d, frameW, frameH);
 
+        Shape originalClip = g2d.getClip();
+        g2d.clipRect(cx, cy, viewScreenW, viewScreenH);
+        drawStaticChunks(g2d, world);
+
         AffineTransform oldAT = g2d.getTransform();
-        g2d.translate(cx, cy);
+        hiDpiScale = oldAT.getScaleX();
+        g2d.translate(cx - camDx, cy - camDy);
         g2d.scale(scale, scale);
-
-        Shape originalClip = g2d.getClip();
-        g2d.clipRect(0, 0, mapPixelW, mapPixelH);
+        worldTransform = g2d.getTransform();
 
         notificationQueue.clear();
 
-        drawWorld(g2d);      
-        drawChefs(g2d);      
-        drawProjectiles(g2d); 
-        drawAllNotifications(g2d);
+        if (frame.isValid()) {
+            drawWorld(g2d, world);
+            drawChefs(g2d);
+            drawProjectiles(g2d);
+            drawAllNotifications(g2d);
+        }
 
-        g2d.setClip(originalClip);
         g2d.setTransform(oldAT);
+        g2d.setClip(originalClip);
 
-        drawSidebarHUD(g2d, frameW, frameH, (int)(mapPixelW * scale));
+        drawSidebarHUD(g2d, frameW, frameH, viewScreenW);
 
-        if (cx > 50) {
+        if (cx > 50 && frame.isValid()) {
             drawLeftSidebarInfo(g2d);
             drawRightSidebarOrders(g2d);
         }
 
-        spinOverlay.draw((Graphics2D)g, frameW, frameH);
-
-        if (!isValid()) validate();
+        spinOverlay.draw(g2d, frameW, frameH);
     }
 
     private void drawBackgroundWallpaper(Graphics2D g2d, int w, int h) {
@@ -207,10 +316,10 @@ public class GamePanel extends JPanel implements Observer {
         if (wallpaper != null) {
             g2d.drawImage(wallpaper, 0, 0, w, h, null);
         } else {
-            g2d.setColor(new Color(20, 20, 25));
+            g2d.setColor(WALLPAPER_FALLBACK);
             g2d.fillRect(0, 0, w, h);
         }
-        g2d.setColor(new Color(0, 0, 0, 150));
+        g2d.setColor(WALLPAPER_DIM);
         g2d.fillRect(0, 0, w, h);
     }
 
@@ -251,13 +360,13 @@ public class GamePanel extends JPanel implements Observer {
         // 1. Timer Box
         int startY = boxY + 15;
         drawInfoBox(g2d, boxX, startY, "TIME",
-                String.format("%02d:%02d", engine.getClock().getTimeRemaining() / 60, engine.getClock().getTimeRemaining() % 60),
-                engine.getClock().getTimeRemaining() <= 30 ? new Color(255, 0, 77) : Color.WHITE);
+                String.format("%02d:%02d", frame.getTimeRemaining() / 60, frame.getTimeRemaining() % 60),
+                frame.getTimeRemaining() <= 30 ? new Color(255, 0, 77) : Color.WHITE);
 
         // 2. Score Box
         int scoreY = startY + 60;
         drawInfoBox(g2d, boxX, scoreY, "SCORE",
-                String.valueOf(engine.getOrders().getScore()),
+                String.valueOf(frame.getScore()),
                 new Color(255, 236, 39));
 
         // 3. EFFECT BUFF HUD (BARU)
@@ -285,24 +394,22 @@ public class GamePanel extends JPanel implements Observer {
 
     // --- LOGIKA HUD EFEK BARU ---
     private void drawActiveEffectHUD(Graphics2D g2d, int x, int y) {
-        var em = model.engine.EffectManager.getInstance();
-
         String symbol = "";
         Color color = Color.GRAY;
         long maxDuration = 1;
         boolean isActive = false;
 
-        if (em.isFlash()) {
+        if (frame.isFlash()) {
             isActive = true;
             symbol = "⚡"; // Petir
             color = new Color(255, 236, 39); 
             maxDuration = 15000;
-        } else if (em.isDrunk()) {
+        } else if (frame.isDrunk()) {
             isActive = true;
             symbol = "@";
             color = new Color(138, 43, 226);
             maxDuration = 10000;
-        } else if (em.isDoubleMoney()) {
+        } else if (frame.isDoubleMoney()) {
             isActive = true;
             symbol = "$"; // Dolar
             color = new Color(0, 228, 54); 
@@ -310,7 +417,7 @@ public class GamePanel extends JPanel implements Observer {
         }
 
         if (isActive) {
-            long timeLeft = em.getTimeRemaining();
+            long timeLeft = frame.getEffectRemainingMs();
             if (timeLeft <= 0) return; 
 
             // Kotak Container
@@ -350,7 +457,7 @@ public class GamePanel extends JPanel implements Observer {
 
     private void drawRightSidebarOrders(Graphics2D g2d) {
         int frameW = getWidth();
-        int marginWidth = (frameW - (int)(engine.getWorld().getWidth() * TILE_SIZE * scale)) / 2;
+        int marginWidth = (frameW - (int)(viewW * scale)) / 2;
         int startX = frameW - marginWidth + (marginWidth - 120)/2;
         int startY = 20;
 
@@ -358,36 +465,44 @@ public class GamePanel extends JPanel implements Observer {
         g2d.setFont(pixelFont);
         g2d.drawString("ORDERS", startX, startY + 10);
 
-        java.util.List<Order> orders = engine.getOrders().getActiveOrders();
         int y = startY + 30;
         int cardW = 120;
         int cardH = 65;
         int gap = 15;
 
-        for (Order o : orders) {
-            drawOrderCard(g2d, startX, y, cardW, cardH, o);
+        // Stage rush-hour bisa punya ratusan order: gambar yang muat saja, sisanya jadi hitungan
+        int count = frame.getOrderCount();
+        int fits = Math.max(1, (getHeight() - y - 20) / (cardH + gap));
+        int shown = count > fits ? fits - 1 : count;
+        for (int i = 0; i < shown; i++) {
+            drawOrderCard(g2d, startX, y, cardW, cardH, RecipeBook.getRecipe(frame.getOrderDish(i)), frame.getOrderTimeLeft(i));
             y += (cardH + gap);
         }
+        if (shown < count) {
+            g2d.setColor(Color.WHITE);
+            g2d.setFont(pixelFont);
+            g2d.drawString("+" + (count - shown) + " MORE", startX, y + 20);
+        }
     }
 
-    private void drawOrderCard(Graphics2D g, int x, int y, int w, int h, Order o) {
+    private void drawOrderCard(Graphics2D g, int x, int y, int w, int h, Recipe recipe, int timeLeft) {
         g.setColor(new Color(255, 241, 232)); g.fillRect(x, y, w, h);
         g.setColor(Color.BLACK); g.setStroke(new BasicStroke(3)); g.drawRect(x, y, w, h);
         g.setColor(new Color(200, 200, 200)); g.fillOval(x + w/2 - 5, y - 5, 10, 10);
         g.setColor(Color.BLACK); g.drawOval(x + w/2 - 5, y - 5, 10, 10);
 
         try {
-            String spriteName = o.getRecipe().getName().toLowerCase();
+            String spriteName = recipe.getName().toLowerCase();
             BufferedImage icon = SpriteLibrary.getInstance().getSprite(spriteName);
             if (icon != null) g.drawImage(icon, x + w - 35, y + 10, 30, 30, null);
         } catch (Exception e) {}
 
         g.setColor(Color.BLACK); g.setFont(pixelFontSmall.deriveFont(7f));
-        String name = o.getRecipe().getName().toUpperCase().replace("PASTA ", "");
+        String name = recipe.getName().toUpperCase().replace("PASTA ", "");
         if (name.length() > 9) name = name.substring(0, 9);
         g.drawString(name, x + 8, y + 25);
 
-        int maxTime = 90; int timeLeft = o.getTimeLeft();
+        int maxTime = 90;
         int maxBarWidth = w - 16; int currentBarWidth = (int) ((double) timeLeft / maxTime * maxBarWidth);
         Color barColor = (timeLeft > 30) ? new Color(0, 228, 54) : (timeLeft > 15) ? new Color(255, 163, 0) : new Color(255, 0, 77);
 
@@ -427,14 +542,6 @@ public class GamePanel extends JPanel implements Observer {
         return btn;
     }
 
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (Exception e) { return new Font("Monospaced", Font.BOLD, (int)size); }
-    }
 
     private void showModelessDialog(String title, String content) {
         JDialog dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), title);
@@ -453,35 +560,120 @@ public class GamePanel extends JPanel implements Observer {
     private String getHelpContent() { return "=== CONTROLS ===\n\nP1: W,A,S,D (Move), V (Act), B (Grab), F (Throw)\nP2: Arrows, K (Act), L (Grab), ; (Throw)\nSingle: Tab (Switch)"; }
 
 
-    private void drawWorld(Graphics2D g2d) {
-        WorldMap map = engine.getWorld();
+    // Kamera mengejar chef fokus (interpolasi render yang sama dengan sprite chef)
+    private void followFocus(int mapPixelW, int mapPixelH) {
+        int focus = cameraFocus.getAsInt();
+        double fx = 0, fy = 0;
+        int n = 0;
+        for (int i = 0; i < frame.getChefCount(); i++) {
+            if (focus >= 0 && i != focus) continue;
+            fx += lerp(frame.getChefPrevX(i), frame.getChefX(i));
+            fy += lerp(frame.getChefPrevY(i), frame.getChefY(i));
+            n++;
+        }
+        if (n == 0) {
+            camera.follow(mapPixelW / 2.0, mapPixelH / 2.0, viewW, viewH, mapPixelW, mapPixelH);
+            return;
+        }
+        camera.follow((fx / n + 0.5) * TILE_SIZE, (fy / n + 0.5) * TILE_SIZE, viewW, viewH, mapPixelW, mapPixelH);
+    }
+
+    // Layer chunk di-blit 1:1 di device space; posisi tiap chunk dibulatkan dari skala yang sama dengan sprite
+    private void drawStaticChunks(Graphics2D g2d, WorldMap world) {
+        if (chunkLayerScale != scale) {
+            chunkLayers.clear();
+            chunkLayerScale = scale;
+            SpriteLibrary.getInstance().invalidateScaled();
+        }
+        int chunkPx = MapChunk.SIZE * TILE_SIZE;
+        for (int ky = chunkY0; ky <= chunkY1; ky++) {
+            for (int kx = chunkX0; kx <= chunkX1; kx++) {
+                int key = ky * world.getChunksX() + kx;
+                BufferedImage layer = chunkLayers.get(key);
+                if (layer == null) {
+                    layer = renderChunkLayer(world, world.getChunk(kx, ky));
+                    chunkLayers.put(key, layer);
+                }
+                int dx = cx - camDx + (int) Math.round(kx * chunkPx * scale);
+                int dy = cy - camDy + (int) Math.round(ky * chunkPx * scale);
+                g2d.drawImage(layer, dx, dy, null);
+            }
+        }
+    }
+
+    // Chunk tepi hanya sebesar bagian yang ada di dalam map
+    private BufferedImage renderChunkLayer(WorldMap map, MapChunk chunk) {
+        int ox = chunk.getOriginX(), oy = chunk.getOriginY();
+        int tilesW = Math.min(MapChunk.SIZE, map.getWidth() - ox);
+        int tilesH = Math.min(MapChunk.SIZE, map.getHeight() - oy);
+        int w = Math.max(1, (int) Math.ceil(tilesW * TILE_SIZE * scale));
+        int h = Math.max(1, (int) Math.ceil(tilesH * TILE_SIZE * scale));
+        BufferedImage layer = (getGraphicsConfiguration() != null)
+                ? getGraphicsConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = layer.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.scale(scale, scale);
+
         SpriteLibrary sprites = SpriteLibrary.getInstance();
-        for (int y = 0; y < map.getHeight(); y++) {
-            for (int x = 0; x < map.getWidth(); x++) {
-                Tile tile = map.getTile(new Position(x, y));
-                int px = x * TILE_SIZE; int py = y * TILE_SIZE;
-                if (tile instanceof WallTile && !map.getWallMask()[y][x]) continue;
-
-                g2d.setColor(new Color(139, 69, 19)); g2d.fillRect(px, py, TILE_SIZE, TILE_SIZE);
-                g2d.setColor(new Color(160, 82, 45)); g2d.drawRect(px, py, TILE_SIZE, TILE_SIZE);
-
-                if (!tile.isWalkable()) {
-                    if (tile instanceof StationTile stTile) drawStation(g2d, px, py, stTile.getStation());
-                    else {
-                        BufferedImage wall = sprites.getSprite("wall");
-                        if (wall != null) g2d.drawImage(wall, px, py, TILE_SIZE, TILE_SIZE, null);
-                        else { g2d.setColor(Color.DARK_GRAY); g2d.fillRect(px, py, TILE_SIZE, TILE_SIZE); }
-                    }
+        for (int y = oy; y < oy + tilesH; y++) {
+            for (int x = ox; x < ox + tilesW; x++) {
+                TileType type = chunk.getTileType(x, y);
+                if (type == TileType.VOID) continue;
+                int px = (x - ox) * TILE_SIZE; int py = (y - oy) * TILE_SIZE;
+
+                g.setColor(FLOOR_COLOR); g.fillRect(px, py, TILE_SIZE, TILE_SIZE);
+                g.setColor(FLOOR_EDGE_COLOR); g.drawRect(px, py, TILE_SIZE, TILE_SIZE);
+
+                if (type == TileType.STATION) {
+                    drawStationBody(g, px, py, ((StationTile) chunk.getTile(x, y)).getStation());
+                } else if (type == TileType.WALL) {
+                    BufferedImage wall = sprites.getSprite("wall");
+                    if (wall != null) g.drawImage(wall, px, py, TILE_SIZE, TILE_SIZE, null);
+                    else { g.setColor(Color.DARK_GRAY); g.fillRect(px, py, TILE_SIZE, TILE_SIZE); }
                 }
-                if (tile instanceof WalkableTile wt && wt.getItem() != null) {
-                    int itemSize = 40; int offset = (TILE_SIZE - itemSize) / 2;
-                    drawItem(g2d, px + offset, py + offset, wt.getItem(), itemSize);
+            }
+        }
+        g.dispose();
+        return layer;
+    }
+
+    // Culling kasar dalam pixel world: objek selebar satu tile, margin satu tile untuk item di atas kepala/awan
+    private boolean inView(int px, int py) {
+        return px + TILE_SIZE > viewX0 && px - TILE_SIZE < viewX0 + viewW
+                && py + TILE_SIZE > viewY0 && py - TILE_SIZE < viewY0 + viewH;
+    }
+
+    // Hanya bagian dinamis yang terlihat: item di atas station (per chunk di viewport) dan item di lantai
+    private void drawWorld(Graphics2D g2d, WorldMap world) {
+        // Posisi station statis; isinya dari snapshot dengan index yang sama
+        List<StationTile> stationTiles = world.getAllStations();
+        int stations = Math.min(stationTiles.size(), frame.getStationCount());
+        for (int ky = chunkY0; ky <= chunkY1; ky++) {
+            for (int kx = chunkX0; kx <= chunkX1; kx++) {
+                MapChunk chunk = world.getChunk(kx, ky);
+                for (int i = 0; i < chunk.getStationCount(); i++) {
+                    int id = chunk.getStationId(i);
+                    if (id >= stations) continue;
+                    StationTile st = stationTiles.get(id);
+                    drawStationContents(g2d, st.getPos().x * TILE_SIZE, st.getPos().y * TILE_SIZE, st.getStation(), frame.getStationItem(id));
                 }
             }
         }
+
+        int itemSize = 40;
+        for (int i = 0; i < frame.getFloorCount(); i++) {
+            int ix = (int) (frame.getFloorX(i) * TILE_SIZE) - itemSize / 2;
+            int iy = (int) (frame.getFloorY(i) * TILE_SIZE) - itemSize / 2;
+            if (!inView(ix, iy)) continue;
+            drawItem(g2d, ix, iy, frame.getFloorItem(i), itemSize);
+        }
     }
 
-    private void drawStation(Graphics2D g2d, int x, int y, Station station) {
+    private void drawStationBody(Graphics2D g2d, int x, int y, Station station) {
         String name = station.getName().toLowerCase();
         BufferedImage img = getStationSprite(name, station);
 
@@ -491,9 +683,10 @@ public class GamePanel extends JPanel implements Observer {
             g2d.setColor(Color.LIGHT_GRAY);
             g2d.fillRect(x, y, TILE_SIZE, TILE_SIZE);
         }
+    }
 
+    private void drawStationContents(Graphics2D g2d, int x, int y, Station station, ItemView storedItem) {
         if (!(station instanceof stations.PlateStorage)) {
-            items.core.Item storedItem = station.peek();
             if (storedItem != null) {
                 int itemSize = (int)(TILE_SIZE * 0.6);
                 int offsetX = (TILE_SIZE - itemSize) / 2;
@@ -506,8 +699,8 @@ public class GamePanel extends JPanel implements Observer {
 
                 drawItem(g2d, x + offsetX, y + offsetY, storedItem, itemSize);
 
-                if (storedItem instanceof items.core.CookingDevice device) {
-                    notificationQueue.add(new NotificationRequest(x, y, device));
+                if (storedItem.getKind() == ItemKind.POT || storedItem.getKind() == ItemKind.PAN) {
+                    notificationQueue.add(new NotificationRequest(x, y, storedItem));
                 }
             }
         }
@@ -537,31 +730,23 @@ public class GamePanel extends JPanel implements Observer {
         return sprites.getSprite("counter");
     }
 
-    private void drawItem(Graphics2D g2d, int x, int y, Item item, int size) {
+    private void drawItem(Graphics2D g2d, int x, int y, ItemView item, int size) {
+        if (item == null) return;
         SpriteLibrary sprites = SpriteLibrary.getInstance();
-        String spriteName = item.getName().toLowerCase();
-
-        spriteName += switch (item.getState()) {
-            case COOKED -> "_cooked";
-            case BURNED -> "_burned";
-            case CHOPPED -> "_chopped";
-            default -> "";
-        };
-
-        boolean isCooking = false;
-        if (item instanceof CookingDevice dev) {
-            String devClassName = dev.getClass().getSimpleName().toLowerCase();
-            if (devClassName.contains("pot")) spriteName = dev.isCooking() ? "pot_cooking" : "boiling pot";
-            else if (devClassName.contains("pan")) spriteName = dev.isCooking() ? "pan_cooking" : "frying pan";
-            isCooking = dev.isCooking();
-        } else if (item instanceof Plate plate) {
-            spriteName = plate.isClean() ? "plate" : "plate_dirty";
+        String spriteName = stateSpriteName(item);
+
+        boolean isCooking = item.isCooking();
+        switch (item.getKind()) {
+            case POT -> spriteName = isCooking ? "pot_cooking" : "boiling pot";
+            case PAN -> spriteName = isCooking ? "pan_cooking" : "frying pan";
+            case PLATE -> spriteName = item.isClean() ? "plate" : "plate_dirty";
+            default -> {}
         }
 
-        BufferedImage img = sprites.getSprite(spriteName);
+        BufferedImage img = sprites.getScaledSprite(spriteName, screenSize(size), hiDpiScale);
         if (img != null) {
-            g2d.drawImage(img, x, y, size, size, null);
-            if (item instanceof Plate || item instanceof CookingDevice) {
+            blit(g2d, img, x, y);
+            if (item.getKind() != ItemKind.ITEM) {
                 drawContainerContents(g2d, x, y, item, size);
             }
             if (isCooking) {
@@ -575,125 +760,141 @@ public class GamePanel extends JPanel implements Observer {
         g2d.setColor(Color.RED); g2d.fillRect(x, y - 5, (int)(size * (System.currentTimeMillis() % 1000) / 1000.0), 7);
     }
 
-    private void drawContainerContents(Graphics2D g2d, int x, int y, Item container, int parentSize) {
-        List<Preparable> contents = (container instanceof Plate p) ? p.getContents() :
-                (container instanceof CookingDevice c) ? c.getContents() : null;
+    private String stateSpriteName(ItemView item) {
+        String name = item.getName().toLowerCase();
+        return name + switch (item.getState()) {
+            case COOKED -> "_cooked";
+            case BURNED -> "_burned";
+            case CHOPPED -> "_chopped";
+            default -> "";
+        };
+    }
 
-        if (contents != null && !contents.isEmpty()) {
+    private void drawContainerContents(Graphics2D g2d, int x, int y, ItemView container, int parentSize) {
+        int count = container.getContentCount();
+        if (count > 0) {
             int offsetX = 0;
             int offsetY = 0;
-            int i = 0;
             int ingSize = (int)(parentSize * 0.45);
 
-            for (Preparable p : contents) {
-                if (p instanceof Item item) {
-                    String ingName = item.getName().toLowerCase();
-                    ingName += switch (item.getState()) {
-                        case COOKED -> "_cooked";
-                        case BURNED -> "_burned";
-                        case CHOPPED -> "_chopped";
-                        default -> "";
-                    };
-
-                    BufferedImage ingImg = SpriteLibrary.getInstance().getSprite(ingName);
-                    if (ingImg != null) {
-                        int padding = (int)(parentSize * 0.2);
-                        g2d.drawImage(ingImg, x + padding + offsetX, y + padding + offsetY, ingSize, ingSize, null);
-                        offsetX += (ingSize / 2);
-                        if (i % 2 == 1) { offsetX = 5; offsetY += (ingSize / 2); }
-                    }
+            for (int i = 0; i < count; i++) {
+                String ingName = stateSpriteName(container.getContent(i));
+
+                BufferedImage ingImg = SpriteLibrary.getInstance().getScaledSprite(ingName, screenSize(ingSize), hiDpiScale);
+                if (ingImg != null) {
+                    int padding = (int)(parentSize * 0.2);
+                    blit(g2d, ingImg, x + padding + offsetX, y + padding + offsetY);
+                    offsetX += (ingSize / 2);
+                    if (i % 2 == 1) { offsetX = 5; offsetY += (ingSize / 2); }
                 }
-                i++;
             }
         }
     }
 
     private void drawProjectiles(Graphics2D g2d) {
-        List<GameEngine.Projectile> projectiles = engine.getProjectiles();
-        for (GameEngine.Projectile p : projectiles) {
-            int x = (int) (p.getX() * TILE_SIZE);
-            int y = (int) (p.getY() * TILE_SIZE);
+        for (int i = 0; i < frame.getProjectileCount(); i++) {
+            int x = (int) (lerp(frame.getProjectilePrevX(i), frame.getProjectileX(i)) * TILE_SIZE);
+            int y = (int) (lerp(frame.getProjectilePrevY(i), frame.getProjectileY(i)) * TILE_SIZE);
             int size = (int) (TILE_SIZE * 0.5);
+            if (!inView(x, y)) continue;
 
             g2d.setColor(new Color(0, 0, 0, 100));
             g2d.fillOval(x + 10, y + 40, size, size / 3);
 
-            drawItem(g2d, x + (TILE_SIZE - size) / 2, y + (TILE_SIZE - size) / 2 - 10, p.getItem(), size);
+            drawItem(g2d, x + (TILE_SIZE - size) / 2, y + (TILE_SIZE - size) / 2 - 10, frame.getProjectileItem(i), size);
         }
     }
 
     private void drawChefs(Graphics2D g2d) {
         SpriteLibrary sprites = SpriteLibrary.getInstance();
-        List<Chef> chefs = engine.getChefs();
-        for (int i = 0; i < chefs.size(); i++) {
-            Chef c = chefs.get(i);
-
-            int px = (int) (c.getExactX() * TILE_SIZE);
-            int py = (int) (c.getExactY() * TILE_SIZE);
+        for (int i = 0; i < frame.getChefCount(); i++) {
+            Direction dir = frame.getChefDirection(i);
+            int px = (int) (lerp(frame.getChefPrevX(i), frame.getChefX(i)) * TILE_SIZE);
+            int py = (int) (lerp(frame.getChefPrevY(i), frame.getChefY(i)) * TILE_SIZE);
+            if (!inView(px, py)) continue;
 
             int step = (int)(System.currentTimeMillis() / 200) % 2; 
 
-            BufferedImage chefImg = sprites.getChefSprite(i, c.getDirection().name(), c.getHeldItem() != null, c.isBusy(), step);
+            BufferedImage chefImg = sprites.getScaledChefSprite(i, dir.name(), step, screenSize(TILE_SIZE), hiDpiScale);
 
             if (chefImg != null) {
-                g2d.drawImage(chefImg, px, py, TILE_SIZE, TILE_SIZE, null);
+                blit(g2d, chefImg, px, py);
             } else {
                 g2d.setColor(Color.BLUE);
                 g2d.fillOval(px, py, TILE_SIZE, TILE_SIZE);
             }
 
             g2d.setColor(new Color(255, 255, 255, 50));
-            int dirX = px + TILE_SIZE / 2 + (c.getDirection().dx * (TILE_SIZE/3)) - 5;
-            int dirY = py + TILE_SIZE / 2 + (c.getDirection().dy * (TILE_SIZE/3)) - 5;
+            int dirX = px + TILE_SIZE / 2 + (dir.dx * (TILE_SIZE/3)) - 5;
+            int dirY = py + TILE_SIZE / 2 + (dir.dy * (TILE_SIZE/3)) - 5;
             g2d.fillOval(dirX, dirY, 10, 10);
-            if (c.getHeldItem() != null) {
+            ItemView held = frame.getChefHeld(i);
+            if (held != null) {
                 int itemSize = (int)(TILE_SIZE * 0.5);
-                drawItem(g2d, px + (TILE_SIZE - itemSize) / 2, py - (itemSize / 2), c.getHeldItem(), itemSize);
+                drawItem(g2d, px + (TILE_SIZE - itemSize) / 2, py - (itemSize / 2), held, itemSize);
             }
-            if (c.getActionProgress() > 0) {
+            float progress = frame.getChefProgress(i);
+            if (progress > 0) {
                 int bw = TILE_SIZE - 20; int bh = 8;
                 g2d.setColor(Color.BLACK); g2d.fillRect(px+10, py-10, bw, bh);
-                g2d.setColor(Color.GREEN); g2d.fillRect(px+11, py-9, (int)((bw-2)*c.getActionProgress()), bh-2);
+                g2d.setColor(Color.GREEN); g2d.fillRect(px+11, py-9, (int)((bw-2)*progress), bh-2);
             }
         }
     }
 
-    private void drawCookedNotification(Graphics2D g2d, int x, int y, CookingDevice device) {
-        if (device.getContents().isEmpty()) return;
-        items.core.Item firstItem = (items.core.Item) device.getContents().get(0);
+    private void drawCookedNotification(Graphics2D g2d, int x, int y, ItemView device) {
+        if (device.getContentCount() == 0) return;
+        ItemView firstItem = device.getContent(0);
         items.core.ItemState state = firstItem.getState();
 
         if (state == items.core.ItemState.COOKED || state == items.core.ItemState.BURNED) {
-            BufferedImage cloud = SpriteLibrary.getInstance().getSprite("cloud");
+            int cloudSize = (int) (TILE_SIZE * 0.9);
+            BufferedImage cloud = SpriteLibrary.getInstance().getScaledSprite("cloud", screenSize(cloudSize), hiDpiScale);
             if (cloud != null) {
-                int cloudSize = (int) (TILE_SIZE * 0.9);
                 int cloudX = x + (TILE_SIZE / 2);
                 int cloudY = y - (TILE_SIZE / 2);
 
-                int panelWidth = getWidth();
-                if (cloudX + cloudSize > panelWidth) cloudX = panelWidth - cloudSize;
-                if (cloudY < 0) cloudY = 0;
+                // Tetap di dalam viewport
+                if (cloudX + cloudSize > viewX0 + viewW) cloudX = viewX0 + viewW - cloudSize;
+                if (cloudY < viewY0) cloudY = viewY0;
 
-                g2d.drawImage(cloud, cloudX, cloudY, cloudSize, cloudSize, null);
+                blit(g2d, cloud, cloudX, cloudY);
                 String spriteName = firstItem.getName().toLowerCase() + (state == items.core.ItemState.COOKED ? "_cooked" : "_burned");
-                BufferedImage itemImg = SpriteLibrary.getInstance().getSprite(spriteName);
+                int itemSize = (int) (cloudSize * 0.55);
+                BufferedImage itemImg = SpriteLibrary.getInstance().getScaledSprite(spriteName, screenSize(itemSize), hiDpiScale);
 
                 if (itemImg != null) {
-                    int itemSize = (int) (cloudSize * 0.55);
                     int itemX = cloudX + (cloudSize - itemSize) / 2;
                     int itemY = cloudY + (cloudSize - itemSize) / 2;
-                    g2d.drawImage(itemImg, itemX, itemY - 3, itemSize, itemSize, null);
+                    blit(g2d, itemImg, itemX, itemY - 3);
                 }
             }
         }
     }
 
 
+    private double lerp(double prev, double current) {
+        return prev + (current - prev) * alpha;
+    }
+
+    // Ukuran logical di layar untuk ukuran world (px tile 60) pada skala saat ini
+    private int screenSize(int worldSize) {
+        return Math.max(1, (int) Math.round(worldSize * scale));
+    }
+
+    // Gambar sprite pre-scaled tanpa transform (tidak di-resample lagi); posisi dalam koordinat world
+    private void blit(Graphics2D g2d, BufferedImage img, int x, int y) {
+        int dx = (int) Math.round(worldTransform.getScaleX() * x + worldTransform.getTranslateX());
+        int dy = (int) Math.round(worldTransform.getScaleY() * y + worldTransform.getTranslateY());
+        g2d.setTransform(IDENTITY);
+        g2d.drawImage(img, dx, dy, null);
+        g2d.setTransform(worldTransform);
+    }
+
     private void drawAllNotifications(Graphics2D g2d) {
         for (NotificationRequest req : notificationQueue) {
             drawCookedNotification(g2d, req.x, req.y, req.device);            
         }
     }
 
-    @Override public void update() { repaint(); }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -12,8 +11,6 @@ import java.awt.Image;
 import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.Window;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 
 import javax.swing.JButton;
@@ -39,8 +36,8 @@ public class HUDPanel extends JPanel implements Observer {
     public HUDPanel(GameEngine engine, Runnable onExitClicked) {
         this.engine = engine;
 
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 20f);
-        this.pixelFontSmall = loadPixelFont("/resources/fonts/PressStart2P.ttf", 15f);
+        this.pixelFont = FontRegistry.pixel(20f);
+        this.pixelFontSmall = FontRegistry.pixel(15f);
 
         this.setBackground(new Color(30, 30, 30));
         this.setLayout(null); 
@@ -87,16 +84,6 @@ public class HUDPanel extends JPanel implements Observer {
         }
     }
 
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (FontFormatException | IOException e) {
-            return new Font("Monospaced", Font.BOLD, (int)size);
-        }
-    }
 
     private JButton createPixelButton(String text, Color baseColor) {
         JButton btn = new JButton(text) {
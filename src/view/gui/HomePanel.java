@@ -6,7 +6,6 @@ import java.awt.Component;
 import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -15,8 +14,6 @@ import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.Window;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 
 import javax.swing.Box;
 import javax.swing.BoxLayout;
@@ -30,8 +27,9 @@ import javax.swing.SwingUtilities;
 import javax.swing.Timer; // Import Timer Swing
 
 public class HomePanel extends JPanel {
-    private final BufferedImage backgroundImage;
+    private BufferedImage backgroundImage;   // null sampai loader selesai men-decode
     private Font pixelFont;
+    private final Font loadingFont;
 
     // --- ANIMATION VARIABLES ---
     private Timer animationTimer;
@@ -40,7 +38,8 @@ public class HomePanel extends JPanel {
     public HomePanel(Runnable onStartSingle, Runnable onStartMulti) {
         this.backgroundImage = AssetManager.getInstance().getMenuBackground();
         // Load font pixel
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 22.5f);
+        this.pixelFont = FontRegistry.pixel(22.5f);
+        this.loadingFont = FontRegistry.pixel(10f);
 
         animationTimer = new Timer(16, e -> {
             animationTime += 0.02f; 
@@ -103,16 +102,6 @@ public class HomePanel extends JPanel {
         parent.add(btn);
     }
 
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (FontFormatException | IOException e) {
-            return new Font("Monospaced", Font.BOLD, (int)size);
-        }
-    }
 
     private JButton createStyledButton(String text, Color baseColor, int index) {
         JButton btn = new JButton(text) {
@@ -197,12 +186,24 @@ public class HomePanel extends JPanel {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
 
+        AssetManager assets = AssetManager.getInstance();
+        if (backgroundImage == null) backgroundImage = assets.getMenuBackground();
+
         if (backgroundImage != null) {
             g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
         } else {
             g2d.setColor(new Color(30, 30, 30));
             g2d.fillRect(0, 0, getWidth(), getHeight());
         }
+
+        // Menu tampil duluan; progres asset yang masih dimuat di pojok kiri bawah
+        if (!assets.isReady()) {
+            g2d.setFont(loadingFont);
+            g2d.setColor(Color.WHITE);
+            g2d.drawString("LOADING " + (int) (assets.getLoadProgress() * 100) + "%", 20, getHeight() - 20);
+        }
+
+        StartupMetrics.firstFrame("HomePanel");
     }
 
     private void showModelessDialog(String title, String content) {
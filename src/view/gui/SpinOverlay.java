@@ -3,13 +3,10 @@ package view.gui;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
-import java.io.IOException;
-import java.io.InputStream;
 
 import model.engine.EffectManager.EffectType;
 
@@ -37,21 +34,11 @@ public class SpinOverlay {
 
     public SpinOverlay() {
         // Load Fonts di Constructor
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 12f);
-        this.pixelFontLarge = loadPixelFont("/resources/fonts/PressStart2P.ttf", 20f);
-        this.pixelFontSmall = loadPixelFont("/resources/fonts/PressStart2P.ttf", 8f);
+        this.pixelFont = FontRegistry.pixel(12f);
+        this.pixelFontLarge = FontRegistry.pixel(20f);
+        this.pixelFontSmall = FontRegistry.pixel(8f);
     }
 
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (FontFormatException | IOException e) {
-            return new Font("Monospaced", Font.BOLD, (int)size);
-        }
-    }
 
     public void start(EffectType target, Runnable onFinish) {
         this.active = true;
@@ -1,7 +1,13 @@
 package view.gui;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class SpriteLibrary {
@@ -9,6 +15,18 @@ public class SpriteLibrary {
     private final AssetManager assets;
     private final Map<String, BufferedImage> cache = new HashMap<>();
 
+    // Salinan sprite yang sudah di-scale ke ukuran layar, dalam format compatible (bisa diakselerasi Java2D).
+    // Subimage dari sprite sheet berbagi raster sheet sehingga tidak bisa di-cache di VRAM dan di-scale ulang tiap frame.
+    private static final int MAX_SCALED = 512;
+    private record ScaledKey(String id, int pixelSize, double hiDpiScale) {}
+    private final Map<ScaledKey, BufferedImage> scaledCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ScaledKey, BufferedImage> eldest) {
+            return size() > MAX_SCALED;
+        }
+    };
+    private GraphicsConfiguration gc;
+
     private SpriteLibrary() {
         this.assets = AssetManager.getInstance();
     }
@@ -117,8 +135,70 @@ public class SpriteLibrary {
         return img;
     }
 
+    // pixelSize = ukuran di layar (logical px), hiDpiScale = skala device (mis. 2.0 di layar Retina)
+    public BufferedImage getScaledSprite(String name, int pixelSize, double hiDpiScale) {
+        if (name == null) return null;
+        String key = name.toLowerCase().trim();
+        ScaledKey sk = new ScaledKey(key, pixelSize, hiDpiScale);
+        BufferedImage img = scaledCache.get(sk);
+        if (img != null) return img;
+
+        BufferedImage source = getSprite(key);
+        if (source == null) return null;
+        img = createScaled(source, pixelSize, hiDpiScale);
+        scaledCache.put(sk, img);
+        return img;
+    }
+
+    public BufferedImage getScaledChefSprite(int chefId, String direction, int animationStep, int pixelSize, double hiDpiScale) {
+        int row = chefRow(chefId);
+        int col = chefColumn(direction, animationStep);
+        ScaledKey sk = new ScaledKey("chef_" + row + "_" + col, pixelSize, hiDpiScale);
+        BufferedImage img = scaledCache.get(sk);
+        if (img != null) return img;
+
+        BufferedImage source = assets.getSprite(col, row);
+        if (source == null) return null;
+        img = createScaled(source, pixelSize, hiDpiScale);
+        scaledCache.put(sk, img);
+        return img;
+    }
+
+    // Dipanggil saat ukuran window/skala berubah: ukuran lama tidak akan dipakai lagi
+    public void invalidateScaled() {
+        scaledCache.clear();
+    }
+
+    private BufferedImage createScaled(BufferedImage source, int pixelSize, double hiDpiScale) {
+        int size = Math.max(1, (int) Math.round(pixelSize * hiDpiScale));
+        GraphicsConfiguration config = graphicsConfiguration();
+        BufferedImage img = (config != null)
+                ? config.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(source, 0, 0, size, size, null);
+        g.dispose();
+        return img;
+    }
+
+    private GraphicsConfiguration graphicsConfiguration() {
+        if (gc == null && !GraphicsEnvironment.isHeadless()) {
+            gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        return gc;
+    }
+
     public BufferedImage getChefSprite(int chefId, String direction, boolean hasItem, boolean busy, int animationStep) {
-        int row = (chefId == 0) ? 5 : 6; 
+        return assets.getSprite(chefColumn(direction, animationStep), chefRow(chefId));
+    }
+
+    private int chefRow(int chefId) {
+        return (chefId == 0) ? 5 : 6;
+    }
+
+    private int chefColumn(String direction, int animationStep) {
         int col;
 
         //FRAME ANIMASI
@@ -149,6 +229,6 @@ public class SpriteLibrary {
             col = animDown[stepIndex];
         }
 
-        return assets.getSprite(col, row);
+        return col;
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import java.awt.Component;
 import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -15,11 +14,8 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.function.Consumer;
 
-import javax.imageio.ImageIO;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
@@ -39,9 +35,9 @@ public class StageSelectPanel extends JPanel {
 
     public StageSelectPanel(int unlockedLevel, Consumer<GameConfig> onStageSelected, Runnable onBack) {
         // 1. Load Font & Background
-        this.pixelFont = loadPixelFont("/resources/fonts/PressStart2P.ttf", 17f);
-        this.pixelFontSmall = loadPixelFont("/resources/fonts/PressStart2P.ttf", 13f);
-        loadBackground();
+        this.pixelFont = FontRegistry.pixel(17f);
+        this.pixelFontSmall = FontRegistry.pixel(13f);
+        this.backgroundImage = AssetManager.getInstance().getImage("SelectStageBackground.png");
 
         animationTimer = new Timer(16, e -> {
             animationTime += 0.02f;
@@ -110,30 +106,6 @@ public class StageSelectPanel extends JPanel {
         }
     }
 
-    private Font loadPixelFont(String path, float size) {
-        try {
-            InputStream is = getClass().getResourceAsStream(path);
-            if (is == null) return new Font("Monospaced", Font.BOLD, (int)size);
-            Font font = Font.createFont(Font.TRUETYPE_FONT, is);
-            return font.deriveFont(size);
-        } catch (FontFormatException | IOException e) {
-            return new Font("Monospaced", Font.BOLD, (int)size);
-        }
-    }
-
-    private void loadBackground() {
-        try {
-            java.net.URL url = getClass().getResource("/resources/SelectStageBackground.png");
-            if (url == null) url = getClass().getResource("/SelectStageBackground.png");
-
-            if (url != null) {
-                this.backgroundImage = ImageIO.read(url);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
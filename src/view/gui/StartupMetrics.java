@@ -0,0 +1,25 @@
+package view.gui;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Waktu startup relatif terhadap main(): frame pertama yang tampil dan selesainya loading asset
+public final class StartupMetrics {
+    private static final long START_NANOS = System.nanoTime();
+    private static final AtomicBoolean firstFrameLogged = new AtomicBoolean(false);
+
+    private StartupMetrics() {}
+
+    // Dipanggil paling awal di main() supaya titik nol diambil di sana
+    public static void begin() {}
+
+    public static long elapsedMillis() {
+        return (System.nanoTime() - START_NANOS) / 1_000_000L;
+    }
+
+    // Hanya frame pertama yang dicatat, dari panel mana pun yang lebih dulu tampil
+    public static void firstFrame(String screen) {
+        if (firstFrameLogged.compareAndSet(false, true)) {
+            System.out.println("⏱ Time-to-first-frame (" + screen + "): " + elapsedMillis() + " ms");
+        }
+    }
+}